@@ -0,0 +1,63 @@
+package dev.naiarievilo.todoapp.jackson;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dev.naiarievilo.todoapp.todolists.todos.dtos.TodoDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringSanitizationDeserializerBenchmark {
+
+    private static final TypeReference<List<TodoDTO>> TODOS_TYPE = new TypeReference<>() {};
+
+    @Param({"10", "1000", "10000"})
+    private int todos;
+
+    private ObjectReader sanitizingReader;
+    private ObjectReader plainReader;
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ObjectMapper sanitizingMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new JacksonConfiguration().stringSanitizationModule());
+        ObjectMapper plainMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+        sanitizingReader = sanitizingMapper.readerFor(TODOS_TYPE);
+        plainReader = plainMapper.readerFor(TODOS_TYPE);
+
+        // One in ten tasks carries markup that has to be stripped, the rest are plain text
+        TodoDTO[] todosDTO = new TodoDTO[todos];
+        LocalDate dueDate = LocalDate.now();
+        for (int i = 0; i < todos; i++) {
+            String task = i % 10 == 0
+                ? "<b>Todo</b> task <script>alert(" + i + ")</script>"
+                : "Todo task " + i;
+            todosDTO[i] = new TodoDTO(task, false, i + 1, dueDate);
+        }
+        payload = plainMapper.writeValueAsBytes(todosDTO);
+    }
+
+    @Benchmark
+    public List<TodoDTO> sanitizing() throws IOException {
+        return sanitizingReader.readValue(payload);
+    }
+
+    @Benchmark
+    public List<TodoDTO> baseline() throws IOException {
+        return plainReader.readValue(payload);
+    }
+}
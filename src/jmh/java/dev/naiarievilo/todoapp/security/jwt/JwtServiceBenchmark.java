@@ -0,0 +1,51 @@
+package dev.naiarievilo.todoapp.security.jwt;
+
+import dev.naiarievilo.todoapp.users.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static dev.naiarievilo.todoapp.security.jwt.JwtTokens.ACCESS_TOKEN;
+import static dev.naiarievilo.todoapp.security.jwt.TokenTypes.USER_ACCESS;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private VerifiedTokenCache verifiedTokenCache;
+    private User user;
+    private String accessToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtService = new JwtService("benchmarkSecret", "todoapp");
+        verifiedTokenCache = new VerifiedTokenCache(
+            jwtService, new VerifiedTokenCacheProperties(10_000), new SimpleMeterRegistry()
+        );
+        user = new User();
+        user.setId(1L);
+        accessToken = jwtService.createToken(user, ACCESS_TOKEN);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtService.createToken(user, ACCESS_TOKEN);
+    }
+
+    @Benchmark
+    public Object verifyToken() {
+        return jwtService.verifyToken(accessToken, USER_ACCESS);
+    }
+
+    // Copies the token, as each request reads its own header, so the hash is computed on every lookup
+    @Benchmark
+    public Object verifyCachedToken() {
+        return verifiedTokenCache.verify(new String(accessToken), USER_ACCESS);
+    }
+}
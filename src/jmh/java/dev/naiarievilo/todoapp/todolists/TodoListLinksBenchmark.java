@@ -0,0 +1,57 @@
+package dev.naiarievilo.todoapp.todolists;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.hateoas.Link;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TodoListLinksBenchmark {
+
+    private static final Long USER_ID = 1L;
+    private static final Long LIST_ID = 1L;
+
+    @Param({"10", "1000", "10000"})
+    private int todos;
+
+    private TodoListLinks links;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        // Each iteration starts from a fresh request, as every HTTP response does
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        links = new TodoListLinks();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public void webMvcLinkBuilder(Blackhole blackhole) {
+        for (long todoId = 1; todoId <= todos; todoId++) {
+            blackhole.consume(
+                linkTo(methodOn(TodoListController.class).getTodoFromList(USER_ID, LIST_ID, todoId)).withSelfRel());
+        }
+    }
+
+    @Benchmark
+    public void linkTemplates(Blackhole blackhole) {
+        for (long todoId = 1; todoId <= todos; todoId++) {
+            blackhole.consume(Link.of(links.todo(USER_ID, LIST_ID, todoId)));
+        }
+    }
+}
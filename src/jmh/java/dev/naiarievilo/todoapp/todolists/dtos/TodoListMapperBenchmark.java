@@ -0,0 +1,100 @@
+package dev.naiarievilo.todoapp.todolists.dtos;
+
+import dev.naiarievilo.todoapp.todolists.ListTypes;
+import dev.naiarievilo.todoapp.todolists.TodoList;
+import dev.naiarievilo.todoapp.todolists.TodoListLinks;
+import dev.naiarievilo.todoapp.todolists.todos.Todo;
+import dev.naiarievilo.todoapp.todolists.todos.dtos.TodoMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static dev.naiarievilo.todoapp.todolists.ListTypes.CALENDAR;
+import static dev.naiarievilo.todoapp.todolists.ListTypes.INBOX;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TodoListMapperBenchmark {
+
+    private static final Long USER_ID = 1L;
+    private static final int DAYS_IN_WEEK = 7;
+
+    @Param({"10", "1000", "10000"})
+    private int todos;
+
+    private TodoListMapper listMapper;
+    private TodoList inboxList;
+    private Set<TodoList> weekLists;
+
+    @Setup(Level.Trial)
+    public void setUpData() {
+        TodoListLinks links = new TodoListLinks();
+        listMapper = new TodoListMapper(new TodoMapper(links), links);
+
+        inboxList = list(1L, INBOX, null);
+        for (long todoId = 1; todoId <= todos; todoId++) {
+            inboxList.addTodo(todo(todoId));
+        }
+
+        // Spreads the same number of to-dos over the week, as returned by `GET /todolists/week`
+        weekLists = new LinkedHashSet<>();
+        LocalDate today = LocalDate.now();
+        long todoId = 1;
+        for (int day = 0; day < DAYS_IN_WEEK; day++) {
+            TodoList calendarList = list(day + 2L, CALENDAR, today.plusDays(day));
+            for (int i = day; i < todos; i += DAYS_IN_WEEK) {
+                calendarList.addTodo(todo(todoId++));
+            }
+            weekLists.add(calendarList);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void bindRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @TearDown(Level.Iteration)
+    public void resetRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private static TodoList list(Long listId, ListTypes type, LocalDate dueDate) {
+        TodoList list = new TodoList();
+        list.setId(listId);
+        list.setTitle(type.toString());
+        list.setType(type);
+        list.setDueDate(dueDate);
+        return list;
+    }
+
+    private static Todo todo(long todoId) {
+        Todo todo = new Todo();
+        todo.setId(todoId);
+        todo.setTask("Todo task " + todoId);
+        todo.setSortKey(todoId << 16);
+        todo.setCompleted(todoId % 3 == 0);
+        return todo;
+    }
+
+    @Benchmark
+    public TodoListDTO toModel() {
+        return listMapper.toModel(inboxList, USER_ID);
+    }
+
+    @Benchmark
+    public CollectionModel<TodoListDTO> toModels() {
+        return listMapper.toModels(weekLists, USER_ID);
+    }
+}
@@ -0,0 +1,40 @@
+package dev.naiarievilo.todoapp.todolists.jpa;
+
+import dev.naiarievilo.todoapp.todolists.ListTypes;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListTypesConverterBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int rows;
+
+    private ListTypesConverter converter;
+    private String[] columns;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        converter = new ListTypesConverter();
+        ListTypes[] types = ListTypes.values();
+        columns = new String[rows];
+        for (int i = 0; i < rows; i++) {
+            // Fresh strings, as read from a result set, so equals() cannot short-circuit on identity
+            columns[i] = new String(types[i % types.length].getType());
+        }
+    }
+
+    @Benchmark
+    public void convertToEntityAttribute(Blackhole blackhole) {
+        for (String column : columns) {
+            blackhole.consume(converter.convertToEntityAttribute(column));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package dev.naiarievilo.todoapp.todolists.todos.dtos;
+
+import dev.naiarievilo.todoapp.todolists.TodoListLinks;
+import dev.naiarievilo.todoapp.todolists.todos.Todo;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TodoMapperBenchmark {
+
+    private static final Long USER_ID = 1L;
+    private static final Long LIST_ID = 1L;
+
+    @Param({"10", "1000", "10000"})
+    private int todos;
+
+    private TodoMapper todoMapper;
+    private List<Todo> todoList;
+
+    @Setup(Level.Trial)
+    public void setUpData() {
+        todoMapper = new TodoMapper(new TodoListLinks());
+        todoList = new ArrayList<>(todos);
+        for (long todoId = 1; todoId <= todos; todoId++) {
+            Todo todo = new Todo();
+            todo.setId(todoId);
+            todo.setTask("Todo task " + todoId);
+            todo.setSortKey(todoId << 16);
+            todo.setCompleted(todoId % 3 == 0);
+            todoList.add(todo);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void bindRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @TearDown(Level.Iteration)
+    public void resetRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public CollectionModel<TodoDTO> toModels() {
+        return todoMapper.toModels(todoList, USER_ID, LIST_ID);
+    }
+}
@@ -0,0 +1,42 @@
+package dev.naiarievilo.todoapp.validation;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorsBenchmark {
+
+    @State(Scope.Thread)
+    public static class EmailState {
+
+        private final EmailValidator validator = new EmailValidator();
+
+        @Param({"john.doe@example.com", "a.very.long.local.part.with.many.dots+tag@subdomain.mail.example.co.uk"})
+        private String email;
+    }
+
+    @State(Scope.Thread)
+    public static class PasswordState {
+
+        private final PasswordValidator validator = new PasswordValidator();
+
+        @Param({"Password123!@#$", "Aa1!Aa1!Aa1!Aa1!Aa1!Aa1!Aa1!Aa1!Aa1!Aa1!Aa1!Aa1!Aa1!Aa1!Aa1!Aa1!Aa1!Aa1!"})
+        private String password;
+    }
+
+    // Valid inputs never touch the constraint context, so none is needed
+    @Benchmark
+    public boolean emailIsValid(EmailState state) {
+        return state.validator.isValid(state.email, null);
+    }
+
+    @Benchmark
+    public boolean passwordIsValid(PasswordState state) {
+        return state.validator.isValid(state.password, null);
+    }
+}
@@ -2,11 +2,14 @@ package dev.naiarievilo.todoapp;
 
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import dev.naiarievilo.todoapp.security.ErrorDetails;
+import dev.naiarievilo.todoapp.security.exceptions.PasswordHashingUnavailableException;
 import dev.naiarievilo.todoapp.security.exceptions.UnauthorizedDataAccessException;
 import dev.naiarievilo.todoapp.validation.ValidationMessages;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
@@ -27,6 +30,8 @@ import static dev.naiarievilo.todoapp.validation.ValidationMessages.NOT_VALID;
 @Order(Ordered.HIGHEST_PRECEDENCE)
 public class GlobalControllerAdvice {
 
+    private static final String PASSWORD_HASHING_RETRY_AFTER_SECONDS = "1";
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorDetails handleMethodArgumentNotValidException(MethodArgumentNotValidException e) {
@@ -76,6 +81,15 @@ public class GlobalControllerAdvice {
         return new ErrorDetails(HttpStatus.UNAUTHORIZED, JWT_NOT_VALID_OR_COULD_NOT_BE_PROCESSED);
     }
 
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<ErrorDetails> handlePasswordHashingUnavailableException(
+        PasswordHashingUnavailableException e
+    ) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, PASSWORD_HASHING_RETRY_AFTER_SECONDS)
+            .body(new ErrorDetails(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage()));
+    }
+
     @ExceptionHandler(UnauthorizedDataAccessException.class)
     @ResponseStatus(HttpStatus.UNAUTHORIZED)
     public ErrorDetails handleUnauthorizedDataAccessException(UnauthorizedDataAccessException e) {
@@ -0,0 +1,11 @@
+package dev.naiarievilo.todoapp.events;
+
+/**
+ * Marks application events that every node must see. When one is published inside a transaction, the
+ * {@link ClusterEventBus} relays it as JSON to the other nodes once the transaction commits; there, it is published
+ * again outside of any transaction. Listeners should therefore use
+ * {@code @TransactionalEventListener(fallbackExecution = true)}. Postgres limits a notification to 8000 bytes, so
+ * events should only identify what changed.
+ */
+public interface ClusterEvent {
+}
@@ -0,0 +1,162 @@
+package dev.naiarievilo.todoapp.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.ClassUtils;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+/**
+ * Relays {@link ClusterEvent}s between the nodes sharing the database through Postgres' {@code NOTIFY}, so that caches
+ * and notification streams kept in memory stay coherent without a message broker. Each node listens on a dedicated
+ * connection, outside of the pool, and publishes the events of the other nodes on its own application context.
+ * <p>
+ * Notifications are not stored: events sent while a node is reconnecting are lost to it. The caches relying on them
+ * expire on their own, and push clients are expected to catch up through the changes endpoint.
+ */
+@Component
+public class ClusterEventBus implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterEventBus.class);
+
+    private final String origin = UUID.randomUUID().toString();
+    private final ApplicationEventPublisher eventPublisher;
+    private final ClusterEventProperties properties;
+    private final JdbcConnectionDetails connectionDetails;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private volatile boolean running;
+    @Nullable
+    private Thread listenerThread;
+
+    public ClusterEventBus(
+        ApplicationEventPublisher eventPublisher,
+        ClusterEventProperties properties,
+        JdbcConnectionDetails connectionDetails,
+        JdbcTemplate jdbcTemplate,
+        ObjectMapper objectMapper
+    ) {
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.connectionDetails = connectionDetails;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    String getOrigin() { return origin; }
+
+    // NOTIFY goes through the transaction's own connection, so Postgres only delivers it if the transaction commits
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void relay(ClusterEvent event) {
+        String message;
+        try {
+            message = objectMapper.writeValueAsString(
+                new EventMessage(origin, event.getClass().getName(), objectMapper.valueToTree(event))
+            );
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize " + event.getClass().getSimpleName(), e);
+        }
+
+        jdbcTemplate.queryForObject("SELECT count(pg_notify(?, ?))", Long.class, properties.channel(), message);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        listenerThread = new Thread(this::listen, "cluster-event-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listenerThread == null) {
+            return;
+        }
+
+        listenerThread.interrupt();
+        try {
+            listenerThread.join(properties.pollTimeout().multipliedBy(2).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                connectionDetails.getJdbcUrl(), connectionDetails.getUsername(), connectionDetails.getPassword()
+            )) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN \"" + properties.channel() + "\"");
+                }
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                int timeout = (int) properties.pollTimeout().toMillis();
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(timeout);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+
+                logger.warn("Cluster event listener lost its connection, reconnecting in {}",
+                    properties.reconnectDelay(), e);
+                try {
+                    Thread.sleep(properties.reconnectDelay().toMillis());
+                } catch (InterruptedException ie) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void dispatch(String message) {
+        try {
+            EventMessage eventMessage = objectMapper.readValue(message, EventMessage.class);
+            if (origin.equals(eventMessage.origin())) {
+                return;
+            }
+
+            Class<?> type = ClassUtils.forName(eventMessage.type(), ClusterEventBus.class.getClassLoader());
+            if (!ClusterEvent.class.isAssignableFrom(type)) {
+                logger.warn("Ignoring cluster event of unexpected type {}", eventMessage.type());
+                return;
+            }
+
+            eventPublisher.publishEvent(objectMapper.treeToValue(eventMessage.payload(), type));
+        } catch (JsonProcessingException | ClassNotFoundException e) {
+            logger.warn("Ignoring malformed cluster event {}", message, e);
+        } catch (RuntimeException e) {
+            logger.error("Failed to dispatch cluster event {}", message, e);
+        }
+    }
+}
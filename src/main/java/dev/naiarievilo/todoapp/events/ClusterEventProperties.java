@@ -0,0 +1,12 @@
+package dev.naiarievilo.todoapp.events;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties("events")
+public record ClusterEventProperties(
+    String channel,
+    Duration pollTimeout,
+    Duration reconnectDelay
+) { }
@@ -0,0 +1,11 @@
+package dev.naiarievilo.todoapp.events;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+
+record EventMessage(
+    @JsonProperty("origin") String origin,
+    @JsonProperty("type") String type,
+    @JsonProperty("payload") JsonNode payload
+) {
+}
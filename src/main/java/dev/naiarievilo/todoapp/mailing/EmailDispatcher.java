@@ -0,0 +1,120 @@
+package dev.naiarievilo.todoapp.mailing;
+
+import dev.naiarievilo.todoapp.users.User;
+import dev.naiarievilo.todoapp.users.UserService;
+import dev.naiarievilo.todoapp.users.exceptions.UserNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Sends the emails queued in the outbox. Due emails are claimed in batches and sent by a fixed number of threads, so
+ * a slow mail server delays emails but never requests. Failed emails are retried with exponential backoff, up to a
+ * maximum number of attempts.
+ */
+@Component
+public class EmailDispatcher implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailDispatcher.class);
+
+    private final EmailService emailService;
+    private final OutboxEmailRepository outboxRepository;
+    private final EmailOutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final UserService userService;
+    private final ThreadPoolTaskExecutor sendExecutor;
+    private final Semaphore unsentEmails;
+
+    public EmailDispatcher(
+        EmailService emailService,
+        OutboxEmailRepository outboxRepository,
+        EmailOutboxProperties properties,
+        TransactionTemplate transactionTemplate,
+        UserService userService
+    ) {
+        this.emailService = emailService;
+        this.outboxRepository = outboxRepository;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+        this.userService = userService;
+        this.unsentEmails = new Semaphore(properties.batchSize());
+
+        // Not a bean, as any executor bean would replace the application task executor
+        this.sendExecutor = new ThreadPoolTaskExecutor();
+        sendExecutor.setCorePoolSize(properties.concurrency());
+        sendExecutor.setMaxPoolSize(properties.concurrency());
+        sendExecutor.setThreadNamePrefix("email-dispatcher-");
+        sendExecutor.initialize();
+    }
+
+    // Only claims as many emails as there is room for, so the scheduler thread never waits on the mail server
+    @Scheduled(fixedDelayString = "${mailing.outbox.poll-interval}")
+    public void dispatch() {
+        int room = unsentEmails.availablePermits();
+        if (room == 0) {
+            return;
+        }
+
+        for (OutboxEmail email : claim(room)) {
+            unsentEmails.acquireUninterruptibly();
+            sendExecutor.execute(() -> {
+                try {
+                    send(email);
+                } finally {
+                    unsentEmails.release();
+                }
+            });
+        }
+    }
+
+    // Claimed emails are pushed past the claim timeout, so other nodes leave them alone while they are being sent,
+    // and they are picked up again if this node stops before sending them
+    private List<OutboxEmail> claim(int limit) {
+        List<OutboxEmail> claimed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEmail> due = outboxRepository.findAllDueForUpdate(now, limit);
+            due.forEach(email -> email.setNextAttemptAt(now.plus(properties.claimTimeout())));
+            return due;
+        });
+
+        return claimed == null ? List.of() : claimed;
+    }
+
+    void send(OutboxEmail email) {
+        try {
+            User user = userService.getUserById(email.getUserId());
+            emailService.send(email.getType(), user);
+            outboxRepository.dequeue(email.getId());
+        } catch (UserNotFoundException e) {
+            outboxRepository.dequeue(email.getId());
+        } catch (RuntimeException e) {
+            int attempts = email.getAttempts() + 1;
+            if (attempts >= properties.maxAttempts()) {
+                logger.error("Dropping {} email {} after {} attempts", email.getType(), email.getId(), attempts, e);
+                outboxRepository.dequeue(email.getId());
+            } else {
+                logger.warn("Failed to send {} email {}, retrying", email.getType(), email.getId(), e);
+                outboxRepository.reschedule(email.getId(), LocalDateTime.now().plus(backoff(attempts)));
+            }
+        }
+    }
+
+    Duration backoff(int attempts) {
+        Duration backoff = properties.initialBackoff().multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(properties.maxBackoff()) > 0 ? properties.maxBackoff() : backoff;
+    }
+
+    @Override
+    public void destroy() {
+        sendExecutor.shutdown();
+    }
+}
@@ -0,0 +1,29 @@
+package dev.naiarievilo.todoapp.mailing;
+
+import dev.naiarievilo.todoapp.users.User;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Queues emails for the {@link EmailDispatcher}. Queuing joins the caller's transaction, so an email is only sent if
+ * the change that triggered it commits, and requests never wait on the mail server.
+ */
+@Service
+public class EmailOutbox {
+
+    private final OutboxEmailRepository outboxRepository;
+
+    public EmailOutbox(OutboxEmailRepository outboxRepository) {
+        this.outboxRepository = outboxRepository;
+    }
+
+    @Transactional
+    public void enqueue(User user, EmailType type) {
+        enqueue(user.getId(), type);
+    }
+
+    @Transactional
+    public void enqueue(Long userId, EmailType type) {
+        outboxRepository.persist(new OutboxEmail(userId, type));
+    }
+}
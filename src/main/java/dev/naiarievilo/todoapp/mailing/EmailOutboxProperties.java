@@ -0,0 +1,16 @@
+package dev.naiarievilo.todoapp.mailing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties("mailing.outbox")
+public record EmailOutboxProperties(
+    Duration pollInterval,
+    int batchSize,
+    int concurrency,
+    int maxAttempts,
+    Duration initialBackoff,
+    Duration maxBackoff,
+    Duration claimTimeout
+) { }
@@ -4,12 +4,9 @@ import dev.naiarievilo.todoapp.security.jwt.JwtService;
 import dev.naiarievilo.todoapp.users.User;
 import dev.naiarievilo.todoapp.users.info.UserInfo;
 import dev.naiarievilo.todoapp.users.info.UserInfoService;
-import jakarta.mail.MessagingException;
 import org.springframework.mail.MailException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.retry.annotation.Recover;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.thymeleaf.context.Context;
 import org.thymeleaf.spring6.SpringTemplateEngine;
@@ -21,8 +18,11 @@ import java.util.Map;
 import static dev.naiarievilo.todoapp.mailing.MailingConfiguration.UTF_8;
 import static dev.naiarievilo.todoapp.security.jwt.JwtTokens.*;
 
+/**
+ * Builds emails and hands them to the mail server right away. Requests queue emails through {@link EmailOutbox}
+ * instead, and leave sending them to the {@link EmailDispatcher}.
+ */
 @Service
-@Retryable(retryFor = MailException.class)
 public class EmailService {
 
     private static final String APP_NAME_KEY = "appName";
@@ -52,7 +52,16 @@ public class EmailService {
             mailingConfiguration.getScheme(), mailingConfiguration.getDomain(), mailingConfiguration.getPort());
     }
 
-    public void sendEmailVerificationMessage(User user) throws MailException {
+    public void send(EmailType type, User user) throws MailException {
+        switch (type) {
+            case EMAIL_VERIFICATION -> sendEmailVerificationMessage(user);
+            case UNLOCK_USER -> sendUnlockUserMessage(user);
+            case LOCK_USER -> sendLockUserMessage(user);
+            case ENABLE_USER -> sendEnableUserMessage(user);
+        }
+    }
+
+    private void sendEmailVerificationMessage(User user) throws MailException {
         Long userId = user.getId();
         UserInfo userInfo = userInfoService.getUserInfoById(userId);
 
@@ -78,7 +87,7 @@ public class EmailService {
         });
     }
 
-    public void sendUnlockUserMessage(User user) throws MailException {
+    private void sendUnlockUserMessage(User user) throws MailException {
         Long userId = user.getId();
         UserInfo userInfo = userInfoService.getUserInfoById(userId);
 
@@ -103,7 +112,7 @@ public class EmailService {
         });
     }
 
-    public void sendLockUserMessage(User user) throws MailException {
+    private void sendLockUserMessage(User user) throws MailException {
         UserInfo userInfo = userInfoService.getUserInfoById(user.getId());
 
         Map<String, Object> templateModel = new HashMap<>();
@@ -124,7 +133,7 @@ public class EmailService {
         });
     }
 
-    public void sendEnableUserMessage(User user) throws MailException {
+    private void sendEnableUserMessage(User user) throws MailException {
         Long userId = user.getId();
         UserInfo userInfo = userInfoService.getUserInfoById(user.getId());
 
@@ -148,9 +157,4 @@ public class EmailService {
             helper.setText(htmlBody, true);
         });
     }
-
-    @Recover
-    public void recoverSendMessageFailure(MailException e, User user) throws MessagingException {
-        throw new MessagingException(e.getMessage(), e);
-    }
 }
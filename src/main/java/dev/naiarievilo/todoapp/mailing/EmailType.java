@@ -0,0 +1,8 @@
+package dev.naiarievilo.todoapp.mailing;
+
+public enum EmailType {
+    EMAIL_VERIFICATION,
+    UNLOCK_USER,
+    LOCK_USER,
+    ENABLE_USER
+}
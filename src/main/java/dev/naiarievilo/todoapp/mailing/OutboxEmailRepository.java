@@ -0,0 +1,40 @@
+package dev.naiarievilo.todoapp.mailing;
+
+import io.hypersistence.utils.spring.repository.BaseJpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Transactional(readOnly = true)
+public interface OutboxEmailRepository extends BaseJpaRepository<OutboxEmail, Long> {
+
+    // Rows claimed by another node are skipped instead of waited on, so nodes dispatch disjoint batches
+    @Transactional
+    @Query(value = """
+          SELECT *
+            FROM email_outbox
+           WHERE next_attempt_at <= :now
+        ORDER BY next_attempt_at
+           LIMIT :limit
+             FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<OutboxEmail> findAllDueForUpdate(LocalDateTime now, int limit);
+
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE OutboxEmail AS oe
+           SET oe.attempts = oe.attempts + 1,
+               oe.nextAttemptAt = :nextAttemptAt
+         WHERE oe.id = :id
+        """)
+    void reschedule(Long id, LocalDateTime nextAttemptAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OutboxEmail AS oe WHERE oe.id = :id")
+    void dequeue(Long id);
+}
@@ -0,0 +1,103 @@
+package dev.naiarievilo.todoapp.security;
+
+import dev.naiarievilo.todoapp.security.exceptions.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+
+/**
+ * Runs the hashing of a delegate {@link PasswordEncoder} on a pool of its own. The pool and its queue are bounded, so a
+ * burst of logins cannot take more than the pool's cores: once the queue is full, or a hash waited longer than the
+ * timeout, the request fails right away with a {@link PasswordHashingUnavailableException}.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    public static final String METRIC_PREFIX = "security.password.hashing";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final Timer hashTimer;
+    private final Counter rejections;
+
+    public BoundedPasswordEncoder(
+        PasswordEncoder delegate,
+        PasswordHashingProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.timeout = properties.timeout();
+
+        int threads = properties.threadCount();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(properties.queueCapacity()), new CustomizableThreadFactory("password-hashing-"),
+            new ThreadPoolExecutor.AbortPolicy());
+
+        this.hashTimer = Timer.builder(METRIC_PREFIX)
+            .description("Time spent hashing a password")
+            .register(meterRegistry);
+        this.rejections = Counter.builder(METRIC_PREFIX + ".rejected")
+            .description("Password hashes refused because the pool was saturated")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".queued", executor, pool -> pool.getQueue().size())
+            .description("Password hashes waiting for a thread")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+            .description("Password hashes in progress")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return hash(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return hash(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T hash(Callable<T> task) {
+        Future<T> hash;
+        try {
+            hash = executor.submit(() -> hashTimer.recordCallable(task));
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw new PasswordHashingUnavailableException();
+        }
+
+        try {
+            return hash.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Cancelling drops the hash if it is still queued, so a backlog does not outlive its requests
+            hash.cancel(true);
+            rejections.increment();
+            throw new PasswordHashingUnavailableException();
+        } catch (InterruptedException e) {
+            hash.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
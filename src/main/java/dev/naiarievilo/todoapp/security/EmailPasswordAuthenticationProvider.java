@@ -1,6 +1,6 @@
 package dev.naiarievilo.todoapp.security;
 
-import dev.naiarievilo.todoapp.mailing.EmailService;
+import dev.naiarievilo.todoapp.users.ExpiredUserCleanup;
 import dev.naiarievilo.todoapp.users.User;
 import dev.naiarievilo.todoapp.users.UserService;
 import dev.naiarievilo.todoapp.users.exceptions.UserNotFoundException;
@@ -9,21 +9,25 @@ import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+import static dev.naiarievilo.todoapp.security.LoginAttemptTracker.MAX_LOGIN_ATTEMPTS_ALLOWED;
 
 public class EmailPasswordAuthenticationProvider implements AuthenticationProvider {
 
     public static final String BAD_CREDENTIALS = "Incorrect email and/or password";
     private static final BadCredentialsException BAD_CREDENTIALS_EXCEPTION =
         new BadCredentialsException(BAD_CREDENTIALS);
-    private static final int MAX_LOGIN_ATTEMPTS_ALLOWED = 10;
 
-    private final EmailService emailService;
+    private final ExpiredUserCleanup expiredUserCleanup;
+    private final LoginAttemptTracker loginAttemptTracker;
     private final UserService userService;
     private final PasswordEncoder passwordEncoder;
 
-    public EmailPasswordAuthenticationProvider(UserService userService, EmailService emailService,
-        PasswordEncoder passwordEncoder) {
-        this.emailService = emailService;
+    public EmailPasswordAuthenticationProvider(UserService userService, ExpiredUserCleanup expiredUserCleanup,
+        LoginAttemptTracker loginAttemptTracker, PasswordEncoder passwordEncoder) {
+        this.expiredUserCleanup = expiredUserCleanup;
+        this.loginAttemptTracker = loginAttemptTracker;
         this.userService = userService;
         this.passwordEncoder = passwordEncoder;
     }
@@ -32,6 +36,13 @@ public class EmailPasswordAuthenticationProvider implements AuthenticationProvid
     public Authentication authenticate(Authentication authentication) throws AuthenticationException {
         var email = (String) authentication.getPrincipal();
         var password = (String) authentication.getCredentials();
+        String clientIp = authentication.getDetails() instanceof WebAuthenticationDetails details
+            ? details.getRemoteAddress()
+            : null;
+
+        if (clientIp != null && loginAttemptTracker.isIpBlocked(clientIp)) {
+            throw BAD_CREDENTIALS_EXCEPTION;
+        }
 
         User user;
         try {
@@ -41,23 +52,22 @@ public class EmailPasswordAuthenticationProvider implements AuthenticationProvid
         }
 
         if (userService.isUserExpired(user)) {
-            userService.deleteUser(user.getId());
+            expiredUserCleanup.enqueue(user.getId());
             throw BAD_CREDENTIALS_EXCEPTION;
 
         } else if (userService.isUserInactive(user)) {
             throw BAD_CREDENTIALS_EXCEPTION;
 
         } else if (user.getLoginAttempts() >= MAX_LOGIN_ATTEMPTS_ALLOWED) {
-            userService.lockUser(user);
-            emailService.sendLockUserMessage(user);
+            userService.lockUserIfLoginAttemptsReached(user.getId(), MAX_LOGIN_ATTEMPTS_ALLOWED);
             throw BAD_CREDENTIALS_EXCEPTION;
 
         } else if (!passwordEncoder.matches(password, user.getPassword())) {
-            userService.addLoginAttempt(user);
+            loginAttemptTracker.recordFailure(user, clientIp);
             throw BAD_CREDENTIALS_EXCEPTION;
         }
 
-        userService.resetLoginAttempts(user);
+        loginAttemptTracker.recordSuccess(user);
         return new UserAuthenticationToken(user);
     }
 
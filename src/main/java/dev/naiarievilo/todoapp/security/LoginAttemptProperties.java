@@ -0,0 +1,13 @@
+package dev.naiarievilo.todoapp.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties("security.login-attempts")
+public record LoginAttemptProperties(
+    Duration flushInterval,
+    Duration ipWindow,
+    int maxAttemptsPerIp,
+    long maximumTrackedIps
+) { }
@@ -0,0 +1,125 @@
+package dev.naiarievilo.todoapp.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.naiarievilo.todoapp.users.User;
+import dev.naiarievilo.todoapp.users.UserService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts failed logins in memory, by user and by client IP, and writes the counts of each user to the database on an
+ * interval, so a burst of failures costs one update per user instead of one per request. Maps are striped by key,
+ * so requests for different users and IPs do not contend. The failures of an IP are forgotten once it has not failed
+ * for a whole window, and only the most recent IPs are kept, so a spray of addresses cannot grow the map unbounded.
+ * <p>
+ * Once a user's stored attempts plus the pending ones reach the maximum allowed, failures are written right away and
+ * the lock is decided by the database, counting the attempts flushed by every node.
+ */
+@Component
+public class LoginAttemptTracker implements DisposableBean {
+
+    public static final int MAX_LOGIN_ATTEMPTS_ALLOWED = 10;
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginAttemptTracker.class);
+
+    private final Map<Long, PendingLoginAttempts> pendingAttempts = new ConcurrentHashMap<>();
+    private final Set<Long> flushing = ConcurrentHashMap.newKeySet();
+    private final Cache<String, Integer> ipAttempts;
+    private final LoginAttemptProperties properties;
+    private final UserService userService;
+
+    public LoginAttemptTracker(LoginAttemptProperties properties, UserService userService) {
+        this.properties = properties;
+        this.userService = userService;
+        this.ipAttempts = Caffeine.newBuilder()
+            .expireAfterWrite(properties.ipWindow())
+            .maximumSize(properties.maximumTrackedIps())
+            .build();
+    }
+
+    public boolean isIpBlocked(String clientIp) {
+        Integer attempts = ipAttempts.getIfPresent(clientIp);
+        return attempts != null && attempts >= properties.maxAttemptsPerIp();
+    }
+
+    /**
+     * Records a failed login, locking the user once the maximum number of attempts is reached.
+     */
+    public void recordFailure(User user, @Nullable String clientIp) {
+        if (clientIp != null) {
+            ipAttempts.asMap().merge(clientIp, 1, Integer::sum);
+        }
+
+        Long userId = user.getId();
+        PendingLoginAttempts pending = pendingAttempts.merge(
+            userId, PendingLoginAttempts.failure(LocalDateTime.now()), PendingLoginAttempts::add
+        );
+
+        int attempts = pending.reset() ? pending.failures() : user.getLoginAttempts() + pending.failures();
+        if (attempts >= MAX_LOGIN_ATTEMPTS_ALLOWED) {
+            flush(userId);
+        }
+    }
+
+    // A successful login discards the pending failures, and is only written if there is something to reset
+    public void recordSuccess(User user) {
+        Long userId = user.getId();
+        if (user.getLoginAttempts() > 0 || !LocalDate.now().equals(user.getLastLogin())
+            || pendingAttempts.containsKey(userId)) {
+            pendingAttempts.put(userId, PendingLoginAttempts.RESET);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${security.login-attempts.flush-interval}")
+    public void flush() {
+        for (Long userId : pendingAttempts.keySet()) {
+            try {
+                flush(userId);
+            } catch (RuntimeException e) {
+                logger.warn("Failed to write the login attempts of user {}", userId, e);
+            }
+        }
+    }
+
+    // The attempts of a user are taken out of the map before they are written, so recording attempts never waits on
+    // the database. Only one thread writes a user's attempts at a time, until none are left, so they are written in
+    // the order they were recorded. Attempts whose write fails are put back ahead of those recorded since
+    private void flush(Long userId) {
+        while (pendingAttempts.containsKey(userId) && flushing.add(userId)) {
+            try {
+                PendingLoginAttempts pending;
+                while ((pending = pendingAttempts.remove(userId)) != null) {
+                    write(userId, pending);
+                }
+            } finally {
+                flushing.remove(userId);
+            }
+        }
+    }
+
+    private void write(Long userId, PendingLoginAttempts pending) {
+        try {
+            userService.writeLoginAttempts(userId, pending.reset(), pending.failures(), pending.lastFailure(),
+                MAX_LOGIN_ATTEMPTS_ALLOWED);
+        } catch (RuntimeException e) {
+            pendingAttempts.merge(userId, pending, (recorded, unwritten) -> unwritten.then(recorded));
+            throw e;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+    }
+}
@@ -0,0 +1,22 @@
+package dev.naiarievilo.todoapp.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+
+/**
+ * Sizes the pool that hashes passwords. Without an explicit number of threads, the pool takes half of the available
+ * cores, leaving the rest to the other requests.
+ */
+@ConfigurationProperties("security.password-hashing")
+public record PasswordHashingProperties(
+    @Nullable Integer threads,
+    int queueCapacity,
+    Duration timeout
+) {
+
+    public int threadCount() {
+        return threads != null ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+}
@@ -0,0 +1,36 @@
+package dev.naiarievilo.todoapp.security;
+
+import org.springframework.lang.Nullable;
+
+import java.time.LocalDateTime;
+
+/**
+ * The login attempts of a user not yet written to the database. A reset means the user logged in since the last
+ * flush, so only the failures that followed it are kept.
+ */
+record PendingLoginAttempts(
+    int failures,
+    boolean reset,
+    @Nullable LocalDateTime lastFailure
+) {
+
+    static final PendingLoginAttempts RESET = new PendingLoginAttempts(0, true, null);
+
+    static PendingLoginAttempts failure(LocalDateTime failedAt) {
+        return new PendingLoginAttempts(1, false, failedAt);
+    }
+
+    PendingLoginAttempts add(PendingLoginAttempts failure) {
+        return new PendingLoginAttempts(failures + failure.failures(), reset, failure.lastFailure());
+    }
+
+    // These attempts followed by later ones, where a later reset supersedes them as the user logged in after them
+    PendingLoginAttempts then(PendingLoginAttempts later) {
+        if (later.reset()) {
+            return later;
+        }
+
+        LocalDateTime last = later.lastFailure() != null ? later.lastFailure() : lastFailure;
+        return new PendingLoginAttempts(failures + later.failures(), reset, last);
+    }
+}
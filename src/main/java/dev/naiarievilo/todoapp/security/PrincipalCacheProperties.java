@@ -0,0 +1,11 @@
+package dev.naiarievilo.todoapp.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties("security.principal-cache")
+public record PrincipalCacheProperties(
+    Duration ttl,
+    long maximumSize
+) { }
@@ -1,9 +1,11 @@
 package dev.naiarievilo.todoapp.security;
 
-import dev.naiarievilo.todoapp.mailing.EmailService;
 import dev.naiarievilo.todoapp.security.jwt.JwtAuthenticationFilter;
+import dev.naiarievilo.todoapp.security.ratelimit.RateLimitFilter;
+import dev.naiarievilo.todoapp.users.ExpiredUserCleanup;
 import dev.naiarievilo.todoapp.users.User;
 import dev.naiarievilo.todoapp.users.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -41,11 +43,12 @@ public class SecurityConfiguration {
 
     @Bean
     @Profile(DEV_OR_TEST)
-    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtAuthenticationFilter jwtAuthenticationFilter)
-        throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtAuthenticationFilter jwtAuthenticationFilter,
+        RateLimitFilter rateLimitFilter) throws Exception {
 
         http
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
             .authorizeHttpRequests(authorize -> authorize
                 .requestMatchers(
                     "/actuator/**", "/users/authentication", "/users/enable", "/users/unlock",
@@ -115,15 +118,18 @@ public class SecurityConfiguration {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(
+            PasswordEncoderFactories.createDelegatingPasswordEncoder(), properties, meterRegistry
+        );
     }
 
     @Bean
-    public AuthenticationManager authenticationManager(UserService userService, EmailService emailService,
+    public AuthenticationManager authenticationManager(UserService userService,
+        ExpiredUserCleanup expiredUserCleanup, LoginAttemptTracker loginAttemptTracker,
         PasswordEncoder passwordEncoder) {
         var jwtAuthenticationProvider = new EmailPasswordAuthenticationProvider(
-            userService, emailService, passwordEncoder
+            userService, expiredUserCleanup, loginAttemptTracker, passwordEncoder
         );
         return new ProviderManager(jwtAuthenticationProvider);
     }
@@ -5,6 +5,9 @@ import dev.naiarievilo.todoapp.users.UserService;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
 
 public class UserAuthenticationToken extends AbstractAuthenticationToken {
 
@@ -12,7 +15,11 @@ public class UserAuthenticationToken extends AbstractAuthenticationToken {
     private final transient String credentials;
 
     public UserAuthenticationToken(User user) {
-        super(UserService.getRolesFromUser(user));
+        this(user, UserService.getRolesFromUser(user));
+    }
+
+    public UserAuthenticationToken(User user, Collection<? extends GrantedAuthority> authorities) {
+        super(authorities);
         super.setAuthenticated(true);
         this.credentials = user.getPassword();
         this.user = user;
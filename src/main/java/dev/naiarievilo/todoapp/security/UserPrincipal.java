@@ -0,0 +1,47 @@
+package dev.naiarievilo.todoapp.security;
+
+import dev.naiarievilo.todoapp.users.User;
+import dev.naiarievilo.todoapp.users.UserService;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Immutable snapshot of the fields needed to authenticate a request. {@link #toUser()} returns a new detached
+ * {@link User} on every call, without password or roles, so it must be reloaded before being modified.
+ */
+public record UserPrincipal(
+    Long id,
+    String email,
+    boolean enabled,
+    boolean locked,
+    boolean verified,
+    LocalDateTime createdAt,
+    Set<GrantedAuthority> authorities
+) {
+
+    public static UserPrincipal of(User user) {
+        return new UserPrincipal(
+            user.getId(),
+            user.getEmail(),
+            user.isEnabled(),
+            user.isLocked(),
+            user.isVerified(),
+            user.getCreatedAt(),
+            Collections.unmodifiableSet(UserService.getRolesFromUser(user))
+        );
+    }
+
+    public User toUser() {
+        User user = new User();
+        user.setId(id);
+        user.setEmail(email);
+        user.setEnabled(enabled);
+        user.setLocked(locked);
+        user.setVerified(verified);
+        user.setCreatedAt(createdAt);
+        return user;
+    }
+}
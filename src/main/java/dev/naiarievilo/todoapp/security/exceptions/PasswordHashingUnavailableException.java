@@ -0,0 +1,10 @@
+package dev.naiarievilo.todoapp.security.exceptions;
+
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+    private static final String DEFAULT_MESSAGE = "Too many requests are checking passwords, try again shortly";
+
+    public PasswordHashingUnavailableException() {
+        super(DEFAULT_MESSAGE);
+    }
+}
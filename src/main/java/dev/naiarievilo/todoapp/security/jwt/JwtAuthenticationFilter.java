@@ -1,10 +1,12 @@
 package dev.naiarievilo.todoapp.security.jwt;
 
 import com.auth0.jwt.exceptions.JWTVerificationException;
-import com.auth0.jwt.interfaces.DecodedJWT;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.naiarievilo.todoapp.security.ErrorDetails;
+import dev.naiarievilo.todoapp.security.PrincipalCache;
 import dev.naiarievilo.todoapp.security.UserAuthenticationToken;
+import dev.naiarievilo.todoapp.security.UserPrincipal;
+import dev.naiarievilo.todoapp.users.ExpiredUserCleanup;
 import dev.naiarievilo.todoapp.users.User;
 import dev.naiarievilo.todoapp.users.UserService;
 import dev.naiarievilo.todoapp.users.exceptions.UserNotFoundException;
@@ -31,13 +33,18 @@ import static dev.naiarievilo.todoapp.security.jwt.TokenTypes.USER_ACCESS;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtService jwtService;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final UserService userService;
+    private final ExpiredUserCleanup expiredUserCleanup;
+    private final PrincipalCache principalCache;
     private final ObjectMapper objectMapper;
 
-    public JwtAuthenticationFilter(JwtService jwtService, UserService userService, ObjectMapper objectMapper) {
-        this.jwtService = jwtService;
+    public JwtAuthenticationFilter(VerifiedTokenCache verifiedTokenCache, UserService userService,
+        ExpiredUserCleanup expiredUserCleanup, PrincipalCache principalCache, ObjectMapper objectMapper) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.expiredUserCleanup = expiredUserCleanup;
         this.userService = userService;
+        this.principalCache = principalCache;
         this.objectMapper = objectMapper;
     }
 
@@ -52,11 +59,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         String token = authorization.replaceFirst(BEARER_PREFIX, "");
-        User user;
+        UserPrincipal principal;
         try {
-            DecodedJWT verifiedJWT = jwtService.verifyToken(token, USER_ACCESS);
-            Long userId = Long.valueOf(verifiedJWT.getSubject());
-            user = userService.getUserByIdEagerly(userId);
+            VerifiedToken verifiedToken = verifiedTokenCache.verify(token, USER_ACCESS);
+            Long userId = Long.valueOf(verifiedToken.subject());
+            principal = principalCache.get(userId, id -> UserPrincipal.of(userService.getUserByIdEagerly(id)));
 
         } catch (JWTVerificationException e) {
             buildJwtErrorDetailsResponse(response);
@@ -70,8 +77,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
+        User user = principal.toUser();
         if (userService.isUserExpired(user)) {
-            userService.deleteUser(user.getId());
+            expiredUserCleanup.enqueue(user.getId());
             this.buildJwtErrorDetailsResponse(response);
             return;
 
@@ -80,7 +88,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        var authentication = new UserAuthenticationToken(user);
+        var authentication = new UserAuthenticationToken(user, principal.authorities());
         authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
         SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
@@ -67,12 +67,19 @@ public class JwtService {
 
     public DecodedJWT verifyToken(String token, TokenTypes tokenType) {
         DecodedJWT verifiedJWT = jwtVerifier.verify(token);
-        int typeClaim = verifiedJWT.getClaim(TYPE_CLAIM).asInt();
+        checkType(verifiedJWT.getClaim(TYPE_CLAIM).asInt(), tokenType);
+        return verifiedJWT;
+    }
+
+    // The type is left to the caller, so the claims can be cached whatever type they are expected to be
+    VerifiedToken verifyClaims(String token) {
+        return VerifiedToken.of(jwtVerifier.verify(token));
+    }
+
+    static void checkType(int typeClaim, TokenTypes tokenType) {
         if (typeClaim != tokenType.value()) {
             throw new JWTVerificationException("Type claim is not valid");
         }
-
-        return verifiedJWT;
     }
 
     public Map<String, String> createAccessAndRefreshTokens(User user) {
@@ -0,0 +1,26 @@
+package dev.naiarievilo.todoapp.security.jwt;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+
+import java.time.Instant;
+
+import static dev.naiarievilo.todoapp.security.jwt.JwtService.TYPE_CLAIM;
+
+/**
+ * The claims of a token whose signature and registered claims were verified, kept so the token does not have to be
+ * verified again until it expires.
+ */
+public record VerifiedToken(
+    String subject,
+    int type,
+    Instant expiresAt
+) {
+
+    public static VerifiedToken of(DecodedJWT verifiedJWT) {
+        return new VerifiedToken(
+            verifiedJWT.getSubject(),
+            verifiedJWT.getClaim(TYPE_CLAIM).asInt(),
+            verifiedJWT.getExpiresAtAsInstant()
+        );
+    }
+}
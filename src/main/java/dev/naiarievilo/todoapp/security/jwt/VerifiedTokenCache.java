@@ -0,0 +1,60 @@
+package dev.naiarievilo.todoapp.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Keeps the claims of verified tokens until they expire, so a client presenting the same token on every request pays
+ * for the HMAC and the claim parsing once. Entries are looked up by the raw token, hashed with {@link String#hashCode()}
+ * and compared in full, so a hash collision can never return the claims of another token. Tokens that fail
+ * verification are not cached.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    public static final String CACHE_NAME = "verified-tokens";
+
+    private final Cache<String, VerifiedToken> tokens;
+    private final JwtService jwtService;
+
+    public VerifiedTokenCache(JwtService jwtService, VerifiedTokenCacheProperties properties,
+        MeterRegistry meterRegistry) {
+        this.jwtService = jwtService;
+        this.tokens = Caffeine.newBuilder()
+            .maximumSize(properties.maximumSize())
+            .expireAfter(new Expiry<String, VerifiedToken>() {
+                @Override
+                public long expireAfterCreate(String token, VerifiedToken verified, long currentTime) {
+                    return Math.max(0, Duration.between(Instant.now(), verified.expiresAt()).toNanos());
+                }
+
+                @Override
+                public long expireAfterUpdate(String token, VerifiedToken verified, long currentTime,
+                    long currentDuration) {
+                    return currentDuration;
+                }
+
+                @Override
+                public long expireAfterRead(String token, VerifiedToken verified, long currentTime,
+                    long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tokens, CACHE_NAME);
+    }
+
+    public VerifiedToken verify(String token, TokenTypes tokenType) {
+        VerifiedToken verified = tokens.get(token, jwtService::verifyClaims);
+        JwtService.checkType(verified.type(), tokenType);
+        return verified;
+    }
+}
@@ -0,0 +1,8 @@
+package dev.naiarievilo.todoapp.security.jwt;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("security.verified-token-cache")
+public record VerifiedTokenCacheProperties(
+    long maximumSize
+) { }
@@ -0,0 +1,94 @@
+package dev.naiarievilo.todoapp.security.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.naiarievilo.todoapp.security.ErrorDetails;
+import dev.naiarievilo.todoapp.security.UserAuthenticationToken;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.RequestPath;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the rate of requests of each client with token buckets, by route group. Authenticated requests are limited
+ * by user, and anonymous ones by IP address. Buckets are taken without locking, and are evicted once idle long enough
+ * to be full again.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    public static final String METRIC_NAME = "security.rate-limit.rejected";
+    public static final String TOO_MANY_REQUESTS = "Too many requests, try again later";
+
+    private final List<RateLimitedRoute> routes;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+        this.routes = !properties.enabled() ? List.of() : properties.groups().stream()
+            .map(group -> new RateLimitedRoute(group, properties.maximumBuckets(), meterRegistry))
+            .toList();
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return routes.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+        @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        HttpMethod method = HttpMethod.valueOf(request.getMethod());
+        PathContainer path = RequestPath.parse(request.getRequestURI(), request.getContextPath())
+            .pathWithinApplication();
+
+        for (RateLimitedRoute route : routes) {
+            if (!route.matches(method, path)) {
+                continue;
+            }
+
+            long wait = route.tryConsume(clientOf(request), System.nanoTime());
+            if (wait > 0) {
+                buildTooManyRequestsResponse(response, wait);
+                return;
+            }
+            break;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    // Users behind the same address, as in an office, do not share a bucket once authenticated
+    private static Object clientOf(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof UserAuthenticationToken token) {
+            return token.getPrincipal().getId();
+        }
+        return request.getRemoteAddr();
+    }
+
+    private void buildTooManyRequestsResponse(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        var errorDetails = new ErrorDetails(HttpStatus.TOO_MANY_REQUESTS, TOO_MANY_REQUESTS);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().print(objectMapper.writeValueAsString(errorDetails));
+    }
+}
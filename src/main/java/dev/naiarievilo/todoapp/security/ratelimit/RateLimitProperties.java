@@ -0,0 +1,28 @@
+package dev.naiarievilo.todoapp.security.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Rate limits by route group. A request is limited by the first group matching it, and each client of a group gets a
+ * bucket of {@code capacity} requests, refilled over {@code refill-period}. Groups without methods match any method.
+ */
+@ConfigurationProperties("security.rate-limit")
+public record RateLimitProperties(
+    boolean enabled,
+    long maximumBuckets,
+    List<RouteGroup> groups
+) {
+
+    public record RouteGroup(
+        String name,
+        @Nullable List<HttpMethod> methods,
+        List<String> paths,
+        long capacity,
+        Duration refillPeriod
+    ) { }
+}
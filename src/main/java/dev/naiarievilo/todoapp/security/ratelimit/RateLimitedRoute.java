@@ -0,0 +1,72 @@
+package dev.naiarievilo.todoapp.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.naiarievilo.todoapp.security.ratelimit.RateLimitProperties.RouteGroup;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static dev.naiarievilo.todoapp.security.ratelimit.RateLimitFilter.METRIC_NAME;
+
+/**
+ * The buckets of a route group, one per client.
+ */
+final class RateLimitedRoute {
+
+    private final Set<HttpMethod> methods;
+    private final List<PathPattern> patterns;
+    private final long capacity;
+    private final Duration refillPeriod;
+    private final Cache<Object, TokenBucket> buckets;
+    private final Counter rejections;
+
+    RateLimitedRoute(RouteGroup group, long maximumBuckets, MeterRegistry meterRegistry) {
+        this.methods = group.methods() == null ? Set.of() : Set.copyOf(group.methods());
+        this.patterns = group.paths().stream().map(PathPatternParser.defaultInstance::parse).toList();
+        this.capacity = group.capacity();
+        this.refillPeriod = group.refillPeriod();
+
+        // A bucket left alone for a whole refill period is full again, so evicting it then changes nothing
+        this.buckets = Caffeine.newBuilder()
+            .expireAfterAccess(refillPeriod)
+            .maximumSize(maximumBuckets)
+            .build();
+        this.rejections = Counter.builder(METRIC_NAME)
+            .description("Requests refused because their client ran out of tokens")
+            .tag("group", group.name())
+            .register(meterRegistry);
+    }
+
+    boolean matches(HttpMethod method, PathContainer path) {
+        if (!methods.isEmpty() && !methods.contains(method)) {
+            return false;
+        }
+
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Takes a token from the client's bucket, returning {@code 0}, or returns how many nanoseconds the client has to
+     * wait for one.
+     */
+    long tryConsume(Object client, long now) {
+        long wait = buckets.get(client, key -> new TokenBucket(capacity, refillPeriod, now)).tryConsume(now);
+        if (wait > 0) {
+            rejections.increment();
+        }
+        return wait;
+    }
+}
@@ -0,0 +1,38 @@
+package dev.naiarievilo.todoapp.security.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A token bucket stored as the instant it will be full again, so taking a token is a single compare-and-set and no
+ * thread has to refill it. Tokens come back one per refill period divided by the capacity.
+ */
+final class TokenBucket {
+
+    private final long refillInterval;
+    private final long burst;
+    private final AtomicLong fullAt;
+
+    TokenBucket(long capacity, Duration refillPeriod, long now) {
+        this.refillInterval = Math.max(1, refillPeriod.toNanos() / capacity);
+        this.burst = refillInterval * capacity;
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * Takes a token, returning {@code 0}, or returns how many nanoseconds are left until one is available.
+     */
+    long tryConsume(long now) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + refillInterval;
+            long wait = next - now - burst;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
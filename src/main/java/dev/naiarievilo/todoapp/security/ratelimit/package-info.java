@@ -0,0 +1,4 @@
+@NonNullApi
+package dev.naiarievilo.todoapp.security.ratelimit;
+
+import org.springframework.lang.NonNullApi;
\ No newline at end of file
@@ -0,0 +1,113 @@
+package dev.naiarievilo.todoapp.todolists;
+
+import dev.naiarievilo.todoapp.todolists.todos.TodoProperties;
+import dev.naiarievilo.todoapp.todolists.todos.exceptions.BatchBodyTooLargeException;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+
+import static dev.naiarievilo.todoapp.todolists.TodoListController.TODOS_BATCH_PATH;
+
+/**
+ * Caps the body of a batch of new to-dos, so a batch far larger than the maximum batch size is rejected while it is
+ * read, instead of after every to-do in it was bound and validated. The number of to-dos is still checked once bound.
+ */
+@ControllerAdvice(assignableTypes = TodoListController.class)
+public class TodoBatchBodyAdvice extends RequestBodyAdviceAdapter {
+
+    private final TodoProperties todoProperties;
+
+    public TodoBatchBodyAdvice(TodoProperties todoProperties) {
+        this.todoProperties = todoProperties;
+    }
+
+    @Override
+    public boolean supports(
+        MethodParameter methodParameter,
+        Type targetType,
+        Class<? extends HttpMessageConverter<?>> converterType
+    ) {
+        PostMapping mapping = methodParameter.getMethodAnnotation(PostMapping.class);
+        return mapping != null && Arrays.asList(mapping.value()).contains(TODOS_BATCH_PATH);
+    }
+
+    @Override
+    public HttpInputMessage beforeBodyRead(
+        HttpInputMessage inputMessage,
+        MethodParameter parameter,
+        Type targetType,
+        Class<? extends HttpMessageConverter<?>> converterType
+    ) throws IOException {
+        long maxBodySize = todoProperties.maxBatchBodySize().toBytes();
+        if (inputMessage.getHeaders().getContentLength() > maxBodySize) {
+            throw new BatchBodyTooLargeException(maxBodySize);
+        }
+
+        // A chunked body has no length up front, so it is counted as it is read
+        InputStream body = new BoundedInputStream(inputMessage.getBody(), maxBodySize);
+        return new HttpInputMessage() {
+            @Override
+            public InputStream getBody() {
+                return body;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return inputMessage.getHeaders();
+            }
+        };
+    }
+
+    private static class BoundedInputStream extends FilterInputStream {
+
+        private final long maxSize;
+        private long size;
+
+        BoundedInputStream(InputStream in, long maxSize) {
+            super(in);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count(read);
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count(skipped);
+            return skipped;
+        }
+
+        private void count(long read) {
+            size += read;
+            if (size > maxSize) {
+                throw new BatchBodyTooLargeException(maxSize);
+            }
+        }
+    }
+}
@@ -3,19 +3,21 @@ package dev.naiarievilo.todoapp.todolists;
 import dev.naiarievilo.todoapp.todolists.todos.Todo;
 import dev.naiarievilo.todoapp.users.User;
 import jakarta.persistence.*;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.OptimisticLock;
 import org.springframework.lang.Nullable;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.LinkedHashSet;
-import java.util.Set;
+import java.util.*;
 
 @Entity(name = "TodoList")
 @Table(name = "todo_lists")
 public class TodoList {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_lists_seq")
+    @SequenceGenerator(name = "todo_lists_seq", sequenceName = "todo_lists_seq", allocationSize = 50)
     @Column(name = "id", nullable = false, updatable = false)
     private Long id;
 
@@ -32,13 +34,28 @@ public class TodoList {
     @Column(name = "due_date")
     private LocalDate dueDate;
 
+    // Also bumped in SQL by TodoListService whenever the list's to-dos change, as most to-do writes bypass the list
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    // Drawn from changes_seq by a database trigger on every insert and update; not refreshed after writes
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private long changeSeq;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
     @OneToMany(mappedBy = "list", cascade = CascadeType.ALL, orphanRemoval = true)
-    @OrderBy("position")
-    private Set<Todo> todos = new LinkedHashSet<>();
+    @OrderBy("sortKey, id")
+    @OptimisticLock(excluded = true)
+    private List<Todo> todos = new ArrayList<>();
+
+    // Maps each persisted to-do's id to its index in todos; rebuilt on demand after changes that shift indexes
+    @Transient
+    @Nullable
+    private Map<Long, Integer> todoIndexes;
 
     public Long getId() { return id; }
 
@@ -61,34 +78,117 @@ public class TodoList {
 
     public void setDueDate(@Nullable LocalDate dueDate) { this.dueDate = dueDate; }
 
+    public long getVersion() { return version; }
+
+    public long getChangeSeq() { return changeSeq; }
+
     public User getUser() { return user; }
 
     public void setUser(User user) { this.user = user; }
 
-    public Set<Todo> getTodos() { return todos; }
+    /**
+     * Returns the list's to-dos in the order they were loaded. The returned list is read-only; use {@link #addTodo}
+     * and {@link #removeTodo} to change it.
+     */
+    public List<Todo> getTodos() { return Collections.unmodifiableList(todos); }
 
-    public void setTodos(Set<Todo> todos) {
+    public void setTodos(Collection<Todo> todos) {
         for (Todo todo : todos) {
             addTodo(todo);
         }
     }
 
+    public boolean isTodosInitialized() { return Hibernate.isInitialized(todos); }
+
+    /**
+     * Returns the to-do with the given id, with its position set to its place in the list, or {@code null} if the
+     * list does not contain it.
+     */
+    @Nullable
+    public Todo getTodo(Long todoId) {
+        Integer index = todoIndexes().get(todoId);
+        if (index == null) {
+            return null;
+        }
+
+        Todo todo = todos.get(index);
+        todo.setPosition(index + 1);
+        return todo;
+    }
+
     public void addTodo(Todo todo) {
         todos.add(todo);
         todo.setList(this);
+        if (todoIndexes != null) {
+            if (todo.getId() == null) {
+                todoIndexes = null;
+            } else {
+                todoIndexes.put(todo.getId(), todos.size() - 1);
+            }
+        }
     }
 
-    public void removeTodos(Set<Todo> todos) {
+    public void removeTodos(Collection<Todo> todos) {
+        Set<Long> todosId = new HashSet<>();
+        List<Todo> transientTodos = new ArrayList<>();
         for (Todo todo : todos) {
-            removeTodo(todo);
+            if (todo.getId() == null) {
+                transientTodos.add(todo);
+            } else {
+                todosId.add(todo.getId());
+            }
         }
+
+        this.todos.removeIf(todo -> {
+            boolean removed = todo.getId() == null ? transientTodos.contains(todo) : todosId.contains(todo.getId());
+            if (removed) {
+                todo.setList(null);
+            }
+            return removed;
+        });
+        todoIndexes = null;
     }
 
     public void removeTodo(Todo todo) {
-        todos.remove(todo);
+        if (todo.getId() == null) {
+            todos.remove(todo);
+        } else {
+            Integer index = todoIndexes().remove(todo.getId());
+            if (index != null) {
+                todos.remove((int) index);
+                if (index < todos.size()) {
+                    todoIndexes = null;
+                }
+            }
+        }
+
         todo.setList(null);
     }
 
+    private Map<Long, Integer> todoIndexes() {
+        if (todoIndexes != null) {
+            return todoIndexes;
+        }
+
+        Map<Long, Integer> indexes = HashMap.newHashMap(todos.size());
+        boolean allPersisted = true;
+        for (int i = 0; i < todos.size(); i++) {
+            Long todoId = todos.get(i).getId();
+            if (todoId == null) {
+                allPersisted = false;
+            } else {
+                indexes.put(todoId, i);
+            }
+        }
+
+        // Transient to-dos get their id once persisted, so the index is only kept when every to-do has one
+        if (allPersisted) {
+            todoIndexes = indexes;
+        }
+
+        return indexes;
+    }
+
     @Override
     public int hashCode() {
         return getClass().hashCode();
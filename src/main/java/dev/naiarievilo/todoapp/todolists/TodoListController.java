@@ -4,9 +4,11 @@ import dev.naiarievilo.todoapp.security.AuthenticatedUser;
 import dev.naiarievilo.todoapp.todolists.dtos.TodoListDTO;
 import dev.naiarievilo.todoapp.todolists.dtos.TodoListMapper;
 import dev.naiarievilo.todoapp.todolists.todos.Todo;
+import dev.naiarievilo.todoapp.todolists.todos.TodoPage;
 import dev.naiarievilo.todoapp.todolists.todos.dtos.TodoDTO;
 import dev.naiarievilo.todoapp.todolists.todos.dtos.TodoMapper;
 import dev.naiarievilo.todoapp.users.User;
+import dev.naiarievilo.todoapp.validation.Positive;
 import dev.naiarievilo.todoapp.validation.groups.Creation;
 import dev.naiarievilo.todoapp.validation.groups.Update;
 import io.swagger.v3.oas.annotations.Operation;
@@ -19,14 +21,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.Nullable;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.ArrayList;
-import java.util.Set;
+import java.util.*;
 
 import static dev.naiarievilo.todoapp.todolists.ListTypes.CUSTOM;
 import static dev.naiarievilo.todoapp.todolists.TodoListOpenAPIExamples.*;
@@ -34,9 +37,22 @@ import static dev.naiarievilo.todoapp.todolists.TodoListOpenAPIExamples.*;
 @Tag(name = "To-do list API")
 @SecurityRequirement(name = "Access Token")
 @RestController
-@RequestMapping(path = "/users/{userId}/todolists", produces = MediaTypes.HAL_JSON_VALUE)
+@RequestMapping(path = TodoListController.TODO_LISTS_PATH, produces = MediaTypes.HAL_JSON_VALUE)
 public class TodoListController {
 
+    public static final String TODO_LISTS_PATH = "/users/{userId}/todolists";
+    public static final String LIST_PATH = "/{listId}";
+    public static final String TODOS_PATH = LIST_PATH + "/todos";
+    public static final String TODOS_BATCH_PATH = TODOS_PATH + "/batch";
+    public static final String TODO_PATH = TODOS_PATH + "/{todoId}";
+
+    public static final String LIMIT_PARAM = "limit";
+    public static final String AFTER_PARAM = "after";
+    public static final String BEFORE_PARAM = "before";
+
+    private static final String IF_MATCH_DESCRIPTION = "When `If-Match` is given, it must be the list's current " +
+        "`ETag`, or 412 is returned without applying the update.";
+
     private final TodoListService listService;
     private final TodoListMapper listMapper;
     private final TodoMapper todoMapper;
@@ -59,13 +75,15 @@ public class TodoListController {
     @GetMapping("/inbox")
     @ResponseStatus(HttpStatus.OK)
     public TodoListDTO getInboxList(@AuthenticatedUser User user, @PathVariable Long userId) {
-        TodoList list = listService.getInboxList(user);
-        return listMapper.toModel(list, userId);
+        TodoListDTO listDTO = listService.findInboxListDTO(user.getId())
+            .orElseGet(() -> listMapper.toDTO(listService.getInboxList(user)));
+        return listMapper.toModel(listDTO, userId);
     }
 
     @Operation(
         summary = "Get today's list",
-        description = "Returns the user's calendar list for the day. The list is automatically created if absent.",
+        description = "Returns the user's calendar list for the day. The list is automatically created if absent. " +
+            "Answers `If-None-Match` with 304 while the list and its to-dos are unchanged.",
         responses = {
             @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = TodoListDTO.class),
                 examples = @ExampleObject(value = TODAY_LIST_EXAMPLE))
@@ -73,15 +91,27 @@ public class TodoListController {
         }
     )
     @GetMapping("/today")
-    @ResponseStatus(HttpStatus.OK)
-    public TodoListDTO getTodayList(@AuthenticatedUser User user, @PathVariable Long userId) {
-        TodoList list = listService.getTodayList(user);
-        return listMapper.toModel(list, userId);
+    public ResponseEntity<TodoListDTO> getTodayList(
+        @AuthenticatedUser User user,
+        @PathVariable Long userId,
+        WebRequest request
+    ) {
+        Optional<TodoListVersion> version = listService.findTodayListVersion(user.getId());
+        if (version.isPresent() && request.checkNotModified(TodoListETags.of(version.get()))) {
+            return null;
+        }
+
+        TodoListDTO listDTO = listService.findTodayListDTO(user.getId())
+            .orElseGet(() -> listMapper.toDTO(listService.getTodayList(user)));
+        // A list created by this request starts at version 0
+        String eTag = TodoListETags.of(version.orElseGet(() -> new TodoListVersion(listDTO.getId(), 0)));
+        return ResponseEntity.ok().eTag(eTag).body(listMapper.toModel(listDTO, userId));
     }
 
     @Operation(
         summary = "Get this week's lists",
-        description = "Returns the user's calendar lists for the week. The lists are automatically created if absent.",
+        description = "Returns the user's calendar lists for the week. The lists are automatically created if absent." +
+            " Answers `If-None-Match` with 304 while the lists and their to-dos are unchanged.",
         responses = {
             @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = TodoListDTO.class),
                 examples = @ExampleObject(WEEK_LISTS_EXAMPLE))
@@ -89,16 +119,26 @@ public class TodoListController {
         }
     )
     @GetMapping("/week")
-    @ResponseStatus(HttpStatus.OK)
-    public CollectionModel<TodoListDTO> getWeekLists(@AuthenticatedUser User user, @PathVariable Long userId) {
+    public ResponseEntity<CollectionModel<TodoListDTO>> getWeekLists(
+        @AuthenticatedUser User user,
+        @PathVariable Long userId,
+        WebRequest request
+    ) {
+        Optional<List<TodoListVersion>> versions = listService.findWeeklyListVersions(user.getId());
+        if (versions.isPresent() && request.checkNotModified(TodoListETags.of(versions.get()))) {
+            return null;
+        }
+
         Set<TodoList> weeklyLists = listService.getWeeklyLists(user);
-        return listMapper.toModels(weeklyLists, userId);
+        String eTag = TodoListETags.of(weeklyLists.stream().map(TodoListVersion::of).toList());
+        return ResponseEntity.ok().eTag(eTag).body(listMapper.toModels(weeklyLists, userId));
     }
 
     @Operation(
         summary = "Get user's custom lists",
         description = "Returns the user's custom lists. Unlike inbox and calendar lists, custom lists' are retrieved " +
-            "without its to-dos to decrease the response's payload size.",
+            "without its to-dos to decrease the response's payload size. Instead, each list carries how many to-dos " +
+            "it has and how many of them are completed.",
         responses = {
             @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = TodoListDTO.class),
                 examples = @ExampleObject(value = CUSTOM_LISTS_EXAMPLE))
@@ -108,8 +148,8 @@ public class TodoListController {
     @GetMapping("/custom")
     @ResponseStatus(HttpStatus.OK)
     public CollectionModel<TodoListDTO> getCustomLists(@AuthenticatedUser User user, @PathVariable Long userId) {
-        Set<TodoList> customLists = listService.getAllCustomLists(user);
-        return listMapper.toModels(customLists, userId);
+        List<TodoListDTO> customLists = listService.getAllCustomListDTOs(user.getId());
+        return listMapper.toModelsFromDTOs(customLists, userId);
     }
 
     @Operation(
@@ -133,6 +173,7 @@ public class TodoListController {
 
     @Operation(
         summary = "Get list",
+        description = "Returns a list. Answers `If-None-Match` with 304 while the list and its to-dos are unchanged.",
         responses = {
             @ApiResponse(responseCode = "200",
                 content = @Content(schema = @Schema(implementation = TodoListDTO.class), examples = @ExampleObject(
@@ -140,36 +181,45 @@ public class TodoListController {
             )
         }
     )
-    @GetMapping("/{listId}")
-    @ResponseStatus(HttpStatus.OK)
-    public TodoListDTO getList(@PathVariable Long userId, @PathVariable Long listId) {
-        TodoList list = listService.getListByIdEagerly(userId, listId);
-        return listMapper.toModel(list, userId);
+    @GetMapping(LIST_PATH)
+    public ResponseEntity<TodoListDTO> getList(
+        @PathVariable Long userId,
+        @PathVariable Long listId,
+        WebRequest request
+    ) {
+        String eTag = TodoListETags.of(listService.getListVersion(userId, listId));
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
+        TodoListDTO listDTO = listService.getListDTO(userId, listId);
+        return ResponseEntity.ok().eTag(eTag).body(listMapper.toModel(listDTO, userId));
     }
 
     @Operation(
         summary = "Update list",
         description = "Updates list. Currently, only custom lists can be updated by the user, and the update is " +
-            "restricted to the list's title.",
+            "restricted to the list's title. " + IF_MATCH_DESCRIPTION,
         requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(content = @Content(
             schema = @Schema(implementation = TodoListDTO.class),
             examples = @ExampleObject(value = "{\"title\": \"New Title\"}")
         ))
     )
-    @PutMapping("/{listId}")
+    @PutMapping(LIST_PATH)
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public ResponseEntity<Void> updateList(
         @PathVariable Long userId,
         @PathVariable Long listId,
-        @RequestBody @Validated(Update.class) TodoListDTO listDTO
+        @RequestBody @Validated(Update.class) TodoListDTO listDTO,
+        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) @Nullable String ifMatch
     ) {
-        listService.updateList(userId, listId, listDTO);
+        listService.updateList(userId, listId, listDTO, TodoListETags.expectedVersion(ifMatch, listId));
         return ResponseEntity.noContent().build();
     }
 
     @Operation(summary = "Delete list", description = "Deletes a list. Currently, only custom lists can be deleted by" +
         " the user.")
-    @DeleteMapping("/{listId}")
+    @DeleteMapping(LIST_PATH)
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public ResponseEntity<Void> deleteList(@PathVariable Long userId, @PathVariable Long listId) {
         listService.deleteList(userId, listId);
@@ -183,13 +233,36 @@ public class TodoListController {
                 examples = @ExampleObject(value = TODOS_EXAMPLE)))
         }
     )
-    @GetMapping("/{listId}/todos")
+    @GetMapping(TODOS_PATH)
     @ResponseStatus(HttpStatus.OK)
     public CollectionModel<TodoDTO> getTodosFromList(@PathVariable Long userId, @PathVariable Long listId) {
-        Set<Todo> todos = listService.getTodosFromList(userId, listId);
+        List<Todo> todos = listService.getTodosFromList(userId, listId);
         return todoMapper.toModels(todos, userId, listId);
     }
 
+    @Operation(
+        summary = "Get page of to-dos from list",
+        description = "Returns up to `limit` to-dos ordered by position, starting after (or ending before) the " +
+            "given cursor. Cursors are opaque and should be taken from the `next` and `prev` links. The page size is" +
+            " capped at " + TodoPage.MAX_SIZE + ".",
+        responses = {
+            @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = TodoDTO.class),
+                examples = @ExampleObject(value = TODOS_EXAMPLE)))
+        }
+    )
+    @GetMapping(path = TODOS_PATH, params = LIMIT_PARAM)
+    @ResponseStatus(HttpStatus.OK)
+    public CollectionModel<TodoDTO> getTodosPageFromList(
+        @PathVariable Long userId,
+        @PathVariable Long listId,
+        @RequestParam(LIMIT_PARAM) @Positive Integer limit,
+        @RequestParam(name = AFTER_PARAM, required = false) @Nullable String after,
+        @RequestParam(name = BEFORE_PARAM, required = false) @Nullable String before
+    ) {
+        TodoPage page = listService.getTodosPageFromList(userId, listId, limit, after, before);
+        return todoMapper.toModels(page, userId, listId);
+    }
+
     @Operation(
         summary = "Add to-do to list",
         requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(content = @Content(
@@ -197,7 +270,7 @@ public class TodoListController {
             examples = @ExampleObject(value = NEW_TODO_EXAMPLE)
         ))
     )
-    @PostMapping("/{listId}/todos")
+    @PostMapping(TODOS_PATH)
     @ResponseStatus(HttpStatus.CREATED)
     public TodoDTO addTodoToList(
         @PathVariable Long userId,
@@ -208,23 +281,46 @@ public class TodoListController {
         return todoMapper.toModel(newTodo, userId, listId);
     }
 
+    @Operation(
+        summary = "Add to-dos to list",
+        description = "Appends the to-dos to the end of a list in the order they are given. The number of to-dos that" +
+            " can be added at once is limited by the server's maximum batch size, and a body larger than the maximum" +
+            " batch body size is rejected with 413 before it is read in full.",
+        requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(content = @Content(
+            schema = @Schema(implementation = TodoDTO.class),
+            examples = @ExampleObject(value = NEW_TODOS_EXAMPLE)
+        ))
+    )
+    @PostMapping(TODOS_BATCH_PATH)
+    @ResponseStatus(HttpStatus.CREATED)
+    @Validated(Creation.class)
+    public CollectionModel<TodoDTO> addTodosToList(
+        @PathVariable Long userId,
+        @PathVariable Long listId,
+        @RequestBody List<@Valid TodoDTO> todosDTO
+    ) {
+        TodoPage newTodos = listService.addNewTodosToList(userId, listId, todosDTO);
+        return todoMapper.toModels(newTodos, userId, listId);
+    }
+
     @Operation(
         summary = "Update to-dos from list",
         description = "Updates to-dos from a list. The position of to-dos within a list must be unique and not exceed" +
-            " the list's size.",
+            " the list's size. " + IF_MATCH_DESCRIPTION,
         requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(content = @Content(
             schema = @Schema(implementation = TodoDTO.class),
             examples = @ExampleObject(value = UPDATED_TODOS_EXAMPLE)
         ))
     )
-    @PutMapping("/{listId}/todos")
+    @PutMapping(TODOS_PATH)
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public ResponseEntity<Void> updateTodosFromList(
         @PathVariable Long userId,
         @PathVariable Long listId,
-        @RequestBody Set<@Valid TodoDTO> todosDTO
+        @RequestBody Set<@Valid TodoDTO> todosDTO,
+        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) @Nullable String ifMatch
     ) {
-        listService.updateTodosFromList(userId, listId, todosDTO);
+        listService.updateTodosFromList(userId, listId, todosDTO, TodoListETags.expectedVersion(ifMatch, listId));
         return ResponseEntity.noContent().build();
     }
 
@@ -238,7 +334,7 @@ public class TodoListController {
         ))
     )
     @Nullable
-    @DeleteMapping("/{listId}/todos")
+    @DeleteMapping(TODOS_PATH)
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public ResponseEntity<Void> removeTodosFromList(
         @PathVariable Long userId,
@@ -260,7 +356,7 @@ public class TodoListController {
             TodoDTO.class), examples = @ExampleObject(value = TODO_EXAMPLE)))
         }
     )
-    @GetMapping("/{listId}/todos/{todoId}")
+    @GetMapping(TODO_PATH)
     @ResponseStatus(HttpStatus.OK)
     public TodoDTO getTodoFromList(@PathVariable Long userId, @PathVariable Long listId, @PathVariable Long todoId) {
         Todo todo = listService.getTodoFromList(userId, listId, todoId);
@@ -270,20 +366,47 @@ public class TodoListController {
     @Operation(
         summary = "Update to-do from list. The position of to-dos within a list must be unique and not exceed the " +
             "list's size.",
+        description = IF_MATCH_DESCRIPTION,
         requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(content = @Content(
             schema = @Schema(implementation = TodoDTO.class),
             examples = @ExampleObject(value = UPDATED_TODO_EXAMPLE)
         ))
     )
-    @PutMapping("/{listId}/todos/{todoId}")
+    @PutMapping(TODO_PATH)
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public ResponseEntity<Void> updateTodoFromList(
         @PathVariable Long userId,
         @PathVariable Long listId,
         @PathVariable Long todoId,
-        @RequestBody @Valid TodoDTO todoDTO
+        @RequestBody @Valid TodoDTO todoDTO,
+        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) @Nullable String ifMatch
+    ) {
+        Long expectedVersion = TodoListETags.expectedVersion(ifMatch, listId);
+        listService.updateTodoFromList(userId, listId, todoId, todoDTO, expectedVersion);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(
+        summary = "Partially update to-do from list",
+        description = "Changes only the task, completion or due date given in the payload, leaving the other fields " +
+            "as they are. A `due_date` of null clears the due date. Positions cannot be changed this way; use the " +
+            "full update instead. " + IF_MATCH_DESCRIPTION,
+        requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(content = @Content(
+            schema = @Schema(implementation = TodoDTO.class),
+            examples = @ExampleObject(value = PATCHED_TODO_EXAMPLE)
+        ))
+    )
+    @PatchMapping(TODO_PATH)
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public ResponseEntity<Void> patchTodoFromList(
+        @PathVariable Long userId,
+        @PathVariable Long listId,
+        @PathVariable Long todoId,
+        @RequestBody @Validated(Update.class) TodoDTO todoDTO,
+        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) @Nullable String ifMatch
     ) {
-        listService.updateTodoFromList(userId, listId, todoId, todoDTO);
+        Long expectedVersion = TodoListETags.expectedVersion(ifMatch, listId);
+        listService.patchTodoFromList(userId, listId, todoId, todoDTO, expectedVersion);
         return ResponseEntity.noContent().build();
     }
 
@@ -292,7 +415,7 @@ public class TodoListController {
         description = "Removes to-do from a list. The position of the remaining to-dos in the list are adjusted " +
             "accordingly."
     )
-    @DeleteMapping("/{listId}/todos/{todoId}")
+    @DeleteMapping(TODO_PATH)
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public ResponseEntity<Void> removeTodoFromList(
         @PathVariable Long userId,
@@ -3,10 +3,9 @@ package dev.naiarievilo.todoapp.todolists;
 import dev.naiarievilo.todoapp.security.ErrorDetails;
 import dev.naiarievilo.todoapp.todolists.exceptions.DeletionProhibitedException;
 import dev.naiarievilo.todoapp.todolists.exceptions.TodoListNotFoundException;
-import dev.naiarievilo.todoapp.todolists.todos.exceptions.ImmutableListException;
-import dev.naiarievilo.todoapp.todolists.todos.exceptions.PositionExceedsMaxAllowedException;
-import dev.naiarievilo.todoapp.todolists.todos.exceptions.PositionNotUniqueException;
-import dev.naiarievilo.todoapp.todolists.todos.exceptions.TodoNotFoundException;
+import dev.naiarievilo.todoapp.todolists.exceptions.TodoListVersionMismatchException;
+import dev.naiarievilo.todoapp.todolists.todos.exceptions.*;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -15,6 +14,9 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 @RestControllerAdvice
 public class TodoListControllerAdvice {
 
+    private static final String CONCURRENT_UPDATE_MESSAGE =
+        "List was changed by another request while being updated. Reload it and try again.";
+
     @ExceptionHandler({TodoListNotFoundException.class, TodoNotFoundException.class})
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public ErrorDetails handleResourceNotFoundExceptions(RuntimeException e) {
@@ -24,13 +26,34 @@ public class TodoListControllerAdvice {
     @ExceptionHandler({
         PositionExceedsMaxAllowedException.class,
         PositionNotUniqueException.class,
-        ImmutableListException.class
+        ImmutableListException.class,
+        InvalidCursorException.class,
+        BatchSizeExceededException.class,
+        PositionNotPatchableException.class
     })
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorDetails handleBadUpdateExceptions(RuntimeException e) {
         return new ErrorDetails(HttpStatus.BAD_REQUEST, e.getMessage());
     }
 
+    @ExceptionHandler(BatchBodyTooLargeException.class)
+    @ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+    public ErrorDetails handleBatchBodyTooLargeException(BatchBodyTooLargeException e) {
+        return new ErrorDetails(HttpStatus.PAYLOAD_TOO_LARGE, e.getMessage());
+    }
+
+    @ExceptionHandler(TodoListVersionMismatchException.class)
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    public ErrorDetails handleTodoListVersionMismatchException(TodoListVersionMismatchException e) {
+        return new ErrorDetails(HttpStatus.PRECONDITION_FAILED, e.getMessage());
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorDetails handleOptimisticLockingFailureException() {
+        return new ErrorDetails(HttpStatus.CONFLICT, CONCURRENT_UPDATE_MESSAGE);
+    }
+
     @ExceptionHandler(DeletionProhibitedException.class)
     @ResponseStatus(HttpStatus.FORBIDDEN)
     public ErrorDetails handleDeletionProhibitedException(DeletionProhibitedException e) {
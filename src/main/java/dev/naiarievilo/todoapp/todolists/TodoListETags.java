@@ -0,0 +1,59 @@
+package dev.naiarievilo.todoapp.todolists;
+
+import dev.naiarievilo.todoapp.todolists.exceptions.TodoListVersionMismatchException;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Formats the strong ETags of list resources as {@code "<listId>.<version>"}, joined with {@code -} for resources made
+ * of several lists, and reads them back from {@code If-Match} headers.
+ */
+final class TodoListETags {
+
+    private TodoListETags() {
+    }
+
+    static String of(TodoListVersion version) {
+        return version.id() + "." + version.version();
+    }
+
+    static String of(List<TodoListVersion> versions) {
+        StringJoiner eTag = new StringJoiner("-");
+        for (TodoListVersion version : versions) {
+            eTag.add(of(version));
+        }
+
+        return eTag.toString();
+    }
+
+    /**
+     * Returns the version of list {@code listId} that {@code ifMatch} requires, or {@code null} if the header is
+     * absent or {@code *}. Weak, malformed and multiple ETags, and ETags of other lists, can never match.
+     */
+    @Nullable
+    static Long expectedVersion(@Nullable String ifMatch, Long listId) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.strip().equals("*")) {
+            return null;
+        }
+
+        String eTag = ifMatch.strip();
+        int separator = eTag.indexOf('.');
+        if (eTag.length() < 2 || eTag.charAt(0) != '"' || eTag.charAt(eTag.length() - 1) != '"' || separator == -1) {
+            throw new TodoListVersionMismatchException(listId);
+        }
+
+        try {
+            long eTagListId = Long.parseLong(eTag.substring(1, separator));
+            long version = Long.parseLong(eTag.substring(separator + 1, eTag.length() - 1));
+            if (eTagListId != listId) {
+                throw new TodoListVersionMismatchException(listId);
+            }
+
+            return version;
+        } catch (NumberFormatException e) {
+            throw new TodoListVersionMismatchException(listId);
+        }
+    }
+}
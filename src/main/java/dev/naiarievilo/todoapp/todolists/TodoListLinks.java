@@ -0,0 +1,97 @@
+package dev.naiarievilo.todoapp.todolists;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.naiarievilo.todoapp.todolists.TodoListController.*;
+
+/**
+ * Builds the same links as {@code linkTo(methodOn(TodoListController.class)...)} from templates compiled once, so
+ * mapping a list with many to-dos does not create a controller proxy per link.
+ */
+@Component
+public class TodoListLinks {
+
+    private static final String BASE_URI_ATTRIBUTE = TodoListLinks.class.getName() + ".BASE_URI";
+
+    private final LinkTemplate listTemplate = LinkTemplate.compile(TODO_LISTS_PATH + LIST_PATH);
+    private final LinkTemplate todosTemplate = LinkTemplate.compile(TODO_LISTS_PATH + TODOS_PATH);
+    private final LinkTemplate todoTemplate = LinkTemplate.compile(TODO_LISTS_PATH + TODO_PATH);
+
+    public String list(Long userId, Long listId) {
+        return listTemplate.expand(baseUri(), userId, listId);
+    }
+
+    public String todos(Long userId, Long listId) {
+        return todosTemplate.expand(baseUri(), userId, listId);
+    }
+
+    public String todo(Long userId, Long listId, Long todoId) {
+        return todoTemplate.expand(baseUri(), userId, listId, todoId);
+    }
+
+    private static String baseUri() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return "";
+        }
+
+        String baseUri = (String) attributes.getAttribute(BASE_URI_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (baseUri == null) {
+            baseUri = stripTrailingSlash(ServletUriComponentsBuilder.fromCurrentServletMapping().toUriString());
+            attributes.setAttribute(BASE_URI_ATTRIBUTE, baseUri, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        return baseUri;
+    }
+
+    private static String stripTrailingSlash(String uri) {
+        return uri.endsWith("/") ? uri.substring(0, uri.length() - 1) : uri;
+    }
+
+    static final class LinkTemplate {
+
+        private final String[] literals;
+
+        private LinkTemplate(String[] literals) {
+            this.literals = literals;
+        }
+
+        static LinkTemplate compile(String template) {
+            List<String> literals = new ArrayList<>();
+            int start = 0;
+            int open;
+            while ((open = template.indexOf('{', start)) != -1) {
+                int close = template.indexOf('}', open);
+                if (close == -1) {
+                    throw new IllegalArgumentException("Unclosed variable in link template '" + template + "'");
+                }
+
+                literals.add(template.substring(start, open));
+                start = close + 1;
+            }
+
+            literals.add(template.substring(start));
+            return new LinkTemplate(literals.toArray(String[]::new));
+        }
+
+        String expand(String baseUri, Long... values) {
+            if (values.length != literals.length - 1) {
+                throw new IllegalArgumentException(
+                    "Expected " + (literals.length - 1) + " link template values but got " + values.length);
+            }
+
+            StringBuilder href = new StringBuilder(baseUri.length() + 64).append(baseUri).append(literals[0]);
+            for (int i = 0; i < values.length; i++) {
+                href.append(values[i]).append(literals[i + 1]);
+            }
+
+            return href.toString();
+        }
+    }
+}
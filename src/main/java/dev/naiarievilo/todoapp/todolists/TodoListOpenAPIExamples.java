@@ -13,6 +13,8 @@ public class TodoListOpenAPIExamples {
                 "created_at": "2024-07-25T15:07:24.545021",
                 "due_date": null,
                 "todos": [],
+                "todo_count": 12,
+                "completed_count": 3,
                 "_links": {
                   "self": {
                     "href": "http://localhost:8080/users/1/todolists/9"
@@ -83,6 +85,20 @@ public class TodoListOpenAPIExamples {
           "due_date": "2024-07-29"
         }
         """;
+    public static final String NEW_TODOS_EXAMPLE = """
+        [
+          {
+            "task": "New task with deadline",
+            "completed": false,
+            "due_date": "2024-07-29"
+          },
+          {
+            "task": "New task",
+            "completed": false,
+            "due_date": null
+          }
+        ]
+        """;
     public static final String TODAY_LIST_EXAMPLE = """
         {
           "id": 2,
@@ -162,6 +178,11 @@ public class TodoListOpenAPIExamples {
           }
         ]
         """;
+    public static final String PATCHED_TODO_EXAMPLE = """
+        {
+          "completed": true
+        }
+        """;
     public static final String UPDATED_TODO_EXAMPLE = """
         {
           "id": 1,
@@ -1,18 +1,30 @@
 package dev.naiarievilo.todoapp.todolists;
 
+import dev.naiarievilo.todoapp.todolists.dtos.TodoListDTO;
+import dev.naiarievilo.todoapp.todolists.export.ListExport;
+import dev.naiarievilo.todoapp.todolists.sync.ListChange;
+import dev.naiarievilo.todoapp.todolists.todos.dtos.TodoDTO;
 import dev.naiarievilo.todoapp.users.User;
 import io.hypersistence.utils.spring.repository.BaseJpaRepository;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Transactional(readOnly = true)
 public interface TodoListRepository extends BaseJpaRepository<TodoList, Long> {
 
+    String EXPORT_FETCH_SIZE = "500";
+
     @Query(value = """
                  SELECT tl
                    FROM TodoList AS tl
@@ -23,15 +35,6 @@ public interface TodoListRepository extends BaseJpaRepository<TodoList, Long> {
         """)
     Optional<TodoList> findByType(ListTypes type, User user);
 
-    @Query(value = """
-                 SELECT tl
-                   FROM TodoList AS tl
-             JOIN FETCH tl.user
-                  WHERE tl.user = :user
-                    AND tl.type = :type
-        """)
-    List<TodoList> findAllByType(User user, ListTypes type);
-
     @Query("""
                  SELECT tl
                    FROM TodoList AS tl
@@ -52,6 +55,172 @@ public interface TodoListRepository extends BaseJpaRepository<TodoList, Long> {
         """)
     Optional<TodoList> findByTypeAndDueDate(ListTypes type, LocalDate date, User user);
 
+    @Query("""
+                 SELECT tl
+                   FROM TodoList as tl
+             JOIN FETCH tl.user
+        LEFT JOIN FETCH tl.todos
+                  WHERE tl.user = :user
+                    AND tl.type = :type
+                    AND tl.dueDate BETWEEN :startDate AND :endDate
+               ORDER BY tl.dueDate, tl.id
+        """)
+    List<TodoList> findAllByTypeAndDueDateBetween(ListTypes type, LocalDate startDate, LocalDate endDate, User user);
+
+    @Query("""
+        SELECT new dev.naiarievilo.todoapp.todolists.dtos.TodoListDTO(
+               tl.id, tl.title, tl.type, tl.createdAt, tl.dueDate
+               )
+          FROM TodoList AS tl
+         WHERE tl.user.id = :userId
+           AND tl.type = :type
+        """)
+    Optional<TodoListDTO> findDTOByType(ListTypes type, Long userId);
+
+    @Query("""
+        SELECT new dev.naiarievilo.todoapp.todolists.dtos.TodoListDTO(
+               tl.id, tl.title, tl.type, tl.createdAt, tl.dueDate
+               )
+          FROM TodoList AS tl
+         WHERE tl.user.id = :userId
+           AND tl.type = :type
+           AND tl.dueDate = :date
+        """)
+    Optional<TodoListDTO> findDTOByTypeAndDueDate(ListTypes type, LocalDate date, Long userId);
+
+    @Query("""
+        SELECT new dev.naiarievilo.todoapp.todolists.dtos.TodoListDTO(
+               tl.id, tl.title, tl.type, tl.createdAt, tl.dueDate
+               )
+          FROM TodoList AS tl
+         WHERE tl.id = :listId
+           AND tl.user.id = :userId
+        """)
+    Optional<TodoListDTO> findDTOByIdAndUserId(Long listId, Long userId);
+
+    @Query("""
+             SELECT new dev.naiarievilo.todoapp.todolists.dtos.TodoListDTO(
+                    tl.id, tl.title, tl.type, tl.createdAt, tl.dueDate,
+                    count(t), coalesce(sum(CASE WHEN t.completed = true THEN 1L ELSE 0L END), 0L)
+                    )
+               FROM TodoList AS tl
+          LEFT JOIN tl.todos AS t
+              WHERE tl.user.id = :userId
+                AND tl.type = :type
+           GROUP BY tl.id, tl.title, tl.type, tl.createdAt, tl.dueDate
+           ORDER BY tl.id
+        """)
+    List<TodoListDTO> findAllDTOsWithTodoCountsByType(Long userId, ListTypes type);
+
+    @Query("""
+          SELECT new dev.naiarievilo.todoapp.todolists.todos.dtos.TodoDTO(
+                 t.id, t.task, t.completed, cast(row_number() OVER (ORDER BY t.sortKey, t.id) AS Integer),
+                 t.createdAt, t.dueDate
+                 )
+            FROM Todo AS t
+           WHERE t.list.id = :listId
+        ORDER BY t.sortKey, t.id
+        """)
+    List<TodoDTO> findAllTodoDTOsByListId(Long listId);
+
+    @Query("""
+        SELECT tl.version
+          FROM TodoList AS tl
+         WHERE tl.id = :listId
+           AND tl.user.id = :userId
+        """)
+    Optional<Long> findVersionByIdAndUserId(Long listId, Long userId);
+
+    @Query("""
+        SELECT new dev.naiarievilo.todoapp.todolists.TodoListVersion(tl.id, tl.version)
+          FROM TodoList AS tl
+         WHERE tl.user.id = :userId
+           AND tl.type = :type
+           AND tl.dueDate = :date
+        """)
+    Optional<TodoListVersion> findVersionByTypeAndDueDate(ListTypes type, LocalDate date, Long userId);
+
+    /**
+     * Returns the versions of the lists due between the dates, one per due date. Should a date have more than one
+     * list, only the one with the lowest id counts, the same one {@code TodoListService.getWeeklyLists} returns.
+     */
+    @Query("""
+          SELECT new dev.naiarievilo.todoapp.todolists.TodoListVersion(tl.id, tl.version)
+            FROM TodoList AS tl
+           WHERE tl.user.id = :userId
+             AND tl.type = :type
+             AND tl.dueDate BETWEEN :startDate AND :endDate
+             AND tl.id = (
+                 SELECT MIN(sl.id)
+                   FROM TodoList AS sl
+                  WHERE sl.user.id = :userId
+                    AND sl.type = :type
+                    AND sl.dueDate = tl.dueDate
+             )
+        ORDER BY tl.dueDate
+        """)
+    List<TodoListVersion> findAllVersionsByTypeAndDueDateBetween(
+        ListTypes type,
+        LocalDate startDate,
+        LocalDate endDate,
+        Long userId
+    );
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query("""
+          SELECT new dev.naiarievilo.todoapp.todolists.export.ListExport(
+                 tl.id, tl.title, tl.type, tl.createdAt, tl.dueDate
+                 )
+            FROM TodoList AS tl
+           WHERE tl.user.id = :userId
+        ORDER BY tl.id
+        """)
+    Stream<ListExport> streamAllForExport(Long userId);
+
+    @Query("""
+          SELECT new dev.naiarievilo.todoapp.todolists.sync.ListChange(
+                 tl.changeSeq, tl.id, tl.title, tl.type, tl.createdAt, tl.dueDate, tl.version
+                 )
+            FROM TodoList AS tl
+           WHERE tl.user.id = :userId
+             AND tl.changeSeq > :since
+             AND tl.changeSeq <= :until
+        ORDER BY tl.changeSeq
+        """)
+    List<ListChange> findAllChangedBetween(Long userId, long since, long until, Limit limit);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE TodoList AS tl
+           SET tl.version = tl.version + 1
+         WHERE tl.id = :listId
+        """)
+    void incrementVersion(Long listId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE TodoList AS tl
+           SET tl.version = tl.version + 1
+         WHERE tl.id = :listId
+           AND tl.version = :version
+        """)
+    int incrementVersionIfUnchanged(Long listId, long version);
+
+    /**
+     * Deletes the list with a single statement, leaving its to-dos to the foreign key's cascade. The list is gone by
+     * the time they are deleted, so they are covered by the list's tombstone instead of one each.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        DELETE
+          FROM TodoList AS tl
+         WHERE tl.id = :listId
+        """)
+    void deleteListById(Long listId);
+
     @Transactional
     @Modifying
     @Query("""
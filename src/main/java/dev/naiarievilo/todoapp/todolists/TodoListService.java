@@ -5,24 +5,25 @@ import dev.naiarievilo.todoapp.todolists.dtos.TodoListDTO;
 import dev.naiarievilo.todoapp.todolists.dtos.TodoListMapper;
 import dev.naiarievilo.todoapp.todolists.exceptions.DeletionProhibitedException;
 import dev.naiarievilo.todoapp.todolists.exceptions.TodoListNotFoundException;
-import dev.naiarievilo.todoapp.todolists.todos.Todo;
-import dev.naiarievilo.todoapp.todolists.todos.TodoService;
+import dev.naiarievilo.todoapp.todolists.exceptions.TodoListVersionMismatchException;
+import dev.naiarievilo.todoapp.todolists.notifications.ChangeOperation;
+import dev.naiarievilo.todoapp.todolists.notifications.ListChangeEvent;
+import dev.naiarievilo.todoapp.todolists.todos.*;
 import dev.naiarievilo.todoapp.todolists.todos.dtos.TodoDTO;
-import dev.naiarievilo.todoapp.todolists.todos.exceptions.ImmutableListException;
-import dev.naiarievilo.todoapp.todolists.todos.exceptions.PositionExceedsMaxAllowedException;
-import dev.naiarievilo.todoapp.todolists.todos.exceptions.TodoNotFoundException;
+import dev.naiarievilo.todoapp.todolists.todos.exceptions.*;
 import dev.naiarievilo.todoapp.users.User;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.lang.Nullable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.LinkedHashSet;
-import java.util.List;
-import java.util.Optional;
-import java.util.Set;
+import java.util.*;
 
 import static dev.naiarievilo.todoapp.todolists.ListTypes.*;
+import static dev.naiarievilo.todoapp.todolists.notifications.ChangeOperation.*;
 
 @Service
 @Transactional(readOnly = true)
@@ -33,12 +34,21 @@ public class TodoListService {
     private final TodoListRepository listRepository;
     private final TodoListMapper listMapper;
     private final TodoService todoService;
-
-
-    public TodoListService(TodoListRepository listRepository, TodoListMapper listMapper, TodoService todoService) {
+    private final TodoProperties todoProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TodoListService(
+        TodoListRepository listRepository,
+        TodoListMapper listMapper,
+        TodoService todoService,
+        TodoProperties todoProperties,
+        ApplicationEventPublisher eventPublisher
+    ) {
         this.listRepository = listRepository;
         this.listMapper = listMapper;
         this.todoService = todoService;
+        this.todoProperties = todoProperties;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -53,6 +63,7 @@ public class TodoListService {
         newInboxList.setType(INBOX);
         newInboxList.setUser(user);
         listRepository.persist(newInboxList);
+        publishListCreated(newInboxList);
 
         return newInboxList;
     }
@@ -62,49 +73,115 @@ public class TodoListService {
         LocalDate today = LocalDate.now();
         return listRepository.findByTypeAndDueDate(CALENDAR, today, user)
             .orElseGet(() -> {
-                TodoList newTodayList = new TodoList();
-                newTodayList.setTitle(today.format(CALENDAR_LIST_TITLE));
-                newTodayList.setType(CALENDAR);
-                newTodayList.setUser(user);
-                newTodayList.setDueDate(today);
-
+                TodoList newTodayList = newCalendarList(user, today);
                 listRepository.persist(newTodayList);
+                publishListCreated(newTodayList);
                 return newTodayList;
             });
     }
 
     @Transactional
     public Set<TodoList> getWeeklyLists(User user) {
-        LocalDate today = LocalDate.now();
-        LocalDate startOftWeek = today.minusDays((today.getDayOfWeek().getValue() - 1));
-        LocalDate nextWeek = startOftWeek.plusWeeks(1);
+        LocalDate startOfWeek = startOfWeek();
+        LocalDate endOfWeek = startOfWeek.plusDays(6);
+
+        // Lists come ordered by id within a date, so a date with more than one list gets the one with the lowest id,
+        // whose version is the one the week's ETag is checked against
+        Map<LocalDate, TodoList> existingLists = new HashMap<>();
+        for (TodoList list : listRepository.findAllByTypeAndDueDateBetween(CALENDAR, startOfWeek, endOfWeek, user)) {
+            existingLists.putIfAbsent(list.getDueDate(), list);
+        }
 
         Set<TodoList> weeklyLists = new LinkedHashSet<>();
-        LocalDate dayOfWeek = startOftWeek;
-        while (dayOfWeek.isBefore(nextWeek)) {
-            Optional<TodoList> list = listRepository.findByTypeAndDueDate(CALENDAR, dayOfWeek, user);
-            if (list.isPresent()) {
-                weeklyLists.add(list.get());
-                dayOfWeek = dayOfWeek.plusDays(1);
-                continue;
+        List<TodoList> newLists = new ArrayList<>();
+        LocalDate dayOfWeek = startOfWeek;
+        while (!dayOfWeek.isAfter(endOfWeek)) {
+            TodoList list = existingLists.get(dayOfWeek);
+            if (list == null) {
+                list = newCalendarList(user, dayOfWeek);
+                newLists.add(list);
             }
 
-            TodoList newList = new TodoList();
-            newList.setTitle(dayOfWeek.format(CALENDAR_LIST_TITLE));
-            newList.setType(CALENDAR);
-            newList.setDueDate(dayOfWeek);
-            newList.setUser(user);
-            listRepository.persist(newList);
-            weeklyLists.add(newList);
+            weeklyLists.add(list);
             dayOfWeek = dayOfWeek.plusDays(1);
         }
 
+        if (!newLists.isEmpty()) {
+            listRepository.persistAll(newLists);
+            newLists.forEach(this::publishListCreated);
+        }
+
         return weeklyLists;
     }
 
-    public Set<TodoList> getAllCustomLists(User user) {
-        List<TodoList> customLists = listRepository.findAllByType(user, CUSTOM);
-        return new LinkedHashSet<>(customLists);
+    private static LocalDate startOfWeek() {
+        LocalDate today = LocalDate.now();
+        return today.minusDays((today.getDayOfWeek().getValue() - 1));
+    }
+
+    private TodoList newCalendarList(User user, LocalDate dueDate) {
+        TodoList newList = new TodoList();
+        newList.setTitle(dueDate.format(CALENDAR_LIST_TITLE));
+        newList.setType(CALENDAR);
+        newList.setDueDate(dueDate);
+        newList.setUser(user);
+        return newList;
+    }
+
+    // The *Version methods let GET endpoints answer conditional requests without loading the lists
+    public TodoListVersion getListVersion(Long userId, Long listId) {
+        return listRepository.findVersionByIdAndUserId(listId, userId)
+            .map(version -> new TodoListVersion(listId, version))
+            .orElseThrow(() -> listNotFound(userId, listId));
+    }
+
+    public Optional<TodoListVersion> findTodayListVersion(Long userId) {
+        return listRepository.findVersionByTypeAndDueDate(CALENDAR, LocalDate.now(), userId);
+    }
+
+    /**
+     * Returns the versions of the week's calendar lists, or an empty {@code Optional} if any of them is yet to be
+     * created by {@link #getWeeklyLists}.
+     */
+    public Optional<List<TodoListVersion>> findWeeklyListVersions(Long userId) {
+        LocalDate startOfWeek = startOfWeek();
+        LocalDate endOfWeek = startOfWeek.plusDays(6);
+        List<TodoListVersion> versions =
+            listRepository.findAllVersionsByTypeAndDueDateBetween(CALENDAR, startOfWeek, endOfWeek, userId);
+        return versions.size() < 7 ? Optional.empty() : Optional.of(versions);
+    }
+
+    // The *DTO methods serve the GET endpoints straight from projections, so no entity enters the persistence context
+    public Optional<TodoListDTO> findInboxListDTO(Long userId) {
+        return listRepository.findDTOByType(INBOX, userId).map(this::withTodos);
+    }
+
+    public Optional<TodoListDTO> findTodayListDTO(Long userId) {
+        return listRepository.findDTOByTypeAndDueDate(CALENDAR, LocalDate.now(), userId).map(this::withTodos);
+    }
+
+    public TodoListDTO getListDTO(Long userId, Long listId) {
+        return listRepository.findDTOByIdAndUserId(listId, userId)
+            .map(this::withTodos)
+            .orElseThrow(() -> listNotFound(userId, listId));
+    }
+
+    public List<TodoListDTO> getAllCustomListDTOs(Long userId) {
+        List<TodoListDTO> customLists = new ArrayList<>();
+        for (TodoListDTO listDTO : listRepository.findAllDTOsWithTodoCountsByType(userId, CUSTOM)) {
+            customLists.add(withTodos(listDTO));
+        }
+
+        return customLists;
+    }
+
+    // Custom lists are returned without their to-dos, as in TodoListMapper.toDTO
+    private TodoListDTO withTodos(TodoListDTO listDTO) {
+        if (listDTO.getType() == CUSTOM) {
+            return listDTO.withTodos(new LinkedHashSet<>());
+        }
+
+        return listDTO.withTodos(new LinkedHashSet<>(listRepository.findAllTodoDTOsByListId(listDTO.getId())));
     }
 
     @Transactional
@@ -113,20 +190,25 @@ public class TodoListService {
         newList.setType(listType);
         newList.setUser(user);
         listRepository.persist(newList);
+        publishListCreated(newList);
         return newList;
     }
 
     @Transactional
-    public void updateList(Long userId, Long listId, TodoListDTO listDTO) {
+    public void updateList(Long userId, Long listId, TodoListDTO listDTO, @Nullable Long expectedVersion) {
         TodoList list = getListByIdEagerly(userId, listId);
+        checkVersion(list, expectedVersion);
 
         ListTypes listType = list.getType();
         if (listType == INBOX || listType == CALENDAR) {
             throw new ImmutableListException(listType.getType());
         }
 
+        // The title is a column of the list itself, so Hibernate increments and checks the version on flush
         listMapper.updateEntityFromDTO(list, listDTO);
         listRepository.update(list);
+        listRepository.flush();
+        publishChange(userId, listId, null, UPDATED, list.getVersion());
     }
 
     public TodoList getListByIdEagerly(Long userId, Long listId) {
@@ -135,6 +217,66 @@ public class TodoListService {
         return list;
     }
 
+    public TodoList getListById(Long userId, Long listId) {
+        TodoList list = listRepository.findById(listId).orElseThrow(() -> new TodoListNotFoundException(listId));
+        validateUserAccess(list, userId);
+        return list;
+    }
+
+    // Like todoNotFound(), the projection checks the owner in SQL, so the list is only looked up on a miss
+    private TodoListNotFoundException listNotFound(Long userId, Long listId) {
+        getListById(userId, listId);
+        return new TodoListNotFoundException(listId);
+    }
+
+    private static void checkVersion(TodoList list, @Nullable Long expectedVersion) {
+        if (expectedVersion != null && expectedVersion != list.getVersion()) {
+            throw new TodoListVersionMismatchException(list.getId());
+        }
+    }
+
+    // Read-modify-write changes are only kept if no other request changed the list since it was loaded
+    private long incrementVersion(TodoList list, @Nullable Long expectedVersion) {
+        if (listRepository.incrementVersionIfUnchanged(list.getId(), list.getVersion()) == 0) {
+            throw listModified(list.getId(), expectedVersion);
+        }
+
+        return list.getVersion() + 1;
+    }
+
+    // The UPDATE locks the list's row until commit, so the version read right after it is the one it set
+    private long incrementVersion(Long userId, Long listId, @Nullable Long expectedVersion) {
+        if (expectedVersion == null) {
+            listRepository.incrementVersion(listId);
+            return listRepository.findVersionByIdAndUserId(listId, userId)
+                .orElseThrow(() -> new TodoListNotFoundException(listId));
+        } else if (listRepository.incrementVersionIfUnchanged(listId, expectedVersion) == 0) {
+            throw listModified(listId, expectedVersion);
+        }
+
+        return expectedVersion + 1;
+    }
+
+    private static RuntimeException listModified(Long listId, @Nullable Long expectedVersion) {
+        return expectedVersion == null
+            ? new ObjectOptimisticLockingFailureException(TodoList.class, listId)
+            : new TodoListVersionMismatchException(listId);
+    }
+
+    private void publishListCreated(TodoList list) {
+        publishChange(list.getUser().getId(), list.getId(), null, CREATED, list.getVersion());
+    }
+
+    private void publishChange(
+        Long userId,
+        Long listId,
+        @Nullable Long todoId,
+        ChangeOperation operation,
+        long version
+    ) {
+        eventPublisher.publishEvent(new ListChangeEvent(userId, listId, todoId, operation, version));
+    }
+
     private void validateUserAccess(TodoList list, Long userId) {
         if (!userId.equals(list.getUser().getId())) {
             throw new UnauthorizedDataAccessException();
@@ -143,91 +285,162 @@ public class TodoListService {
 
     @Transactional
     public void deleteList(Long userId, Long listId) {
-        TodoList list = getListByIdEagerly(userId, listId);
+        TodoList list = getListById(userId, listId);
         ListTypes listType = list.getType();
         if (listType == INBOX || listType == CALENDAR) {
             throw new DeletionProhibitedException(listType);
         }
 
-        listRepository.delete(list);
+        listRepository.deleteListById(listId);
+        publishChange(userId, listId, null, DELETED, list.getVersion());
     }
 
-    public Set<Todo> getTodosFromList(Long userId, Long listId) {
+    public List<Todo> getTodosFromList(Long userId, Long listId) {
         TodoList list = getListByIdEagerly(userId, listId);
         return list.getTodos();
     }
 
+    public TodoPage getTodosPageFromList(
+        Long userId,
+        Long listId,
+        int limit,
+        @Nullable String after,
+        @Nullable String before
+    ) {
+        if (after != null && before != null) {
+            throw new InvalidCursorException();
+        }
+
+        getListById(userId, listId);
+        TodoCursor afterCursor = after == null ? null : TodoCursor.decode(after);
+        TodoCursor beforeCursor = before == null ? null : TodoCursor.decode(before);
+        return todoService.getTodosPage(listId, Math.min(limit, TodoPage.MAX_SIZE), afterCursor, beforeCursor);
+    }
+
     public Todo getTodoFromList(Long userId, Long listId, Long todoId) {
-        TodoList list = getListByIdEagerly(userId, listId);
-        return getTodoFromList(todoId, list);
+        return todoService.getTodo(userId, listId, todoId).orElseThrow(() -> todoNotFound(userId, listId, todoId));
+    }
+
+    // Single-row statements check the owner in SQL and cannot tell why nothing matched, so the list is only looked
+    // up on a miss to report a missing list or a denied access instead of a missing to-do
+    private TodoNotFoundException todoNotFound(Long userId, Long listId, Long todoId) {
+        getListById(userId, listId);
+        return new TodoNotFoundException(todoId);
     }
 
     private Todo getTodoFromList(Long todoId, TodoList parent) {
-        return parent.getTodos().stream()
-            .filter(todo -> todo.getId().equals(todoId))
-            .findFirst().orElseThrow(() -> new TodoNotFoundException(todoId));
+        Todo todo = parent.getTodo(todoId);
+        if (todo == null) {
+            throw new TodoNotFoundException(todoId);
+        }
+
+        return todo;
     }
 
     @Transactional
     public Todo addNewTodoToList(Long userId, Long listId, TodoDTO todoDTO) {
         TodoList list = getListByIdEagerly(userId, listId);
-        return todoService.createTodo(todoDTO, list);
+        Todo newTodo = todoService.createTodo(todoDTO, list);
+        long version = incrementVersion(userId, listId, null);
+        publishChange(userId, listId, newTodo.getId(), CREATED, version);
+        return newTodo;
+    }
+
+    @Transactional
+    public TodoPage addNewTodosToList(Long userId, Long listId, List<TodoDTO> todosDTO) {
+        int maxBatchSize = todoProperties.maxBatchSize();
+        if (todosDTO.size() > maxBatchSize) {
+            throw new BatchSizeExceededException(maxBatchSize);
+        }
+
+        TodoList list = getListById(userId, listId);
+        TodoPage newTodos = todoService.createTodos(todosDTO, list);
+        publishChange(userId, listId, null, UPDATED, incrementVersion(userId, listId, null));
+        return newTodos;
     }
 
     @Transactional
-    public void updateTodoFromList(Long userId, Long listId, Long todoId, TodoDTO todoDTO) {
+    public void updateTodoFromList(
+        Long userId,
+        Long listId,
+        Long todoId,
+        TodoDTO todoDTO,
+        @Nullable Long expectedVersion
+    ) {
+        Integer newPosition = todoDTO.getPosition();
+        if (newPosition == null) {
+            Todo todo = todoService.findTodo(userId, listId, todoId)
+                .orElseThrow(() -> todoNotFound(userId, listId, todoId));
+            todoService.updateTodo(todo, todoDTO);
+            publishChange(userId, listId, todoId, UPDATED, incrementVersion(userId, listId, expectedVersion));
+            return;
+        }
+
+        // Moving a to-do may rewrite its neighbours' sort keys, so the whole list is needed
         TodoList list = getListByIdEagerly(userId, listId);
+        checkVersion(list, expectedVersion);
         Todo todo = getTodoFromList(todoId, list);
-        if (todoDTO.getPosition() > list.getTodos().size()) {
+        if (newPosition > list.getTodos().size()) {
             throw new PositionExceedsMaxAllowedException(todoId);
         }
 
         todoService.updateTodo(todo, todoDTO);
+        todoService.moveTodos(list.getTodos(), Map.of(todoId, newPosition));
+        publishChange(userId, listId, null, UPDATED, incrementVersion(list, expectedVersion));
     }
 
     @Transactional
-    public void updateTodosFromList(Long userId, Long listId, Set<TodoDTO> todosDTO) {
-        TodoList list = getListByIdEagerly(userId, listId);
-        todoService.updateTodos(list.getTodos(), todosDTO);
+    public void patchTodoFromList(
+        Long userId,
+        Long listId,
+        Long todoId,
+        TodoDTO todoDTO,
+        @Nullable Long expectedVersion
+    ) {
+        if (todoDTO.getPosition() != null) {
+            throw new PositionNotPatchableException(todoId);
+        }
+
+        if (!todoService.patchTodo(userId, listId, todoId, todoDTO)) {
+            throw todoNotFound(userId, listId, todoId);
+        }
+
+        publishChange(userId, listId, todoId, UPDATED, incrementVersion(userId, listId, expectedVersion));
     }
 
     @Transactional
-    public void removeTodoFromList(Long userId, Long listId, Long todoId) {
+    public void updateTodosFromList(
+        Long userId,
+        Long listId,
+        Set<TodoDTO> todosDTO,
+        @Nullable Long expectedVersion
+    ) {
         TodoList list = getListByIdEagerly(userId, listId);
-        Todo todo = getTodoFromList(todoId, list);
-        todoService.deleteTodo(todo, list);
-
-        Set<Todo> todos = list.getTodos();
-        adjustTodosPosition(todos);
+        checkVersion(list, expectedVersion);
+        todoService.updateTodos(list.getTodos(), todosDTO);
+        publishChange(userId, listId, null, UPDATED, incrementVersion(list, expectedVersion));
     }
 
-    private void adjustTodosPosition(Set<Todo> todos) {
-        int newPosition = 1;
-        for (Todo todo : todos) {
-            todo.setPosition(newPosition++);
+    @Transactional
+    public void removeTodoFromList(Long userId, Long listId, Long todoId) {
+        if (!todoService.deleteTodo(userId, listId, todoId)) {
+            throw todoNotFound(userId, listId, todoId);
         }
+
+        publishChange(userId, listId, todoId, DELETED, incrementVersion(userId, listId, null));
     }
 
     @Transactional
     public void removeTodosFromList(Long userId, Long listId, Set<Long> todosId) {
-        TodoList list = getListByIdEagerly(userId, listId);
-        Set<Todo> todos = list.getTodos();
-
-        for (Todo todo : new LinkedHashSet<>(todos)) {
-            Long todoId = todo.getId();
-            if (todosId.contains(todoId)) {
-                todoService.deleteTodo(todo, list);
-            }
-        }
-
-        adjustTodosPosition(todos);
+        getListById(userId, listId);
+        todoService.deleteTodos(listId, todosId);
+        publishChange(userId, listId, null, UPDATED, incrementVersion(userId, listId, null));
     }
 
     @Transactional
     public void removeTodosFromList(Long userId, Long listId) {
-        TodoList list = getListByIdEagerly(userId, listId);
-        for (Todo todo : new LinkedHashSet<>(list.getTodos())) {
-            todoService.deleteTodo(todo, list);
-        }
+        getListById(userId, listId);
+        todoService.deleteAllTodos(listId);
+        publishChange(userId, listId, null, UPDATED, incrementVersion(userId, listId, null));
     }
 }
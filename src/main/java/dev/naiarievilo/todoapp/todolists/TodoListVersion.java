@@ -0,0 +1,8 @@
+package dev.naiarievilo.todoapp.todolists;
+
+public record TodoListVersion(Long id, long version) {
+
+    public static TodoListVersion of(TodoList list) {
+        return new TodoListVersion(list.getId(), list.getVersion());
+    }
+}
@@ -1,6 +1,7 @@
 package dev.naiarievilo.todoapp.todolists.dtos;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import dev.naiarievilo.todoapp.todolists.ListTypes;
 import dev.naiarievilo.todoapp.todolists.todos.dtos.TodoDTO;
@@ -14,6 +15,7 @@ import org.springframework.lang.Nullable;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Objects;
 import java.util.Set;
 
 public class TodoListDTO extends RepresentationModel<TodoListDTO> {
@@ -33,10 +35,28 @@ public class TodoListDTO extends RepresentationModel<TodoListDTO> {
 
     private final Set<@Valid TodoDTO> todos;
 
+    @Nullable
+    private final Long todoCount;
+
+    @Nullable
+    private final Long completedCount;
+
     public TodoListDTO(Long id, String title, ListTypes type, LocalDateTime createdAt, LocalDate dueDate) {
         this(id, title, type, createdAt, dueDate, null);
     }
 
+    public TodoListDTO(
+        Long id,
+        String title,
+        ListTypes type,
+        LocalDateTime createdAt,
+        @Nullable LocalDate dueDate,
+        @Nullable Long todoCount,
+        @Nullable Long completedCount
+    ) {
+        this(id, title, type, createdAt, dueDate, null, todoCount, completedCount);
+    }
+
     @JsonCreator
     public TodoListDTO(
         @JsonProperty("id") Long id,
@@ -45,6 +65,19 @@ public class TodoListDTO extends RepresentationModel<TodoListDTO> {
         @JsonProperty("created_at") LocalDateTime createdAt,
         @Nullable @JsonProperty("due_date") LocalDate dueDate,
         @JsonProperty(value = "todos") Set<TodoDTO> todos
+    ) {
+        this(id, title, type, createdAt, dueDate, todos, null, null);
+    }
+
+    private TodoListDTO(
+        Long id,
+        String title,
+        ListTypes type,
+        LocalDateTime createdAt,
+        @Nullable LocalDate dueDate,
+        Set<TodoDTO> todos,
+        @Nullable Long todoCount,
+        @Nullable Long completedCount
     ) {
         this.id = id;
         this.title = title;
@@ -52,6 +85,8 @@ public class TodoListDTO extends RepresentationModel<TodoListDTO> {
         this.createdAt = createdAt;
         this.dueDate = dueDate;
         this.todos = todos;
+        this.todoCount = todoCount;
+        this.completedCount = completedCount;
     }
 
     public Long getId() {
@@ -79,6 +114,24 @@ public class TodoListDTO extends RepresentationModel<TodoListDTO> {
         return todos;
     }
 
+    @Nullable
+    @JsonProperty(value = "todo_count", access = JsonProperty.Access.READ_ONLY)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public Long getTodoCount() {
+        return todoCount;
+    }
+
+    @Nullable
+    @JsonProperty(value = "completed_count", access = JsonProperty.Access.READ_ONLY)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public Long getCompletedCount() {
+        return completedCount;
+    }
+
+    public TodoListDTO withTodos(Set<TodoDTO> todos) {
+        return new TodoListDTO(id, title, type, createdAt, dueDate, todos, todoCount, completedCount);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -88,6 +141,6 @@ public class TodoListDTO extends RepresentationModel<TodoListDTO> {
 
     @Override
     public int hashCode() {
-        return getClass().hashCode();
+        return Objects.hashCode(id);
     }
 }
@@ -1,27 +1,29 @@
 package dev.naiarievilo.todoapp.todolists.dtos;
 
 import dev.naiarievilo.todoapp.todolists.TodoList;
-import dev.naiarievilo.todoapp.todolists.TodoListController;
+import dev.naiarievilo.todoapp.todolists.TodoListLinks;
 import dev.naiarievilo.todoapp.todolists.todos.dtos.TodoDTO;
 import dev.naiarievilo.todoapp.todolists.todos.dtos.TodoMapper;
 import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.Link;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
 import static dev.naiarievilo.todoapp.todolists.ListTypes.CALENDAR;
 import static dev.naiarievilo.todoapp.todolists.ListTypes.INBOX;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 @Component
 public class TodoListMapper {
 
     private final TodoMapper todoMapper;
+    private final TodoListLinks links;
 
-    public TodoListMapper(TodoMapper todoMapper) {
+    public TodoListMapper(TodoMapper todoMapper, TodoListLinks links) {
         this.todoMapper = todoMapper;
+        this.links = links;
     }
 
     public CollectionModel<TodoListDTO> toModels(Set<TodoList> lists, Long userId) {
@@ -33,11 +35,21 @@ public class TodoListMapper {
         return CollectionModel.of(listsDTO).withFallbackType(TodoListDTO.class);
     }
 
+    public CollectionModel<TodoListDTO> toModelsFromDTOs(Collection<TodoListDTO> listsDTO, Long userId) {
+        for (TodoListDTO listDTO : listsDTO) {
+            toModel(listDTO, userId);
+        }
+
+        return CollectionModel.of(listsDTO).withFallbackType(TodoListDTO.class);
+    }
+
     public TodoListDTO toModel(TodoList list, Long userId) {
-        TodoListDTO listDTO = toDTO(list);
-        Long listId = list.getId();
+        return toModel(toDTO(list), userId);
+    }
+
+    public TodoListDTO toModel(TodoListDTO listDTO, Long userId) {
         addLinks(listDTO, userId);
-        todoMapper.addSelfLink(listDTO.getTodos(), userId, listId);
+        todoMapper.addSelfLink(listDTO.getTodos(), userId, listDTO.getId());
         return listDTO;
     }
 
@@ -60,8 +72,8 @@ public class TodoListMapper {
     public void addLinks(TodoListDTO listDTO, Long userId) {
         Long listId = listDTO.getId();
         listDTO.add(
-            linkTo(methodOn(TodoListController.class).getList(userId, listId)).withSelfRel(),
-            linkTo(methodOn(TodoListController.class).getTodosFromList(userId, listId)).withRel("todos")
+            Link.of(links.list(userId, listId)),
+            Link.of(links.todos(userId, listId), "todos")
         );
     }
 
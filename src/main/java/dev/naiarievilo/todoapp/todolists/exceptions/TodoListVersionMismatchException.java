@@ -0,0 +1,8 @@
+package dev.naiarievilo.todoapp.todolists.exceptions;
+
+public class TodoListVersionMismatchException extends RuntimeException {
+
+    public TodoListVersionMismatchException(Long id) {
+        super("To-do list with id '" + id + "' does not match the given ETag.");
+    }
+}
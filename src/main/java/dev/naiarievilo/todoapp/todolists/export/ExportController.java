@@ -0,0 +1,61 @@
+package dev.naiarievilo.todoapp.todolists.export;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.headers.Header;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Tag(name = "Export API")
+@SecurityRequirement(name = "Access Token")
+@RestController
+@RequestMapping("/users/{userId}")
+public class ExportController {
+
+    public static final String EXPORT_FILENAME = "todoapp-export.ndjson";
+
+    private final ExportService exportService;
+
+    public ExportController(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    @Operation(
+        summary = "Export lists and to-dos",
+        description = "Streams every list and to-do owned by the user as newline-delimited JSON, one record per " +
+            "line. All lists come first, followed by their to-dos ordered by list and position. Each record has a " +
+            "`kind` property telling whether it is a `list` or a `todo`.",
+        responses = {
+            @ApiResponse(responseCode = "200",
+                headers = @Header(name = "CONTENT-DISPOSITION", description = "Attachment file name"),
+                content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, examples = @ExampleObject(value =
+                    "{\"kind\": \"list\", \"id\": 1, \"title\": \"Inbox\", \"type\": \"inbox\", " +
+                        "\"created_at\": \"2024-07-01T10:00:00\", \"due_date\": null}\n" +
+                        "{\"kind\": \"todo\", \"id\": 1, \"list_id\": 1, \"task\": \"Buy milk\", " +
+                        "\"completed\": false, \"position\": 1, \"created_at\": \"2024-07-01T10:05:00\", " +
+                        "\"due_date\": null}"
+                ))
+            )
+        }
+    )
+    @GetMapping(path = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportUserData(@PathVariable Long userId) {
+        StreamingResponseBody body = outputStream -> exportService.exportUserData(userId, outputStream);
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(EXPORT_FILENAME).build().toString())
+            .body(body);
+    }
+}
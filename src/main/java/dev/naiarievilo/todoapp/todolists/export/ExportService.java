@@ -0,0 +1,62 @@
+package dev.naiarievilo.todoapp.todolists.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import dev.naiarievilo.todoapp.todolists.TodoListRepository;
+import dev.naiarievilo.todoapp.todolists.todos.TodoRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@Transactional(readOnly = true)
+public class ExportService {
+
+    public static final String KIND_PROPERTY = "kind";
+
+    private final TodoListRepository listRepository;
+    private final TodoRepository todoRepository;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter lineWriter;
+
+    public ExportService(TodoListRepository listRepository, TodoRepository todoRepository, ObjectMapper objectMapper) {
+        this.listRepository = listRepository;
+        this.todoRepository = todoRepository;
+        this.objectMapper = objectMapper;
+        // Lines are flushed by the generator's buffer, not one by one
+        this.lineWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Writes every list of the user, followed by every to-do of those lists ordered by list and position, as
+     * newline-delimited JSON. Rows are read through forward-only cursors and written as they arrive, so memory use
+     * does not depend on how many to-dos the user has.
+     */
+    public void exportUserData(Long userId, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            try (Stream<ListExport> lists = listRepository.streamAllForExport(userId)) {
+                writeLines(generator, lists.iterator());
+            }
+
+            try (Stream<TodoExport> todos = todoRepository.streamAllForExport(userId)) {
+                writeLines(generator, todos.iterator());
+            }
+        }
+    }
+
+    private void writeLines(JsonGenerator generator, Iterator<?> rows) throws IOException {
+        while (rows.hasNext()) {
+            lineWriter.writeValue(generator, rows.next());
+            generator.writeRaw('\n');
+        }
+    }
+}
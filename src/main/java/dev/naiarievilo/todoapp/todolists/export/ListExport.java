@@ -0,0 +1,21 @@
+package dev.naiarievilo.todoapp.todolists.export;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import dev.naiarievilo.todoapp.todolists.ListTypes;
+import org.springframework.lang.Nullable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@JsonTypeName("list")
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = ExportService.KIND_PROPERTY)
+public record ListExport(
+    @JsonProperty("id") Long id,
+    @JsonProperty("title") String title,
+    @JsonProperty("type") ListTypes type,
+    @JsonProperty("created_at") LocalDateTime createdAt,
+    @Nullable @JsonProperty("due_date") LocalDate dueDate
+) {
+}
@@ -0,0 +1,22 @@
+package dev.naiarievilo.todoapp.todolists.export;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import org.springframework.lang.Nullable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@JsonTypeName("todo")
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = ExportService.KIND_PROPERTY)
+public record TodoExport(
+    @JsonProperty("id") Long id,
+    @JsonProperty("list_id") Long listId,
+    @JsonProperty("task") String task,
+    @JsonProperty("completed") boolean completed,
+    @JsonProperty("position") Long position,
+    @JsonProperty("created_at") LocalDateTime createdAt,
+    @Nullable @JsonProperty("due_date") LocalDate dueDate
+) {
+}
@@ -0,0 +1,18 @@
+package dev.naiarievilo.todoapp.todolists.notifications;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+public enum ChangeOperation {
+    CREATED("created"),
+    UPDATED("updated"),
+    DELETED("deleted");
+
+    private final String operation;
+
+    ChangeOperation(String operation) {
+        this.operation = operation;
+    }
+
+    @JsonValue
+    public String getOperation() { return operation; }
+}
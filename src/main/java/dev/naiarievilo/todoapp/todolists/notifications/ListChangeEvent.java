@@ -0,0 +1,20 @@
+package dev.naiarievilo.todoapp.todolists.notifications;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import dev.naiarievilo.todoapp.events.ClusterEvent;
+import org.springframework.lang.Nullable;
+
+/**
+ * Published by {@code TodoListService} for every change to a list or its to-dos, and sent as a
+ * {@link ListChangeNotification} to the owner's notification streams, on every node, once the change commits. Without
+ * a to-do id, the operation applies to the list itself; changes to several to-dos at once are reported as an update of
+ * their list.
+ */
+public record ListChangeEvent(
+    @JsonProperty("user_id") Long userId,
+    @JsonProperty("list_id") Long listId,
+    @Nullable @JsonProperty("todo_id") Long todoId,
+    @JsonProperty("op") ChangeOperation operation,
+    @JsonProperty("version") long version
+) implements ClusterEvent {
+}
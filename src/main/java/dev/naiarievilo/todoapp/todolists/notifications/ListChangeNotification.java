@@ -0,0 +1,20 @@
+package dev.naiarievilo.todoapp.todolists.notifications;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.springframework.lang.Nullable;
+
+/**
+ * What a notification stream receives for a {@link ListChangeEvent}. The owner's id only routes the event between
+ * nodes and to the owner's streams, so it is left out.
+ */
+public record ListChangeNotification(
+    @JsonProperty("list_id") Long listId,
+    @Nullable @JsonProperty("todo_id") Long todoId,
+    @JsonProperty("op") ChangeOperation operation,
+    @JsonProperty("version") long version
+) {
+
+    public static ListChangeNotification of(ListChangeEvent event) {
+        return new ListChangeNotification(event.listId(), event.todoId(), event.operation(), event.version());
+    }
+}
@@ -0,0 +1,46 @@
+package dev.naiarievilo.todoapp.todolists.notifications;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Tag(name = "Notifications API")
+@SecurityRequirement(name = "Access Token")
+@RestController
+@RequestMapping("/users/{userId}")
+public class ListNotificationController {
+
+    private final ListNotificationService notificationService;
+
+    public ListNotificationController(ListNotificationService notificationService) {
+        this.notificationService = notificationService;
+    }
+
+    @Operation(
+        summary = "Stream list changes",
+        description = "Opens a Server-Sent Events stream that sends a `change` event each time one of the user's " +
+            "lists or to-dos is created, updated or deleted. Events only identify what changed, along with the " +
+            "list's new `version`; clients fetch the list again, or call the changes endpoint, when the version " +
+            "differs from the one they hold. A `todo_id` of null means the list itself changed, or several of its " +
+            "to-dos at once. The stream closes after a while, and clients are expected to reconnect.",
+        responses = {
+            @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                examples = @ExampleObject(value = "event:change\n" +
+                    "data:{\"list_id\": 1, \"todo_id\": 4, \"op\": \"updated\", \"version\": 7}"
+                )))
+        }
+    )
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamListChanges(@PathVariable Long userId) {
+        return notificationService.subscribe(userId);
+    }
+}
@@ -0,0 +1,15 @@
+package dev.naiarievilo.todoapp.todolists.notifications;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties("todolists.notifications")
+public record ListNotificationProperties(
+    Duration streamTimeout,
+    Duration heartbeatInterval,
+    int maxStreamsPerUser,
+    int maxPendingSends,
+    int sendThreads,
+    int sendQueueCapacity
+) { }
@@ -0,0 +1,177 @@
+package dev.naiarievilo.todoapp.todolists.notifications;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps the open notification streams of each user and pushes {@link ListChangeEvent}s to them once the change is
+ * committed. Streams are served asynchronously, so an idle stream holds a connection but no servlet thread.
+ */
+@Service
+public class ListNotificationService implements DisposableBean {
+
+    public static final String CHANGE_EVENT = "change";
+
+    private static final Logger logger = LoggerFactory.getLogger(ListNotificationService.class);
+
+    private final Map<Long, Deque<NotificationStream>> streams = new ConcurrentHashMap<>();
+    private final ListNotificationProperties properties;
+    private final ThreadPoolTaskExecutor sendExecutor;
+
+    public ListNotificationService(ListNotificationProperties properties) {
+        this.properties = properties;
+
+        // Not a bean, as any executor bean would replace the application task executor. Slow clients only hold up
+        // this pool, never the MVC async requests and exports run on the application task executor
+        this.sendExecutor = new ThreadPoolTaskExecutor();
+        sendExecutor.setCorePoolSize(properties.sendThreads());
+        sendExecutor.setMaxPoolSize(properties.sendThreads());
+        sendExecutor.setQueueCapacity(properties.sendQueueCapacity());
+        sendExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        sendExecutor.setThreadNamePrefix("list-notifications-");
+        sendExecutor.initialize();
+    }
+
+    /**
+     * Opens a new stream for the user. Once the user has more than the maximum number of streams open, the oldest
+     * one is closed.
+     */
+    public SseEmitter subscribe(Long userId) {
+        NotificationStream stream = new NotificationStream(new SseEmitter(properties.streamTimeout().toMillis()));
+        SseEmitter emitter = stream.emitter();
+        emitter.onCompletion(() -> unsubscribe(userId, stream));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> unsubscribe(userId, stream));
+
+        NotificationStream[] evicted = new NotificationStream[1];
+        streams.compute(userId, (id, userStreams) -> {
+            Deque<NotificationStream> openStreams = userStreams == null ? new ConcurrentLinkedDeque<>() : userStreams;
+            openStreams.addLast(stream);
+            if (openStreams.size() > properties.maxStreamsPerUser()) {
+                evicted[0] = openStreams.pollFirst();
+            }
+            return openStreams;
+        });
+
+        if (evicted[0] != null) {
+            evicted[0].emitter().complete();
+        }
+
+        return emitter;
+    }
+
+    private void unsubscribe(Long userId, NotificationStream stream) {
+        streams.computeIfPresent(userId, (id, userStreams) -> {
+            userStreams.remove(stream);
+            return userStreams.isEmpty() ? null : userStreams;
+        });
+    }
+
+    int countStreams(Long userId) {
+        Deque<NotificationStream> userStreams = streams.get(userId);
+        return userStreams == null ? 0 : userStreams.size();
+    }
+
+    // Sending is left to the send executor, so a slow client cannot hold up the request that made the change. Changes
+    // made on other nodes arrive through the cluster event bus, outside of a transaction
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onListChange(ListChangeEvent event) {
+        Deque<NotificationStream> userStreams = streams.get(event.userId());
+        if (userStreams == null) {
+            return;
+        }
+
+        ListChangeNotification change = ListChangeNotification.of(event);
+        for (NotificationStream stream : userStreams) {
+            schedule(event.userId(), stream, change);
+        }
+    }
+
+    // Comments keep idle streams from being closed by proxies and reveal clients that went away, whose streams are
+    // dropped once the send fails. A stream with sends still pending is not idle, so it is skipped
+    @Scheduled(fixedRateString = "${todolists.notifications.heartbeat-interval}")
+    public void sendHeartbeats() {
+        streams.forEach((userId, userStreams) -> {
+            for (NotificationStream stream : userStreams) {
+                if (stream.pendingSends().get() == 0) {
+                    schedule(userId, stream, null);
+                }
+            }
+        });
+    }
+
+    // A stream whose client has fallen too many sends behind is closed rather than left to pile up sends, and so is
+    // a stream whose change finds the send executor full. Its client reconnects and catches up through the changes
+    // feed. A heartbeat that finds the executor full is only skipped
+    private void schedule(Long userId, NotificationStream stream, @Nullable ListChangeNotification change) {
+        if (stream.pendingSends().incrementAndGet() > properties.maxPendingSends()) {
+            logger.debug("Closing backed up notification stream of user {}", userId);
+            unsubscribe(userId, stream);
+            stream.emitter().complete();
+            return;
+        }
+
+        try {
+            sendExecutor.execute(() -> {
+                try {
+                    send(userId, stream, change);
+                } finally {
+                    stream.pendingSends().decrementAndGet();
+                }
+            });
+        } catch (TaskRejectedException e) {
+            stream.pendingSends().decrementAndGet();
+            if (change != null) {
+                close(userId, stream, e);
+            }
+        }
+    }
+
+    private void send(Long userId, NotificationStream stream, @Nullable ListChangeNotification change) {
+        SseEmitter emitter = stream.emitter();
+        try {
+            if (change == null) {
+                emitter.send(SseEmitter.event().comment(""));
+            } else {
+                emitter.send(SseEmitter.event().name(CHANGE_EVENT).data(change, MediaType.APPLICATION_JSON));
+            }
+        } catch (IOException | IllegalStateException e) {
+            close(userId, stream, e);
+        }
+    }
+
+    private void close(Long userId, NotificationStream stream, Exception e) {
+        logger.debug("Closing notification stream of user {}", userId, e);
+        unsubscribe(userId, stream);
+        stream.emitter().completeWithError(e);
+    }
+
+    @Override
+    public void destroy() {
+        sendExecutor.shutdown();
+    }
+
+    private record NotificationStream(SseEmitter emitter, AtomicInteger pendingSends) {
+
+        NotificationStream(SseEmitter emitter) {
+            this(emitter, new AtomicInteger());
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package dev.naiarievilo.todoapp.todolists.sync;
+
+/**
+ * A row of a delta-sync response, ordered by the value it drew from {@code changes_seq} when last written.
+ */
+interface Change {
+
+    long changeSeq();
+}
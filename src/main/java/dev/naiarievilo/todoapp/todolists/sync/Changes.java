@@ -0,0 +1,17 @@
+package dev.naiarievilo.todoapp.todolists.sync;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record Changes(
+    @JsonProperty("lists") List<ListChange> lists,
+    @JsonProperty("todos") List<TodoChange> todos,
+    @JsonProperty("deletions") List<Deletion> deletions,
+    @JsonProperty("cursor") long cursor,
+    @JsonProperty("has_more") boolean hasMore
+) {
+
+    public static final int MAX_SIZE = 500;
+
+}
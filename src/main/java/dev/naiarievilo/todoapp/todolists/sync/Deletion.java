@@ -0,0 +1,13 @@
+package dev.naiarievilo.todoapp.todolists.sync;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.springframework.lang.Nullable;
+
+public record Deletion(
+    @JsonIgnore long changeSeq,
+    @JsonProperty("type") String recordType,
+    @JsonProperty("id") Long recordId,
+    @Nullable @JsonProperty("list_id") Long listId
+) implements Change {
+}
@@ -0,0 +1,20 @@
+package dev.naiarievilo.todoapp.todolists.sync;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import dev.naiarievilo.todoapp.todolists.ListTypes;
+import org.springframework.lang.Nullable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record ListChange(
+    @JsonIgnore long changeSeq,
+    @JsonProperty("id") Long id,
+    @JsonProperty("title") String title,
+    @JsonProperty("type") ListTypes type,
+    @JsonProperty("created_at") LocalDateTime createdAt,
+    @Nullable @JsonProperty("due_date") LocalDate dueDate,
+    @JsonProperty("version") long version
+) implements Change {
+}
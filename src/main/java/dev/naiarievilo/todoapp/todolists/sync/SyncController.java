@@ -0,0 +1,58 @@
+package dev.naiarievilo.todoapp.todolists.sync;
+
+import dev.naiarievilo.todoapp.validation.Positive;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Sync API")
+@SecurityRequirement(name = "Access Token")
+@RestController
+@RequestMapping("/users/{userId}")
+public class SyncController {
+
+    public static final String SINCE_PARAM = "since";
+    public static final String LIMIT_PARAM = "limit";
+
+    private final SyncService syncService;
+
+    public SyncController(SyncService syncService) {
+        this.syncService = syncService;
+    }
+
+    @Operation(
+        summary = "Get changes since cursor",
+        description = "Returns the lists and to-dos created or updated after the given cursor, and the ones deleted " +
+            "since, in the order they were written. Pass the returned `cursor` as `since` on the next call, or omit " +
+            "`since` to sync from scratch; while `has_more` is true, more changes are waiting. A list is also " +
+            "returned, with its new `version`, whenever its to-dos change. To-dos carry their `sort_key` instead of " +
+            "a position, so each list's order is rebuilt by sorting its to-dos by `sort_key` and `id`. When a list " +
+            "is deleted, its to-dos are gone as well. Up to `limit` rows are returned, capped at " +
+            Changes.MAX_SIZE + ".",
+        responses = {
+            @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                examples = @ExampleObject(value = "{\"lists\": [{\"id\": 1, \"title\": \"Inbox\", \"type\": " +
+                    "\"inbox\", \"created_at\": \"2024-07-01T10:00:00\", \"due_date\": null, \"version\": 3}], " +
+                    "\"todos\": [{\"id\": 4, \"list_id\": 1, \"task\": \"Buy milk\", \"completed\": true, " +
+                    "\"sort_key\": 65536, \"created_at\": \"2024-07-01T10:05:00\", \"due_date\": null}], " +
+                    "\"deletions\": [{\"type\": \"todo\", \"id\": 5, \"list_id\": 1}], \"cursor\": 1287, " +
+                    "\"has_more\": false}"
+                )))
+        }
+    )
+    @GetMapping("/changes")
+    @ResponseStatus(HttpStatus.OK)
+    public Changes getChanges(
+        @PathVariable Long userId,
+        @RequestParam(name = SINCE_PARAM, defaultValue = "0") long since,
+        @RequestParam(name = LIMIT_PARAM, defaultValue = "" + Changes.MAX_SIZE) @Positive Integer limit
+    ) {
+        return syncService.getChanges(userId, Math.max(since, 0), Math.min(limit, Changes.MAX_SIZE));
+    }
+}
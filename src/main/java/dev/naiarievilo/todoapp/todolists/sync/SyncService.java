@@ -0,0 +1,86 @@
+package dev.naiarievilo.todoapp.todolists.sync;
+
+import dev.naiarievilo.todoapp.todolists.TodoListRepository;
+import dev.naiarievilo.todoapp.todolists.todos.TodoRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class SyncService {
+
+    private final TodoListRepository listRepository;
+    private final TodoRepository todoRepository;
+    private final TombstoneRepository tombstoneRepository;
+
+    public SyncService(
+        TodoListRepository listRepository,
+        TodoRepository todoRepository,
+        TombstoneRepository tombstoneRepository
+    ) {
+        this.listRepository = listRepository;
+        this.todoRepository = todoRepository;
+        this.tombstoneRepository = tombstoneRepository;
+    }
+
+    /**
+     * Returns up to {@code limit} lists, to-dos and deletions of the user written after {@code since}, in the order
+     * they were written, along with the cursor to pass as {@code since} next time. Each kind of row is read through
+     * an index on the user and the change sequence, so the cost depends on how much changed, not on how much the
+     * user has.
+     * <p>
+     * Unless called within a transaction, each query runs in a transaction of its own, so the user's writers wait on
+     * the lock taken to read the horizon only as long as that read lasts. Writes of other users never wait on it.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Changes getChanges(Long userId, long since, int limit) {
+        long until = tombstoneRepository.findChangesHorizon(userId);
+        if (until <= since) {
+            return new Changes(List.of(), List.of(), List.of(), since, false);
+        }
+
+        Limit rowLimit = Limit.of(limit + 1);
+        List<ListChange> lists = listRepository.findAllChangedBetween(userId, since, until, rowLimit);
+        List<TodoChange> todos = todoRepository.findAllChangedBetween(userId, since, until, rowLimit);
+        // A client syncing from scratch holds nothing that could have been deleted
+        List<Deletion> deletions = since == 0
+            ? List.of()
+            : tombstoneRepository.findAllDeletedBetween(userId, since, until, rowLimit);
+
+        if (lists.size() + todos.size() + deletions.size() <= limit) {
+            return new Changes(lists, todos, deletions, until, false);
+        }
+
+        // Each query returns rows in sequence order, so the page ends at the limit-th lowest sequence among them
+        long cursor = sortedChangeSeqs(lists, todos, deletions)[limit - 1];
+        return new Changes(upTo(lists, cursor), upTo(todos, cursor), upTo(deletions, cursor), cursor, true);
+    }
+
+    @SafeVarargs
+    private static long[] sortedChangeSeqs(List<? extends Change>... changeLists) {
+        List<Long> changeSeqs = new ArrayList<>();
+        for (List<? extends Change> changes : changeLists) {
+            for (Change change : changes) {
+                changeSeqs.add(change.changeSeq());
+            }
+        }
+
+        return changeSeqs.stream().mapToLong(Long::longValue).sorted().toArray();
+    }
+
+    private static <T extends Change> List<T> upTo(List<T> changes, long cursor) {
+        List<T> page = new ArrayList<>(changes.size());
+        for (T change : changes) {
+            if (change.changeSeq() > cursor) {
+                break;
+            }
+            page.add(change);
+        }
+
+        return page;
+    }
+}
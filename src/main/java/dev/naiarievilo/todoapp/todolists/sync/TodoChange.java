@@ -0,0 +1,24 @@
+package dev.naiarievilo.todoapp.todolists.sync;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.springframework.lang.Nullable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * A changed to-do. Moving a to-do only rewrites its own sort key, so positions are left for clients to derive by
+ * ordering each list's to-dos by sort key and id.
+ */
+public record TodoChange(
+    @JsonIgnore long changeSeq,
+    @JsonProperty("id") Long id,
+    @JsonProperty("list_id") Long listId,
+    @JsonProperty("task") String task,
+    @JsonProperty("completed") boolean completed,
+    @JsonProperty("sort_key") long sortKey,
+    @JsonProperty("created_at") LocalDateTime createdAt,
+    @Nullable @JsonProperty("due_date") LocalDate dueDate
+) implements Change {
+}
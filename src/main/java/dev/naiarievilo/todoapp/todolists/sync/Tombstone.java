@@ -0,0 +1,49 @@
+package dev.naiarievilo.todoapp.todolists.sync;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Immutable;
+import org.springframework.lang.Nullable;
+
+/**
+ * Records the deletion of a list or to-do. Rows are only written by database triggers on {@code todo_lists} and
+ * {@code todos}, so deletions made by bulk statements and cascades are recorded as well.
+ */
+@Entity(name = "Tombstone")
+@Table(name = "sync_tombstones")
+@Immutable
+public class Tombstone {
+
+    public static final String LIST = "list";
+    public static final String TODO = "todo";
+
+    @Id
+    @Column(name = "change_seq", nullable = false, updatable = false)
+    private Long changeSeq;
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private Long userId;
+
+    @Column(name = "record_type", length = 16, nullable = false, updatable = false)
+    private String recordType;
+
+    @Column(name = "record_id", nullable = false, updatable = false)
+    private Long recordId;
+
+    @Nullable
+    @Column(name = "list_id", updatable = false)
+    private Long listId;
+
+    public Long getChangeSeq() { return changeSeq; }
+
+    public Long getUserId() { return userId; }
+
+    public String getRecordType() { return recordType; }
+
+    public Long getRecordId() { return recordId; }
+
+    @Nullable
+    public Long getListId() { return listId; }
+}
@@ -0,0 +1,32 @@
+package dev.naiarievilo.todoapp.todolists.sync;
+
+import io.hypersistence.utils.spring.repository.BaseJpaRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Transactional(readOnly = true)
+public interface TombstoneRepository extends BaseJpaRepository<Tombstone, Long> {
+
+    @Query("""
+          SELECT new dev.naiarievilo.todoapp.todolists.sync.Deletion(
+                 ts.changeSeq, ts.recordType, ts.recordId, ts.listId
+                 )
+            FROM Tombstone AS ts
+           WHERE ts.userId = :userId
+             AND ts.changeSeq > :since
+             AND ts.changeSeq <= :until
+        ORDER BY ts.changeSeq
+        """)
+    List<Deletion> findAllDeletedBetween(Long userId, long since, long until, Limit limit);
+
+    /**
+     * Returns the highest value drawn from {@code changes_seq} once every transaction that drew a value up to it for
+     * the user's rows has finished, so the user's rows past a cursor below it can no longer appear. The user's writers
+     * wait for the transaction reading it to end, so it should be read in a transaction of its own.
+     */
+    @Query(value = "SELECT changes_horizon(:userId)", nativeQuery = true)
+    long findChangesHorizon(Long userId);
+}
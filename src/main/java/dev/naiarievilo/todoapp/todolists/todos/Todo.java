@@ -2,17 +2,23 @@ package dev.naiarievilo.todoapp.todolists.todos;
 
 import dev.naiarievilo.todoapp.todolists.TodoList;
 import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 import org.springframework.lang.Nullable;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity(name = "Todo")
-@Table(name = "todos")
+@Table(name = "todos", indexes = {
+    @Index(name = "idx_todos_list_sort_key", columnList = "todo_list_id, sort_key, id"),
+    @Index(name = "idx_todos_list_change_seq", columnList = "todo_list_id, change_seq")
+})
 public class Todo {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todos_seq")
+    @SequenceGenerator(name = "todos_seq", sequenceName = "todos_seq", allocationSize = 50)
     @Column(name = "id", nullable = false, updatable = false)
     private Long id;
 
@@ -22,7 +28,10 @@ public class Todo {
     @Column(name = "completed", nullable = false)
     private boolean completed = false;
 
-    @Column(name = "position", nullable = false)
+    @Column(name = "sort_key", nullable = false)
+    private long sortKey;
+
+    @Transient
     private int position;
 
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -32,9 +41,15 @@ public class Todo {
     @Column(name = "due_date")
     private LocalDate dueDate;
 
+    // Drawn from changes_seq by a database trigger on every insert and update; not refreshed after writes
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private long changeSeq;
+
     @Nullable
+    // Matches the foreign key created by Liquibase, which deleting a list relies on
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "todo_list_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private TodoList list;
 
     public Long getId() { return id; }
@@ -49,6 +64,10 @@ public class Todo {
 
     public void setCompleted(boolean completed) { this.completed = completed; }
 
+    public long getSortKey() { return sortKey; }
+
+    public void setSortKey(long sortKey) { this.sortKey = sortKey; }
+
     public int getPosition() { return position; }
 
     public void setPosition(int position) { this.position = position; }
@@ -62,6 +81,8 @@ public class Todo {
 
     public void setDueDate(@Nullable LocalDate dueDate) { this.dueDate = dueDate; }
 
+    public long getChangeSeq() { return changeSeq; }
+
     @Nullable
     public TodoList getList() { return list; }
 
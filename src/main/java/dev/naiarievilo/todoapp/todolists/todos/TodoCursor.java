@@ -0,0 +1,34 @@
+package dev.naiarievilo.todoapp.todolists.todos;
+
+import dev.naiarievilo.todoapp.todolists.todos.exceptions.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public record TodoCursor(long sortKey, long id) {
+
+    private static final String SEPARATOR = ":";
+
+    public static TodoCursor of(Todo todo) {
+        return new TodoCursor(todo.getSortKey(), todo.getId());
+    }
+
+    public static TodoCursor decode(String cursor) {
+        try {
+            String decodedCursor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] keys = decodedCursor.split(SEPARATOR);
+            if (keys.length != 2) {
+                throw new InvalidCursorException(cursor);
+            }
+
+            return new TodoCursor(Long.parseLong(keys[0]), Long.parseLong(keys[1]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
+    public String encode() {
+        String cursor = sortKey + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,17 @@
+package dev.naiarievilo.todoapp.todolists.todos;
+
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+public record TodoPage(
+    List<Todo> todos,
+    int size,
+    int offset,
+    @Nullable TodoCursor previous,
+    @Nullable TodoCursor next
+) {
+
+    public static final int MAX_SIZE = 500;
+
+}
@@ -0,0 +1,10 @@
+package dev.naiarievilo.todoapp.todolists.todos;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties("todos")
+public record TodoProperties(
+    DataSize maxBatchBodySize,
+    int maxBatchSize
+) { }
@@ -1,10 +1,24 @@
 package dev.naiarievilo.todoapp.todolists.todos;
 
+import dev.naiarievilo.todoapp.todolists.export.TodoExport;
+import dev.naiarievilo.todoapp.todolists.sync.TodoChange;
 import io.hypersistence.utils.spring.repository.BaseJpaRepository;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.lang.Nullable;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static dev.naiarievilo.todoapp.todolists.TodoListRepository.EXPORT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Transactional(readOnly = true)
 public interface TodoRepository extends BaseJpaRepository<Todo, Long> {
@@ -18,4 +32,144 @@ public interface TodoRepository extends BaseJpaRepository<Todo, Long> {
         """)
     Optional<Todo> findByIdEagerly(Long id);
 
+    @Query("""
+        SELECT t
+          FROM Todo AS t
+          JOIN t.list AS l
+         WHERE t.id = :todoId
+           AND l.id = :listId
+           AND l.user.id = :userId
+        """)
+    Optional<Todo> findByIdAndListIdAndUserId(Long todoId, Long listId, Long userId);
+
+    @Query("""
+          SELECT t
+            FROM Todo AS t
+           WHERE t.list.id = :listId
+        ORDER BY t.sortKey, t.id
+        """)
+    List<Todo> findFirstPage(Long listId, Limit limit);
+
+    @Query("""
+          SELECT t
+            FROM Todo AS t
+           WHERE t.list.id = :listId
+             AND (t.sortKey > :sortKey OR (t.sortKey = :sortKey AND t.id > :id))
+        ORDER BY t.sortKey, t.id
+        """)
+    List<Todo> findPageAfter(Long listId, long sortKey, long id, Limit limit);
+
+    @Query("""
+          SELECT t
+            FROM Todo AS t
+           WHERE t.list.id = :listId
+             AND (t.sortKey < :sortKey OR (t.sortKey = :sortKey AND t.id < :id))
+        ORDER BY t.sortKey DESC, t.id DESC
+        """)
+    List<Todo> findPageBefore(Long listId, long sortKey, long id, Limit limit);
+
+    @Query("""
+        SELECT count(t)
+          FROM Todo AS t
+         WHERE t.list.id = :listId
+           AND (t.sortKey < :sortKey OR (t.sortKey = :sortKey AND t.id < :id))
+        """)
+    long countBefore(Long listId, long sortKey, long id);
+
+    @Query("""
+        SELECT count(t)
+          FROM Todo AS t
+         WHERE t.list.id = :listId
+        """)
+    long countByListId(Long listId);
+
+    @Query("""
+        SELECT coalesce(max(t.sortKey), 0)
+          FROM Todo AS t
+         WHERE t.list.id = :listId
+        """)
+    long findLastSortKey(Long listId);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query("""
+          SELECT new dev.naiarievilo.todoapp.todolists.export.TodoExport(
+                 t.id, t.list.id, t.task, t.completed,
+                 row_number() OVER (PARTITION BY t.list.id ORDER BY t.sortKey, t.id),
+                 t.createdAt, t.dueDate
+                 )
+            FROM Todo AS t
+           WHERE t.list.user.id = :userId
+        ORDER BY t.list.id, t.sortKey, t.id
+        """)
+    Stream<TodoExport> streamAllForExport(Long userId);
+
+    @Query("""
+          SELECT new dev.naiarievilo.todoapp.todolists.sync.TodoChange(
+                 t.changeSeq, t.id, t.list.id, t.task, t.completed, t.sortKey, t.createdAt, t.dueDate
+                 )
+            FROM Todo AS t
+           WHERE t.list.user.id = :userId
+             AND t.changeSeq > :since
+             AND t.changeSeq <= :until
+        ORDER BY t.changeSeq
+        """)
+    List<TodoChange> findAllChangedBetween(Long userId, long since, long until, Limit limit);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE Todo AS t
+           SET t.task = coalesce(:task, t.task),
+               t.completed = coalesce(:completed, t.completed),
+               t.dueDate = CASE WHEN :dueDateGiven = true THEN :dueDate ELSE t.dueDate END
+         WHERE t.id = :todoId
+           AND t.list.id = :listId
+           AND EXISTS (SELECT l
+                         FROM TodoList AS l
+                        WHERE l.id = :listId
+                          AND l.user.id = :userId)
+        """)
+    int updatePartially(
+        Long todoId,
+        Long listId,
+        Long userId,
+        @Nullable String task,
+        @Nullable Boolean completed,
+        boolean dueDateGiven,
+        @Nullable LocalDate dueDate
+    );
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        DELETE
+          FROM Todo AS t
+         WHERE t.id = :todoId
+           AND t.list.id = :listId
+           AND EXISTS (SELECT l
+                         FROM TodoList AS l
+                        WHERE l.id = :listId
+                          AND l.user.id = :userId)
+        """)
+    int deleteByIdAndListIdAndUserId(Long todoId, Long listId, Long userId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        DELETE
+          FROM Todo AS t
+         WHERE t.list.id = :listId
+           AND t.id IN :todosId
+        """)
+    int deleteAllByListIdAndIdIn(Long listId, Collection<Long> todosId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        DELETE
+          FROM Todo AS t
+         WHERE t.list.id = :listId
+        """)
+    int deleteAllByListId(Long listId);
+
 }
@@ -5,20 +5,21 @@ import dev.naiarievilo.todoapp.todolists.todos.dtos.TodoDTO;
 import dev.naiarievilo.todoapp.todolists.todos.dtos.TodoMapper;
 import dev.naiarievilo.todoapp.todolists.todos.exceptions.PositionExceedsMaxAllowedException;
 import dev.naiarievilo.todoapp.todolists.todos.exceptions.PositionNotUniqueException;
+import org.springframework.data.domain.Limit;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
 
 @Service
 @Transactional(propagation = Propagation.SUPPORTS)
 public class TodoService {
 
+    public static final long SORT_KEY_GAP = 1L << 16;
+
     private final TodoRepository todoRepository;
     private final TodoMapper todoMapper;
 
@@ -28,20 +29,109 @@ public class TodoService {
     }
 
     public Todo createTodo(TodoDTO todoDTO, TodoList list) {
+        List<Todo> todos = list.getTodos();
+        long lastSortKey = 0;
+        for (Todo todo : todos) {
+            lastSortKey = Math.max(lastSortKey, todo.getSortKey());
+        }
+
         Todo newTodo = todoMapper.toNewEntity(todoDTO);
-        newTodo.setPosition(list.getTodos().size() + 1);
+        newTodo.setSortKey(lastSortKey + SORT_KEY_GAP);
+        newTodo.setPosition(todos.size() + 1);
         list.addTodo(newTodo);
         todoRepository.persist(newTodo);
         return newTodo;
     }
 
-    public void updateTodos(Set<Todo> todos, Set<TodoDTO> todosDTO) {
-        Map<Long, Todo> todosMap = new HashMap<>();
+    public TodoPage createTodos(List<TodoDTO> todosDTO, TodoList list) {
+        Long listId = list.getId();
+        long sortKey = todoRepository.findLastSortKey(listId);
+        int offset = (int) todoRepository.countByListId(listId);
+
+        // Adding to an uninitialized collection would load every to-do of the list, so new to-dos are only linked
+        // to it unless it was already loaded in this session
+        boolean todosLoaded = list.isTodosInitialized();
+        List<Todo> newTodos = new ArrayList<>(todosDTO.size());
+        int position = offset;
+        for (TodoDTO todoDTO : todosDTO) {
+            Todo newTodo = todoMapper.toNewEntity(todoDTO);
+            sortKey += SORT_KEY_GAP;
+            newTodo.setSortKey(sortKey);
+            newTodo.setPosition(++position);
+            if (todosLoaded) {
+                list.addTodo(newTodo);
+            } else {
+                newTodo.setList(list);
+            }
+            newTodos.add(newTodo);
+        }
+
+        todoRepository.persistAll(newTodos);
+        return new TodoPage(newTodos, newTodos.size(), offset, null, null);
+    }
+
+    /**
+     * Finds a to-do of the given user's list with a single query that checks the list's owner.
+     */
+    public Optional<Todo> findTodo(Long userId, Long listId, Long todoId) {
+        return todoRepository.findByIdAndListIdAndUserId(todoId, listId, userId);
+    }
+
+    /**
+     * Same as {@link #findTodo}, with the to-do's position in the list counted from its sort key.
+     */
+    public Optional<Todo> getTodo(Long userId, Long listId, Long todoId) {
+        Optional<Todo> todo = findTodo(userId, listId, todoId);
+        todo.ifPresent(t -> t.setPosition((int) todoRepository.countBefore(listId, t.getSortKey(), t.getId()) + 1));
+        return todo;
+    }
+
+    public TodoPage getTodosPage(Long listId, int limit, @Nullable TodoCursor after, @Nullable TodoCursor before) {
+        Limit pageLimit = Limit.of(limit + 1);
+
+        List<Todo> todos;
+        TodoCursor previous;
+        TodoCursor next;
+        if (before != null) {
+            todos = new ArrayList<>(todoRepository.findPageBefore(listId, before.sortKey(), before.id(), pageLimit));
+            boolean hasPrevious = todos.size() > limit;
+            if (hasPrevious) {
+                todos.removeLast();
+            }
+
+            Collections.reverse(todos);
+            previous = hasPrevious ? TodoCursor.of(todos.getFirst()) : null;
+            next = todos.isEmpty() ? null : TodoCursor.of(todos.getLast());
+        } else {
+            todos = new ArrayList<>(after == null
+                ? todoRepository.findFirstPage(listId, pageLimit)
+                : todoRepository.findPageAfter(listId, after.sortKey(), after.id(), pageLimit));
+            boolean hasNext = todos.size() > limit;
+            if (hasNext) {
+                todos.removeLast();
+            }
+
+            previous = after == null || todos.isEmpty() ? null : TodoCursor.of(todos.getFirst());
+            next = hasNext ? TodoCursor.of(todos.getLast()) : null;
+        }
+
+        int offset = 0;
+        if ((after != null || before != null) && !todos.isEmpty()) {
+            Todo first = todos.getFirst();
+            offset = (int) todoRepository.countBefore(listId, first.getSortKey(), first.getId());
+        }
+
+        return new TodoPage(todos, limit, offset, previous, next);
+    }
+
+    public void updateTodos(Collection<Todo> todos, Set<TodoDTO> todosDTO) {
+        Map<Long, Todo> todosMap = HashMap.newHashMap(todos.size());
         for (Todo todo : todos) {
             todosMap.put(todo.getId(), todo);
         }
 
         Integer maxPositionAllowed = todos.size();
+        Map<Long, Integer> newPositions = new HashMap<>();
         Set<Integer> newPositionsRecorded = new HashSet<>();
         for (TodoDTO todoDTO : todosDTO) {
             Todo todo = todosMap.get(todoDTO.getId());
@@ -49,15 +139,22 @@ public class TodoService {
                 continue;
             }
 
-            if (todoDTO.getPosition() > maxPositionAllowed) {
-                throw new PositionExceedsMaxAllowedException(todo.getId());
-            } else if (newPositionsRecorded.contains(todoDTO.getPosition())) {
-                throw new PositionNotUniqueException(todo.getId());
+            Integer newPosition = todoDTO.getPosition();
+            if (newPosition != null) {
+                if (newPosition > maxPositionAllowed) {
+                    throw new PositionExceedsMaxAllowedException(todo.getId());
+                } else if (newPositionsRecorded.contains(newPosition)) {
+                    throw new PositionNotUniqueException(todo.getId());
+                }
+
+                newPositions.put(todo.getId(), newPosition);
+                newPositionsRecorded.add(newPosition);
             }
 
             updateTodo(todo, todoDTO);
-            newPositionsRecorded.add(todoDTO.getPosition());
         }
+
+        moveTodos(todos, newPositions);
     }
 
     public void updateTodo(Todo todo, TodoDTO todoDTO) {
@@ -65,7 +162,130 @@ public class TodoService {
         todoRepository.update(todo);
     }
 
-    public void synchronizeWithListDueDate(Set<Todo> todos, LocalDate listDueDate) {
+    /**
+     * Sets the task, completion and due date given in the DTO with a single UPDATE, leaving absent fields unchanged.
+     * The due date is cleared when given as null. Returns whether a to-do of the given user's list was updated.
+     */
+    public boolean patchTodo(Long userId, Long listId, Long todoId, TodoDTO todoDTO) {
+        return todoRepository.updatePartially(todoId, listId, userId, todoDTO.getTask(), todoDTO.getCompleted(),
+            todoDTO.isDueDateGiven(), todoDTO.getDueDate()) == 1;
+    }
+
+    /**
+     * Places each to-do whose id is mapped to a new position at that position, keeping the relative order of the
+     * remaining ones. Sort keys are only rewritten for to-dos outside the longest already ordered run, so a move
+     * touches as few rows as possible; the whole list is rebalanced only when no key fits between two neighbours.
+     */
+    public void moveTodos(Collection<Todo> todos, Map<Long, Integer> newPositions) {
+        List<Todo> currentOrder = new ArrayList<>(todos);
+        currentOrder.sort(Comparator.comparingLong(Todo::getSortKey).thenComparing(Todo::getId));
+
+        Todo[] newOrder = new Todo[currentOrder.size()];
+        for (Todo todo : currentOrder) {
+            Integer newPosition = newPositions.get(todo.getId());
+            if (newPosition != null) {
+                newOrder[newPosition - 1] = todo;
+            }
+        }
+
+        int slot = 0;
+        for (Todo todo : currentOrder) {
+            if (newPositions.containsKey(todo.getId())) {
+                continue;
+            }
+
+            while (newOrder[slot] != null) {
+                slot++;
+            }
+            newOrder[slot] = todo;
+        }
+
+        assignSortKeys(newOrder);
+        for (int i = 0; i < newOrder.length; i++) {
+            newOrder[i].setPosition(i + 1);
+        }
+    }
+
+    private void assignSortKeys(Todo[] todos) {
+        boolean[] ordered = longestIncreasingRun(todos);
+
+        int i = 0;
+        while (i < todos.length) {
+            if (ordered[i]) {
+                i++;
+                continue;
+            }
+
+            int start = i;
+            while (i < todos.length && !ordered[i]) {
+                i++;
+            }
+
+            int runLength = i - start;
+            if (start == 0) {
+                long upper = todos[i].getSortKey();
+                for (int j = 0; j < runLength; j++) {
+                    todos[start + j].setSortKey(upper - (runLength - j) * SORT_KEY_GAP);
+                }
+            } else if (i == todos.length) {
+                long lower = todos[start - 1].getSortKey();
+                for (int j = 0; j < runLength; j++) {
+                    todos[start + j].setSortKey(lower + (j + 1) * SORT_KEY_GAP);
+                }
+            } else {
+                long lower = todos[start - 1].getSortKey();
+                long step = (todos[i].getSortKey() - lower) / (runLength + 1);
+                if (step == 0) {
+                    rebalanceSortKeys(todos);
+                    return;
+                }
+
+                for (int j = 0; j < runLength; j++) {
+                    todos[start + j].setSortKey(lower + (j + 1) * step);
+                }
+            }
+        }
+    }
+
+    private boolean[] longestIncreasingRun(Todo[] todos) {
+        int[] tails = new int[todos.length];
+        int[] predecessors = new int[todos.length];
+        int length = 0;
+        for (int i = 0; i < todos.length; i++) {
+            long sortKey = todos[i].getSortKey();
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (todos[tails[middle]].getSortKey() < sortKey) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+
+            predecessors[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            if (low == length) {
+                length++;
+            }
+        }
+
+        boolean[] ordered = new boolean[todos.length];
+        for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = predecessors[i]) {
+            ordered[i] = true;
+        }
+
+        return ordered;
+    }
+
+    private void rebalanceSortKeys(Todo[] todos) {
+        for (int i = 0; i < todos.length; i++) {
+            todos[i].setSortKey((i + 1) * SORT_KEY_GAP);
+        }
+    }
+
+    public void synchronizeWithListDueDate(Collection<Todo> todos, LocalDate listDueDate) {
         for (Todo todo : todos) {
             if (todo.getDueDate() != null) {
                 todo.setDueDate(listDueDate);
@@ -78,4 +298,24 @@ public class TodoService {
         list.removeTodo(todo);
         todoRepository.delete(todo);
     }
+
+    /**
+     * Deletes a to-do of the given user's list with a single statement. Returns whether it was deleted.
+     */
+    public boolean deleteTodo(Long userId, Long listId, Long todoId) {
+        return todoRepository.deleteByIdAndListIdAndUserId(todoId, listId, userId) == 1;
+    }
+
+    // Sort keys are sparse, so the remaining to-dos keep their order without being rewritten
+    public int deleteTodos(Long listId, Set<Long> todosId) {
+        if (todosId.isEmpty()) {
+            return 0;
+        }
+
+        return todoRepository.deleteAllByListIdAndIdIn(listId, todosId);
+    }
+
+    public int deleteAllTodos(Long listId) {
+        return todoRepository.deleteAllByListId(listId);
+    }
 }
@@ -1,6 +1,7 @@
 package dev.naiarievilo.todoapp.todolists.todos.dtos;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import dev.naiarievilo.todoapp.validation.NotBlank;
 import dev.naiarievilo.todoapp.validation.NotNull;
@@ -10,6 +11,7 @@ import org.springframework.hateoas.RepresentationModel;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 public class TodoDTO extends RepresentationModel<TodoDTO> {
 
@@ -27,20 +29,22 @@ public class TodoDTO extends RepresentationModel<TodoDTO> {
 
     private final LocalDateTime createdAt;
 
-    private final LocalDate dueDate;
+    private LocalDate dueDate;
+
+    // A due date of null is either absent or given to clear it, which only partial updates tell apart
+    private boolean dueDateGiven;
 
     public TodoDTO(String task, Boolean completed, Integer position, LocalDate dueDate) {
         this(null, task, completed, position, null, dueDate);
     }
 
-    @JsonCreator
     public TodoDTO(
-        @JsonProperty("id") Long id,
-        @JsonProperty("task") String task,
-        @JsonProperty("completed") Boolean completed,
-        @JsonProperty("position") Integer position,
-        @JsonProperty("created_at") LocalDateTime createdAt,
-        @JsonProperty("due_date") LocalDate dueDate
+        Long id,
+        String task,
+        Boolean completed,
+        Integer position,
+        LocalDateTime createdAt,
+        LocalDate dueDate
     ) {
         this.id = id;
         this.task = task;
@@ -48,6 +52,24 @@ public class TodoDTO extends RepresentationModel<TodoDTO> {
         this.position = position;
         this.createdAt = createdAt;
         this.dueDate = dueDate;
+        this.dueDateGiven = dueDate != null;
+    }
+
+    @JsonCreator
+    private TodoDTO(
+        @JsonProperty("id") Long id,
+        @JsonProperty("task") String task,
+        @JsonProperty("completed") Boolean completed,
+        @JsonProperty("position") Integer position,
+        @JsonProperty("created_at") LocalDateTime createdAt
+    ) {
+        this(id, task, completed, position, createdAt, null);
+    }
+
+    @JsonProperty("due_date")
+    private void setDueDate(LocalDate dueDate) {
+        this.dueDate = dueDate;
+        this.dueDateGiven = true;
     }
 
     public Boolean getCompleted() {
@@ -62,10 +84,16 @@ public class TodoDTO extends RepresentationModel<TodoDTO> {
         return createdAt;
     }
 
+    @JsonProperty("due_date")
     public LocalDate getDueDate() {
         return dueDate;
     }
 
+    @JsonIgnore
+    public boolean isDueDateGiven() {
+        return dueDateGiven;
+    }
+
     public Long getId() {
         return id;
     }
@@ -83,6 +111,6 @@ public class TodoDTO extends RepresentationModel<TodoDTO> {
 
     @Override
     public int hashCode() {
-        return getClass().hashCode();
+        return Objects.hashCode(id);
     }
 }
@@ -1,53 +1,104 @@
 package dev.naiarievilo.todoapp.todolists.todos.dtos;
 
-import dev.naiarievilo.todoapp.todolists.TodoListController;
+import dev.naiarievilo.todoapp.todolists.TodoListLinks;
 import dev.naiarievilo.todoapp.todolists.todos.Todo;
+import dev.naiarievilo.todoapp.todolists.todos.TodoCursor;
+import dev.naiarievilo.todoapp.todolists.todos.TodoPage;
 import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
 import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+import static dev.naiarievilo.todoapp.todolists.TodoListController.*;
 
 @Component
 public class TodoMapper {
 
-    public Set<TodoDTO> toDTOs(Set<Todo> todos) {
+    private final TodoListLinks links;
+
+    public TodoMapper(TodoListLinks links) {
+        this.links = links;
+    }
+
+    public Set<TodoDTO> toDTOs(Collection<Todo> todos) {
         if (todos == null || todos.isEmpty()) {
             return new LinkedHashSet<>();
         }
 
         Set<TodoDTO> todoDTOSet = new LinkedHashSet<>();
+        int position = 1;
         for (Todo todo : todos) {
-            todoDTOSet.add(toDTO(todo));
+            todoDTOSet.add(toDTO(todo, position++));
         }
 
         return todoDTOSet;
     }
 
     public TodoDTO toDTO(Todo todo) {
+        return toDTO(todo, todo.getPosition());
+    }
+
+    private TodoDTO toDTO(Todo todo, int position) {
         return new TodoDTO(
             todo.getId(),
             todo.getTask(),
             todo.isCompleted(),
-            todo.getPosition(),
+            position,
             todo.getCreatedAt(),
             todo.getDueDate()
         );
     }
 
-    public CollectionModel<TodoDTO> toModels(Set<Todo> todos, Long userId, Long listId) {
+    public CollectionModel<TodoDTO> toModels(Collection<Todo> todos, Long userId, Long listId) {
+        return toModels(todos, 0, userId, listId);
+    }
+
+    private CollectionModel<TodoDTO> toModels(Collection<Todo> todos, int offset, Long userId, Long listId) {
         Set<TodoDTO> todosDTO = new LinkedHashSet<>();
+        int position = offset + 1;
         for (Todo todo : todos) {
-            TodoDTO todoDTO = toModel(todo, userId, listId);
+            TodoDTO todoDTO = toDTO(todo, position++);
+            addSelfLink(todoDTO, userId, listId);
             todosDTO.add(todoDTO);
         }
 
         return CollectionModel.of(todosDTO).withFallbackType(TodoDTO.class);
     }
 
+    public CollectionModel<TodoDTO> toModels(TodoPage page, Long userId, Long listId) {
+        CollectionModel<TodoDTO> todosModel = toModels(page.todos(), page.offset(), userId, listId);
+        if (page.previous() != null) {
+            todosModel.add(pageLink(userId, listId, page.size(), BEFORE_PARAM, page.previous(), IanaLinkRelations.PREV));
+        }
+
+        if (page.next() != null) {
+            todosModel.add(pageLink(userId, listId, page.size(), AFTER_PARAM, page.next(), IanaLinkRelations.NEXT));
+        }
+
+        return todosModel;
+    }
+
+    private Link pageLink(
+        Long userId,
+        Long listId,
+        int limit,
+        String cursorParam,
+        TodoCursor cursor,
+        LinkRelation relation
+    ) {
+        String href = UriComponentsBuilder.fromUriString(links.todos(userId, listId))
+            .queryParam(LIMIT_PARAM, limit)
+            .queryParam(cursorParam, cursor.encode())
+            .toUriString();
+        return Link.of(href, relation);
+    }
+
     public TodoDTO toModel(Todo todo, Long userId, Long listId) {
         TodoDTO todoDTO = toDTO(todo);
         addSelfLink(todoDTO, userId, listId);
@@ -55,15 +106,16 @@ public class TodoMapper {
     }
 
     public void addSelfLink(TodoDTO todoDTO, Long userId, Long listId) {
-        Long todoId = todoDTO.getId();
-        todoDTO.add(linkTo(methodOn(TodoListController.class).getTodoFromList(userId, listId, todoId)).withSelfRel());
+        todoDTO.add(Link.of(links.todo(userId, listId, todoDTO.getId())));
     }
 
     public Todo toEntity(TodoDTO todoDTO) {
         Todo todo = new Todo();
         todo.setTask(todoDTO.getTask());
         todo.setCompleted(todoDTO.getCompleted());
-        todo.setPosition(todoDTO.getPosition());
+        if (todoDTO.getPosition() != null) {
+            todo.setPosition(todoDTO.getPosition());
+        }
         todo.setDueDate(todoDTO.getDueDate());
         return todo;
     }
@@ -79,7 +131,9 @@ public class TodoMapper {
     public void updateEntityFromDTO(Todo todo, TodoDTO todoDTO) {
         todo.setTask(todoDTO.getTask());
         todo.setCompleted(todoDTO.getCompleted());
-        todo.setPosition(todoDTO.getPosition());
+        if (todoDTO.getPosition() != null) {
+            todo.setPosition(todoDTO.getPosition());
+        }
         todo.setDueDate(todoDTO.getDueDate());
     }
 
@@ -0,0 +1,8 @@
+package dev.naiarievilo.todoapp.todolists.todos.exceptions;
+
+public class BatchBodyTooLargeException extends RuntimeException {
+
+    public BatchBodyTooLargeException(long maxBodySize) {
+        super("To-dos added at once cannot take more than " + maxBodySize + " bytes");
+    }
+}
@@ -0,0 +1,8 @@
+package dev.naiarievilo.todoapp.todolists.todos.exceptions;
+
+public class BatchSizeExceededException extends RuntimeException {
+
+    public BatchSizeExceededException(int maxBatchSize) {
+        super("No more than " + maxBatchSize + " to-dos can be added at once");
+    }
+}
@@ -0,0 +1,14 @@
+package dev.naiarievilo.todoapp.todolists.todos.exceptions;
+
+public class InvalidCursorException extends RuntimeException {
+
+    private static final String DEFAULT_MESSAGE = "Only one of 'after' and 'before' cursors can be provided";
+
+    public InvalidCursorException() {
+        super(DEFAULT_MESSAGE);
+    }
+
+    public InvalidCursorException(String cursor) {
+        super("Cursor '" + cursor + "' is not valid");
+    }
+}
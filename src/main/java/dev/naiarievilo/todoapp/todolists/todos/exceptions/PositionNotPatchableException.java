@@ -0,0 +1,8 @@
+package dev.naiarievilo.todoapp.todolists.todos.exceptions;
+
+public class PositionNotPatchableException extends RuntimeException {
+
+    public PositionNotPatchableException(Long todoId) {
+        super("Position of to-do with id '" + todoId + "' can only be changed by updating the whole to-do");
+    }
+}
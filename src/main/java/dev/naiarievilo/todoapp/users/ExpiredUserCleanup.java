@@ -0,0 +1,48 @@
+package dev.naiarievilo.todoapp.users;
+
+import dev.naiarievilo.todoapp.users.exceptions.UserNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Deletes the expired users seen while authenticating requests, outside of those requests. Requests only queue the
+ * user, so a burst of requests from an expired account costs one deletion instead of many racing ones. Users still
+ * queued when the application stops are left to the weekly deletion of unverified users.
+ */
+@Component
+public class ExpiredUserCleanup {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExpiredUserCleanup.class);
+
+    private final Set<Long> expiredUsers = ConcurrentHashMap.newKeySet();
+    private final UserService userService;
+
+    public ExpiredUserCleanup(UserService userService) {
+        this.userService = userService;
+    }
+
+    public void enqueue(Long userId) {
+        expiredUsers.add(userId);
+    }
+
+    // Users are dequeued once deleted, so requests arriving meanwhile do not queue them again
+    @Scheduled(fixedDelayString = "${tasks.expired-users-cleanup}")
+    public void deleteExpiredUsers() {
+        for (Long userId : expiredUsers) {
+            try {
+                userService.deleteUserIfExpired(userId);
+            } catch (UserNotFoundException e) {
+                // Already deleted by another node or by the weekly task
+            } catch (RuntimeException e) {
+                logger.warn("Failed to delete expired user {}", userId, e);
+            } finally {
+                expiredUsers.remove(userId);
+            }
+        }
+    }
+}
@@ -109,10 +109,6 @@ public class User {
         this.loginAttempts = loginAttempts;
     }
 
-    public void addLoginAttempt() {
-        loginAttempts++;
-    }
-
     @Nullable
     public LocalDateTime getLastLoginAttempt() { return lastLoginAttempt; }
 
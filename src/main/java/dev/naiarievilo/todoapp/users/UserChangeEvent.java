@@ -0,0 +1,13 @@
+package dev.naiarievilo.todoapp.users;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import dev.naiarievilo.todoapp.events.ClusterEvent;
+
+/**
+ * Published by {@link UserService} when a user's account changes or is deleted, so that every node drops what it
+ * cached about the user.
+ */
+public record UserChangeEvent(
+    @JsonProperty("user_id") Long userId
+) implements ClusterEvent {
+}
@@ -1,7 +1,7 @@
 package dev.naiarievilo.todoapp.users;
 
 import com.auth0.jwt.interfaces.DecodedJWT;
-import dev.naiarievilo.todoapp.mailing.EmailService;
+import dev.naiarievilo.todoapp.mailing.EmailOutbox;
 import dev.naiarievilo.todoapp.security.AuthenticatedUser;
 import dev.naiarievilo.todoapp.security.EmailPasswordAuthenticationToken;
 import dev.naiarievilo.todoapp.security.UserAuthenticationToken;
@@ -23,17 +23,19 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.mail.MailException;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
 
+import static dev.naiarievilo.todoapp.mailing.EmailType.*;
 import static dev.naiarievilo.todoapp.security.jwt.JwtTokens.*;
 import static dev.naiarievilo.todoapp.security.jwt.TokenTypes.*;
 
@@ -45,17 +47,17 @@ public class UserController {
     public static final String REFRESH_TOKEN_HEADER = "Refresh-Token";
 
     private final AuthenticationManager authenticationManager;
-    private final EmailService emailService;
+    private final EmailOutbox emailOutbox;
     private final JwtService jwtService;
     private final UserService userService;
     private final UserInfoService userInfoService;
 
     public UserController(AuthenticationManager authenticationManager, UserService userService, JwtService jwtService
-        , EmailService emailService, UserInfoService userInfoService) {
+        , EmailOutbox emailOutbox, UserInfoService userInfoService) {
         this.authenticationManager = authenticationManager;
         this.userService = userService;
         this.jwtService = jwtService;
-        this.emailService = emailService;
+        this.emailOutbox = emailOutbox;
         this.userInfoService = userInfoService;
     }
 
@@ -110,10 +112,13 @@ public class UserController {
     )
     @PostMapping("/authentication")
     @ResponseStatus(HttpStatus.OK)
-    public ResponseEntity<UserDTO> authenticateUser(@RequestBody @Validated(UserAuthentication.class) UserDTO userDTO) {
-        var authentication = (UserAuthenticationToken) authenticationManager.authenticate(
-            EmailPasswordAuthenticationToken.unauthenticated(userDTO.getEmail(), userDTO.getPassword())
-        );
+    public ResponseEntity<UserDTO> authenticateUser(
+        @RequestBody @Validated(UserAuthentication.class) UserDTO userDTO,
+        HttpServletRequest request
+    ) {
+        var token = EmailPasswordAuthenticationToken.unauthenticated(userDTO.getEmail(), userDTO.getPassword());
+        token.setDetails(new WebAuthenticationDetails(request));
+        var authentication = (UserAuthenticationToken) authenticationManager.authenticate(token);
 
         User user = authentication.getPrincipal();
         Map<String, String> tokens = jwtService.createAccessAndRefreshTokens(user);
@@ -163,7 +168,7 @@ public class UserController {
     ) {
         User user = userService.getUserByEmail(userDTO.getEmail());
         if (user.isLocked()) {
-            emailService.sendUnlockUserMessage(user);
+            emailOutbox.enqueue(user, UNLOCK_USER);
         }
     }
 
@@ -190,7 +195,7 @@ public class UserController {
     public void enableUserRequest(@RequestBody @Validated(UserSecurity.class) UserDTO userDTO) {
         User user = userService.getUserByEmail(userDTO.getEmail());
         if (!user.isEnabled()) {
-            emailService.sendEnableUserMessage(user);
+            emailOutbox.enqueue(user, ENABLE_USER);
         }
     }
 
@@ -239,7 +244,7 @@ public class UserController {
         @AuthenticatedUser User user,
         @RequestBody @Validated(EmailUpdate.class) CredentialsUpdateDTO newCredentials
     ) {
-        userService.updateEmail(user, newCredentials.newEmail());
+        userService.updateEmail(userService.getUserById(user.getId()), newCredentials.newEmail());
     }
 
     @Operation(
@@ -250,8 +255,8 @@ public class UserController {
         security = {@SecurityRequirement(name = "Access Token")})
     @PostMapping("/{userId}/verification")
     @ResponseStatus(HttpStatus.OK)
-    public void verifyEmailRequest(@PathVariable Long userId, @AuthenticatedUser User user) throws MailException {
-        emailService.sendEmailVerificationMessage(user);
+    public void verifyEmailRequest(@PathVariable Long userId, @AuthenticatedUser User user) {
+        emailOutbox.enqueue(user, EMAIL_VERIFICATION);
     }
 
     @Operation(
@@ -272,7 +277,8 @@ public class UserController {
         @AuthenticatedUser User user,
         @RequestBody @Validated(PasswordUpdate.class) CredentialsUpdateDTO newCredentials
     ) {
-        userService.updatePassword(user, newCredentials.currentPassword(), newCredentials.newPassword());
+        User currentUser = userService.getUserById(user.getId());
+        userService.updatePassword(currentUser, newCredentials.currentPassword(), newCredentials.newPassword());
     }
 
     @Operation(summary = "Update email and password", security = {@SecurityRequirement(name = "Access Token")})
@@ -283,8 +289,9 @@ public class UserController {
         @AuthenticatedUser User user,
         @RequestBody @Validated(CredentialsUpdate.class) CredentialsUpdateDTO newCredentials
     ) {
-        userService.updateEmail(user, newCredentials.newEmail());
-        userService.updatePassword(user, newCredentials.currentPassword(), newCredentials.newPassword());
+        User currentUser = userService.getUserById(user.getId());
+        userService.updateEmail(currentUser, newCredentials.newEmail());
+        userService.updatePassword(currentUser, newCredentials.currentPassword(), newCredentials.newPassword());
     }
 
     @Operation(summary = "Get user information", security = {@SecurityRequirement(name = "Access Token")})
@@ -1,9 +1,12 @@
 package dev.naiarievilo.todoapp.users;
 
 import io.hypersistence.utils.spring.repository.BaseJpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,4 +35,35 @@ public interface UserRepository extends BaseJpaRepository<User, Long> {
     void deleteByEmail(String email);
 
     List<User> findAllByVerified(Boolean verified);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE User AS u
+           SET u.loginAttempts = u.loginAttempts + :attempts,
+               u.lastLoginAttempt = :lastLoginAttempt
+         WHERE u.id = :userId
+        """)
+    void addLoginAttempts(Long userId, int attempts, LocalDateTime lastLoginAttempt);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE User AS u
+           SET u.loginAttempts = 0,
+               u.lastLogin = :lastLogin
+         WHERE u.id = :userId
+        """)
+    void resetLoginAttempts(Long userId, LocalDate lastLogin);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE User AS u
+           SET u.locked = true
+         WHERE u.id = :userId
+           AND u.locked = false
+           AND u.loginAttempts >= :maxLoginAttempts
+        """)
+    int lockIfLoginAttemptsReached(Long userId, int maxLoginAttempts);
 }
@@ -1,12 +1,16 @@
 package dev.naiarievilo.todoapp.users;
 
+import dev.naiarievilo.todoapp.mailing.EmailOutbox;
 import dev.naiarievilo.todoapp.roles.Role;
 import dev.naiarievilo.todoapp.roles.RoleService;
+import dev.naiarievilo.todoapp.security.PrincipalCache;
 import dev.naiarievilo.todoapp.users.dtos.UserCreationDTO;
 import dev.naiarievilo.todoapp.users.exceptions.EmailAlreadyRegisteredException;
 import dev.naiarievilo.todoapp.users.exceptions.UserAlreadyExistsException;
 import dev.naiarievilo.todoapp.users.exceptions.UserNotFoundException;
 import dev.naiarievilo.todoapp.users.info.UserInfoService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.lang.Nullable;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -20,6 +24,7 @@ import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import static dev.naiarievilo.todoapp.mailing.EmailType.LOCK_USER;
 import static dev.naiarievilo.todoapp.roles.Roles.ROLE_USER;
 
 @Service
@@ -28,17 +33,24 @@ public class UserService {
 
     public static final int EMAIL_CONFIRMATION_PERIOD = 7;
 
+    private final EmailOutbox emailOutbox;
+    private final ApplicationEventPublisher eventPublisher;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
     private final RoleService roleService;
     private final UserInfoService userInfoService;
     private final UserRepository userRepository;
 
     public UserService(UserRepository userRepository, UserInfoService userInfoService, RoleService roleService,
-        PasswordEncoder passwordEncoder) {
+        PasswordEncoder passwordEncoder, PrincipalCache principalCache, ApplicationEventPublisher eventPublisher,
+        EmailOutbox emailOutbox) {
         this.userRepository = userRepository;
         this.userInfoService = userInfoService;
         this.roleService = roleService;
         this.passwordEncoder = passwordEncoder;
+        this.principalCache = principalCache;
+        this.eventPublisher = eventPublisher;
+        this.emailOutbox = emailOutbox;
     }
 
     public static Set<GrantedAuthority> getRolesFromUser(User user) {
@@ -57,6 +69,12 @@ public class UserService {
         return !user.isVerified() && LocalDateTime.now().isAfter(emailAuthenticationPeriod);
     }
 
+    // The principal cache of this node is evicted right away; the ones of other nodes once the change commits
+    private void userChanged(Long userId) {
+        principalCache.invalidate(userId);
+        eventPublisher.publishEvent(new UserChangeEvent(userId));
+    }
+
     public boolean userExists(Long id) {
         return userRepository.findById(id).isPresent();
     }
@@ -69,6 +87,7 @@ public class UserService {
 
         user.setVerified(true);
         userRepository.update(user);
+        userChanged(user.getId());
     }
 
     public User getUserByEmail(String email) {
@@ -112,6 +131,18 @@ public class UserService {
         user.removeAllRoles();
         userInfoService.deleteUserInfo(user.getId());
         userRepository.delete(user);
+        userChanged(id);
+    }
+
+    // Checked again, as the user may have verified their email since they were found expired
+    @Transactional
+    public boolean deleteUserIfExpired(Long id) {
+        if (!isUserExpired(getUserByIdEagerly(id))) {
+            return false;
+        }
+
+        deleteUser(id);
+        return true;
     }
 
     public User getUserByIdEagerly(Long id) {
@@ -128,6 +159,7 @@ public class UserService {
 
         user.setEmail(newEmail);
         userRepository.update(user);
+        userChanged(user.getId());
         return user;
     }
 
@@ -141,6 +173,7 @@ public class UserService {
 
         user.setPassword(passwordEncoder.encode(newPassword));
         userRepository.update(user);
+        userChanged(user.getId());
         return user;
     }
 
@@ -152,6 +185,8 @@ public class UserService {
 
         user.setLocked(true);
         userRepository.update(user);
+        userChanged(user.getId());
+        emailOutbox.enqueue(user, LOCK_USER);
         return user;
     }
 
@@ -163,6 +198,7 @@ public class UserService {
 
         user.setLocked(false);
         userRepository.update(user);
+        userChanged(user.getId());
         return user;
     }
 
@@ -173,6 +209,7 @@ public class UserService {
         }
         user.setEnabled(false);
         userRepository.update(user);
+        userChanged(user.getId());
         return user;
     }
 
@@ -183,23 +220,59 @@ public class UserService {
         }
         user.setEnabled(true);
         userRepository.update(user);
+        userChanged(user.getId());
         return user;
     }
 
+    // Login attempts are added in SQL, so the attempts recorded by every node add up instead of overwriting each other
+    @Transactional
+    public void addLoginAttempts(Long userId, int attempts, LocalDateTime lastLoginAttempt) {
+        userRepository.addLoginAttempts(userId, attempts, lastLoginAttempt);
+    }
+
     @Transactional
-    public void addLoginAttempt(User user) {
-        user.addLoginAttempt();
-        user.setLastLoginAttempt(LocalDateTime.now());
-        // Invoking `update` instead of `merge` throws `PersistentObjectException`
-        userRepository.merge(user);
+    public void resetLoginAttempts(Long userId) {
+        userRepository.resetLoginAttempts(userId, LocalDate.now());
     }
 
+    /**
+     * Locks the user if their stored login attempts reached the maximum allowed. Only the node whose update flips
+     * the lock sends the lock email, so a user is locked, and notified, exactly once.
+     */
     @Transactional
-    public void resetLoginAttempts(User user) {
-        user.setLoginAttempts((byte) 0);
-        user.setLastLogin(LocalDate.now());
-        // Invoking `update` instead of `merge` throws `PersistentObjectException`
-        userRepository.merge(user);
+    public boolean lockUserIfLoginAttemptsReached(Long userId, int maxLoginAttempts) {
+        if (userRepository.lockIfLoginAttemptsReached(userId, maxLoginAttempts) == 0) {
+            return false;
+        }
+
+        userChanged(userId);
+        emailOutbox.enqueue(userId, LOCK_USER);
+        return true;
+    }
+
+    /**
+     * Writes the login attempts recorded since the last write in a single transaction: the reset first, if the user
+     * logged in meanwhile, then the failures that followed it, locking the user if they reached the maximum allowed.
+     * Either all of it is written or none of it, so a failed write can be retried without counting failures twice.
+     */
+    @Transactional
+    public boolean writeLoginAttempts(
+        Long userId,
+        boolean reset,
+        int failures,
+        @Nullable LocalDateTime lastFailure,
+        int maxLoginAttempts
+    ) {
+        if (reset) {
+            userRepository.resetLoginAttempts(userId, LocalDate.now());
+        }
+
+        if (failures == 0 || lastFailure == null) {
+            return false;
+        }
+
+        userRepository.addLoginAttempts(userId, failures, lastFailure);
+        return lockUserIfLoginAttemptsReached(userId, maxLoginAttempts);
     }
 
 }
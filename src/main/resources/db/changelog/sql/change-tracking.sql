@@ -0,0 +1,92 @@
+-- Change tracking for delta sync, shared by Liquibase and by the test profile, which installs it again on top of the
+-- schema generated by Hibernate.
+--
+-- Writers take an advisory lock on the owner of the row in shared mode before drawing a sequence value, and hold it
+-- until commit. changes_horizon() takes the lock of the user being synced exclusively until the end of its
+-- transaction, so every value of that user up to the one it returns is settled, and a sync cursor never moves past a
+-- change that is yet to commit. Locks are per user, so a sync only waits for the writes of its own user; users whose
+-- keys collide merely wait for each other. Callers must read the horizon in a transaction of its own, as the user's
+-- writers wait for that transaction to end.
+
+CREATE OR REPLACE FUNCTION lock_user_changes(owner_id BIGINT, exclusive BOOLEAN) RETURNS VOID AS $$
+BEGIN
+    IF exclusive THEN
+        PERFORM pg_advisory_xact_lock(4242, hashint8(owner_id));
+    ELSE
+        PERFORM pg_advisory_xact_lock_shared(4242, hashint8(owner_id));
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION next_change_seq(owner_id BIGINT) RETURNS BIGINT AS $$
+BEGIN
+    PERFORM lock_user_changes(owner_id, false);
+    RETURN nextval('changes_seq');
+END;
+$$ LANGUAGE plpgsql;
+
+-- Values drawn after the lock is taken are above last_value, so they cannot fall behind the returned horizon
+CREATE OR REPLACE FUNCTION changes_horizon(owner_id BIGINT) RETURNS BIGINT AS $$
+DECLARE
+    horizon BIGINT;
+BEGIN
+    PERFORM lock_user_changes(owner_id, true);
+    SELECT CASE WHEN is_called THEN last_value ELSE 0 END INTO horizon FROM changes_seq;
+    RETURN horizon;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION track_todo_list_change() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.change_seq := next_change_seq(NEW.user_id);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION track_todo_change() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.change_seq := next_change_seq((SELECT user_id FROM todo_lists WHERE id = NEW.todo_list_id));
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION track_todo_list_deletion() RETURNS TRIGGER AS $$
+BEGIN
+    -- Lists removed along with their user need no tombstone, as nobody is left to sync them
+    IF EXISTS (SELECT 1 FROM users WHERE id = OLD.user_id) THEN
+        INSERT INTO sync_tombstones (change_seq, user_id, record_type, record_id)
+        VALUES (next_change_seq(OLD.user_id), OLD.user_id, 'list', OLD.id);
+    END IF;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION track_todo_deletion() RETURNS TRIGGER AS $$
+DECLARE
+    owner_id BIGINT;
+BEGIN
+    -- To-dos removed by the foreign key's cascade, once their list is gone, are covered by the list's tombstone
+    SELECT user_id INTO owner_id FROM todo_lists WHERE id = OLD.todo_list_id;
+    IF FOUND THEN
+        INSERT INTO sync_tombstones (change_seq, user_id, record_type, record_id, list_id)
+        VALUES (next_change_seq(owner_id), owner_id, 'todo', OLD.id, OLD.todo_list_id);
+    END IF;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE TRIGGER trg_todo_lists_change
+    BEFORE INSERT OR UPDATE ON todo_lists
+    FOR EACH ROW EXECUTE FUNCTION track_todo_list_change();
+
+CREATE OR REPLACE TRIGGER trg_todos_change
+    BEFORE INSERT OR UPDATE ON todos
+    FOR EACH ROW EXECUTE FUNCTION track_todo_change();
+
+CREATE OR REPLACE TRIGGER trg_todo_lists_deletion
+    AFTER DELETE ON todo_lists
+    FOR EACH ROW EXECUTE FUNCTION track_todo_list_deletion();
+
+CREATE OR REPLACE TRIGGER trg_todos_deletion
+    AFTER DELETE ON todos
+    FOR EACH ROW EXECUTE FUNCTION track_todo_deletion();
@@ -8,7 +8,9 @@ public class ResponseConstants {
     public static final String FORBIDDEN = "[403 FORBIDDEN] ";
     public static final String NOT_FOUND = "[404 NOT_FOUND] ";
     public static final String NO_CONTENT = "[204 NO_CONTENT] ";
+    public static final String NOT_MODIFIED = "[304 NOT_MODIFIED] ";
     public static final String OK = "[200 OK] ";
+    public static final String PRECONDITION_FAILED = "[412 PRECONDITION_FAILED] ";
     public static final String RETURNS_ERROR_MESSAGES_WHEN = "Returns error message(s) when ";
     public static final String UNAUTHORIZED = "[401 UNAUTHORIZED] ";
 
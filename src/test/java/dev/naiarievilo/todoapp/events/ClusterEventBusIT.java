@@ -0,0 +1,158 @@
+package dev.naiarievilo.todoapp.events;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static dev.naiarievilo.todoapp.events.ClusterEventBusTestCases.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Not transactional, since Postgres only delivers notifications once their transaction commits
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class ClusterEventBusIT {
+
+    private static final long TIMEOUT_MILLIS = 5000;
+    private static final String OTHER_NODE = "other-node";
+
+    @Autowired
+    ClusterEventBus eventBus;
+
+    @Autowired
+    ClusterEventProperties properties;
+
+    @Autowired
+    JdbcConnectionDetails connectionDetails;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    BlockingQueue<TestEvent> receivedEvents;
+
+    private Connection otherNode;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        receivedEvents.clear();
+        otherNode = DriverManager.getConnection(
+            connectionDetails.getJdbcUrl(), connectionDetails.getUsername(), connectionDetails.getPassword()
+        );
+        try (Statement statement = otherNode.createStatement()) {
+            statement.execute("LISTEN \"" + properties.channel() + "\"");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        otherNode.close();
+    }
+
+    private PGNotification[] receiveOnOtherNode() throws SQLException {
+        PGNotification[] notifications = otherNode.unwrap(PGConnection.class).getNotifications((int) TIMEOUT_MILLIS);
+        return notifications == null ? new PGNotification[0] : notifications;
+    }
+
+    private void sendFrom(String origin, TestEvent event) throws Exception {
+        String message = objectMapper.writeValueAsString(
+            new EventMessage(origin, TestEvent.class.getName(), objectMapper.valueToTree(event))
+        );
+        jdbcTemplate.queryForObject("SELECT count(pg_notify(?, ?))", Long.class, properties.channel(), message);
+    }
+
+    @Test
+    @DisplayName("relay(): " + NOTIFIES_OTHER_NODES_WHEN_TRANSACTION_COMMITS)
+    void relay_TransactionCommits_NotifiesOtherNodes() throws Exception {
+        TestEvent event = new TestEvent("committed");
+        transactionTemplate.executeWithoutResult(status -> eventPublisher.publishEvent(event));
+
+        PGNotification[] notifications = receiveOnOtherNode();
+        assertEquals(1, notifications.length);
+
+        EventMessage message = objectMapper.readValue(notifications[0].getParameter(), EventMessage.class);
+        assertEquals(eventBus.getOrigin(), message.origin());
+        assertEquals(TestEvent.class.getName(), message.type());
+        assertEquals(event, objectMapper.treeToValue(message.payload(), TestEvent.class));
+    }
+
+    @Test
+    @DisplayName("relay(): " + DOES_NOT_NOTIFY_OTHER_NODES_WHEN_TRANSACTION_ROLLS_BACK)
+    void relay_TransactionRollsBack_DoesNotNotifyOtherNodes() throws Exception {
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new TestEvent("rolled back"));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(0, receiveOnOtherNode().length);
+    }
+
+    @Test
+    @DisplayName("listen(): " + PUBLISHES_EVENTS_OF_OTHER_NODES_LOCALLY)
+    void listen_EventSentByOtherNode_PublishesEventLocally() throws Exception {
+        TestEvent event = new TestEvent("remote");
+        sendFrom(OTHER_NODE, event);
+
+        assertEquals(event, receivedEvents.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("listen(): " + IGNORES_EVENTS_SENT_BY_ITS_OWN_NODE)
+    void listen_EventSentByOwnNode_IgnoresEvent() throws Exception {
+        sendFrom(eventBus.getOrigin(), new TestEvent("local"));
+        TestEvent remoteEvent = new TestEvent("remote");
+        sendFrom(OTHER_NODE, remoteEvent);
+
+        // Notifications are delivered in order, so the local event would have been received first
+        assertEquals(remoteEvent, receivedEvents.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        assertTrue(receivedEvents.isEmpty());
+    }
+
+    record TestEvent(@JsonProperty("value") String value) implements ClusterEvent {
+    }
+
+    @TestConfiguration
+    static class TestEventConfiguration {
+
+        private final BlockingQueue<TestEvent> receivedEvents = new LinkedBlockingQueue<>();
+
+        @Bean
+        BlockingQueue<TestEvent> receivedEvents() {
+            return receivedEvents;
+        }
+
+        @EventListener
+        public void onTestEvent(TestEvent event) {
+            receivedEvents.add(event);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package dev.naiarievilo.todoapp.events;
+
+public class ClusterEventBusTestCases {
+
+    public static final String NOTIFIES_OTHER_NODES_WHEN_TRANSACTION_COMMITS =
+        "Notifies the other nodes of the event when the transaction commits";
+    public static final String DOES_NOT_NOTIFY_OTHER_NODES_WHEN_TRANSACTION_ROLLS_BACK =
+        "Does not notify the other nodes of the event when the transaction rolls back";
+    public static final String PUBLISHES_EVENTS_OF_OTHER_NODES_LOCALLY =
+        "Publishes the events sent by other nodes on the local application context";
+    public static final String IGNORES_EVENTS_SENT_BY_ITS_OWN_NODE =
+        "Ignores the events sent by its own node, which were already published locally";
+}
@@ -0,0 +1,120 @@
+package dev.naiarievilo.todoapp.mailing;
+
+import dev.naiarievilo.todoapp.users.User;
+import dev.naiarievilo.todoapp.users.UserService;
+import dev.naiarievilo.todoapp.users.exceptions.UserNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static dev.naiarievilo.todoapp.mailing.EmailDispatcherTestCases.*;
+import static dev.naiarievilo.todoapp.mailing.EmailType.LOCK_USER;
+import static dev.naiarievilo.todoapp.users.UsersTestConstants.USER_ID_1;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class EmailDispatcherTest {
+
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+
+    @Mock
+    private EmailService emailService;
+    @Mock
+    private OutboxEmailRepository outboxRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private UserService userService;
+    private EmailDispatcher emailDispatcher;
+
+    private EmailDispatcher newDispatcher(int maxAttempts) {
+        EmailOutboxProperties properties = new EmailOutboxProperties(
+            Duration.ofSeconds(5), 50, 2, maxAttempts, INITIAL_BACKOFF, MAX_BACKOFF, Duration.ofMinutes(5)
+        );
+        return new EmailDispatcher(emailService, outboxRepository, properties, transactionTemplate, userService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (emailDispatcher != null) {
+            emailDispatcher.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("send(): " + DEQUEUES_EMAIL_WHEN_SENT)
+    void send_EmailSent_DequeuesEmail() {
+        emailDispatcher = newDispatcher(3);
+        OutboxEmail email = new OutboxEmail(USER_ID_1, LOCK_USER);
+        User user = new User();
+        given(userService.getUserById(USER_ID_1)).willReturn(user);
+
+        emailDispatcher.send(email);
+        verify(emailService).send(LOCK_USER, user);
+        verify(outboxRepository).dequeue(email.getId());
+        verify(outboxRepository, never()).reschedule(any(), any());
+    }
+
+    @Test
+    @DisplayName("send(): " + DEQUEUES_EMAIL_WHEN_USER_NO_LONGER_EXISTS)
+    void send_UserDoesNotExist_DequeuesEmail() {
+        emailDispatcher = newDispatcher(3);
+        OutboxEmail email = new OutboxEmail(USER_ID_1, LOCK_USER);
+        given(userService.getUserById(USER_ID_1)).willThrow(new UserNotFoundException(USER_ID_1));
+
+        emailDispatcher.send(email);
+        verify(outboxRepository).dequeue(email.getId());
+        verify(outboxRepository, never()).reschedule(any(), any());
+    }
+
+    @Test
+    @DisplayName("send(): " + RESCHEDULES_EMAIL_WHEN_SENDING_FAILS)
+    void send_SendingFails_ReschedulesEmail() {
+        emailDispatcher = newDispatcher(3);
+        OutboxEmail email = new OutboxEmail(USER_ID_1, LOCK_USER);
+        User user = new User();
+        given(userService.getUserById(USER_ID_1)).willReturn(user);
+        willThrow(new MailSendException("Mail server unavailable")).given(emailService).send(LOCK_USER, user);
+
+        emailDispatcher.send(email);
+        verify(outboxRepository).reschedule(any(), any(LocalDateTime.class));
+        verify(outboxRepository, never()).dequeue(any());
+    }
+
+    @Test
+    @DisplayName("send(): " + DROPS_EMAIL_WHEN_MAX_ATTEMPTS_REACHED)
+    void send_MaxAttemptsReached_DropsEmail() {
+        emailDispatcher = newDispatcher(1);
+        OutboxEmail email = new OutboxEmail(USER_ID_1, LOCK_USER);
+        User user = new User();
+        given(userService.getUserById(USER_ID_1)).willReturn(user);
+        willThrow(new MailSendException("Mail server unavailable")).given(emailService).send(LOCK_USER, user);
+
+        emailDispatcher.send(email);
+        verify(outboxRepository).dequeue(email.getId());
+        verify(outboxRepository, never()).reschedule(any(), any());
+    }
+
+    @Test
+    @DisplayName("backoff(): " + DOUBLES_BACKOFF_UP_TO_MAX_BACKOFF)
+    void backoff_AttemptsIncrease_DoublesBackoffUpToMaxBackoff() {
+        emailDispatcher = newDispatcher(10);
+        assertEquals(INITIAL_BACKOFF, emailDispatcher.backoff(1));
+        assertEquals(INITIAL_BACKOFF.multipliedBy(4), emailDispatcher.backoff(3));
+        assertEquals(MAX_BACKOFF, emailDispatcher.backoff(8));
+    }
+}
@@ -0,0 +1,15 @@
+package dev.naiarievilo.todoapp.mailing;
+
+public class EmailDispatcherTestCases {
+
+    public static final String DEQUEUES_EMAIL_WHEN_SENT =
+        "Removes the email from the outbox once it is sent";
+    public static final String DEQUEUES_EMAIL_WHEN_USER_NO_LONGER_EXISTS =
+        "Removes the email from the outbox when its user no longer exists";
+    public static final String RESCHEDULES_EMAIL_WHEN_SENDING_FAILS =
+        "Reschedules the email after a backoff when sending it fails";
+    public static final String DROPS_EMAIL_WHEN_MAX_ATTEMPTS_REACHED =
+        "Drops the email when sending it fails for the last allowed time";
+    public static final String DOUBLES_BACKOFF_UP_TO_MAX_BACKOFF =
+        "Doubles the backoff after each failed attempt, up to the maximum backoff";
+}
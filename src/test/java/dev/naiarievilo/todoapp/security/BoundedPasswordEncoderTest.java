@@ -0,0 +1,114 @@
+package dev.naiarievilo.todoapp.security;
+
+import dev.naiarievilo.todoapp.security.exceptions.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static dev.naiarievilo.todoapp.security.BoundedPasswordEncoder.METRIC_PREFIX;
+import static dev.naiarievilo.todoapp.users.UsersTestConstants.PASSWORD_1;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    private static final String HASH = "{noop}" + PASSWORD_1;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CountDownLatch hashesReleased;
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        hashesReleased = new CountDownLatch(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hashesReleased.countDown();
+        passwordEncoder.close();
+    }
+
+    // Hashes block until the latch is released, so tests can fill the pool
+    private BoundedPasswordEncoder newEncoder(int queueCapacity, Duration timeout) {
+        PasswordEncoder delegate = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    hashesReleased.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "{noop}" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encode(rawPassword).equals(encodedPassword);
+            }
+        };
+
+        return new BoundedPasswordEncoder(
+            delegate, new PasswordHashingProperties(1, queueCapacity, timeout), meterRegistry
+        );
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(METRIC_PREFIX + name).gauge().value();
+    }
+
+    private void awaitGauge(String name, double value) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (gauge(name) != value && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(value, gauge(name));
+    }
+
+    @Test
+    @DisplayName("matches(): Hashes on the pool and records the hash latency")
+    void matches_PoolAvailable_ReturnsDelegateResult() {
+        passwordEncoder = newEncoder(1, Duration.ofSeconds(5));
+
+        assertEquals(HASH, passwordEncoder.encode(PASSWORD_1));
+        assertTrue(passwordEncoder.matches(PASSWORD_1, HASH));
+        assertEquals(2, meterRegistry.get(METRIC_PREFIX).timer().count());
+    }
+
+    @Test
+    @DisplayName("matches(): Rejects the hash right away when the pool and its queue are full")
+    void matches_PoolSaturated_ThrowsPasswordHashingUnavailableException() throws Exception {
+        passwordEncoder = newEncoder(1, Duration.ofSeconds(5));
+        hashesReleased = new CountDownLatch(1);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordEncoder.encode(PASSWORD_1));
+        awaitGauge(".active", 1);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.encode(PASSWORD_1));
+        awaitGauge(".queued", 1);
+
+        assertThrows(PasswordHashingUnavailableException.class, () -> passwordEncoder.matches(PASSWORD_1, HASH));
+        assertEquals(1, meterRegistry.get(METRIC_PREFIX + ".rejected").counter().count());
+
+        hashesReleased.countDown();
+        assertEquals(HASH, running.get(5, TimeUnit.SECONDS));
+        assertEquals(HASH, queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("encode(): Gives up on the hash when it waits longer than the timeout")
+    void encode_HashTakesLongerThanTimeout_ThrowsPasswordHashingUnavailableException() {
+        passwordEncoder = newEncoder(1, Duration.ofMillis(50));
+        hashesReleased = new CountDownLatch(1);
+
+        assertThrows(PasswordHashingUnavailableException.class, () -> passwordEncoder.encode(PASSWORD_1));
+        assertEquals(1, meterRegistry.get(METRIC_PREFIX + ".rejected").counter().count());
+    }
+}
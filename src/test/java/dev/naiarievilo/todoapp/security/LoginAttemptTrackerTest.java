@@ -0,0 +1,136 @@
+package dev.naiarievilo.todoapp.security;
+
+import dev.naiarievilo.todoapp.users.User;
+import dev.naiarievilo.todoapp.users.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static dev.naiarievilo.todoapp.security.LoginAttemptTracker.MAX_LOGIN_ATTEMPTS_ALLOWED;
+import static dev.naiarievilo.todoapp.users.UsersTestConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LoginAttemptTrackerTest {
+
+    private static final String CLIENT_IP = "203.0.113.7";
+    private static final int MAX_ATTEMPTS_PER_IP = 3;
+    private static final long MAXIMUM_TRACKED_IPS = 100;
+
+    @Mock
+    private UserService userService;
+    private LoginAttemptTracker loginAttemptTracker;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        loginAttemptTracker = newTracker(Duration.ofMinutes(15));
+
+        user = new User();
+        user.setId(USER_ID_1);
+        user.setEmail(EMAIL_1);
+        user.setPassword(PASSWORD_1);
+    }
+
+    private LoginAttemptTracker newTracker(Duration ipWindow) {
+        return new LoginAttemptTracker(
+            new LoginAttemptProperties(Duration.ofSeconds(10), ipWindow, MAX_ATTEMPTS_PER_IP, MAXIMUM_TRACKED_IPS),
+            userService
+        );
+    }
+
+    @Test
+    @DisplayName("recordFailure(): Keeps failures in memory until the next flush, then writes them at once")
+    void recordFailure_MaximumNotReached_WritesFailuresOnFlush() {
+        loginAttemptTracker.recordFailure(user, CLIENT_IP);
+        loginAttemptTracker.recordFailure(user, CLIENT_IP);
+        verifyNoInteractions(userService);
+
+        loginAttemptTracker.flush();
+        verify(userService).writeLoginAttempts(eq(USER_ID_1), eq(false), eq(2), any(LocalDateTime.class),
+            eq(MAX_LOGIN_ATTEMPTS_ALLOWED));
+
+        loginAttemptTracker.flush();
+        verifyNoMoreInteractions(userService);
+    }
+
+    @Test
+    @DisplayName("recordFailure(): Writes failures right away and locks the user once the maximum is reached")
+    void recordFailure_MaximumReached_LocksUser() {
+        user.setLoginAttempts((byte) (MAX_LOGIN_ATTEMPTS_ALLOWED - 1));
+
+        loginAttemptTracker.recordFailure(user, CLIENT_IP);
+        verify(userService).writeLoginAttempts(eq(USER_ID_1), eq(false), eq(1), any(LocalDateTime.class),
+            eq(MAX_LOGIN_ATTEMPTS_ALLOWED));
+    }
+
+    @Test
+    @DisplayName("flush(): Keeps the pending attempts of a user until they are written")
+    void flush_WriteFails_KeepsPendingAttempts() {
+        loginAttemptTracker.recordFailure(user, CLIENT_IP);
+        willThrow(new IllegalStateException()).willReturn(false).given(userService)
+            .writeLoginAttempts(eq(USER_ID_1), eq(false), anyInt(), any(LocalDateTime.class), anyInt());
+
+        loginAttemptTracker.flush();
+        loginAttemptTracker.recordFailure(user, CLIENT_IP);
+        loginAttemptTracker.flush();
+        verify(userService).writeLoginAttempts(eq(USER_ID_1), eq(false), eq(1), any(LocalDateTime.class),
+            eq(MAX_LOGIN_ATTEMPTS_ALLOWED));
+        verify(userService).writeLoginAttempts(eq(USER_ID_1), eq(false), eq(2), any(LocalDateTime.class),
+            eq(MAX_LOGIN_ATTEMPTS_ALLOWED));
+    }
+
+    @Test
+    @DisplayName("flush(): Writes a reset that follows unwritten failures without the failures")
+    void flush_ResetFollowsUnwrittenFailures_WritesResetOnly() {
+        loginAttemptTracker.recordFailure(user, CLIENT_IP);
+        willThrow(new IllegalStateException()).willReturn(false).given(userService)
+            .writeLoginAttempts(eq(USER_ID_1), anyBoolean(), anyInt(), any(), anyInt());
+
+        loginAttemptTracker.flush();
+        loginAttemptTracker.recordSuccess(user);
+        loginAttemptTracker.flush();
+        verify(userService).writeLoginAttempts(USER_ID_1, true, 0, null, MAX_LOGIN_ATTEMPTS_ALLOWED);
+    }
+
+    @Test
+    @DisplayName("recordSuccess(): Discards pending failures and resets the stored attempts on flush")
+    void recordSuccess_FailuresPending_ResetsLoginAttempts() {
+        loginAttemptTracker.recordFailure(user, CLIENT_IP);
+        loginAttemptTracker.recordSuccess(user);
+
+        loginAttemptTracker.flush();
+        verify(userService).writeLoginAttempts(USER_ID_1, true, 0, null, MAX_LOGIN_ATTEMPTS_ALLOWED);
+    }
+
+    @Test
+    @DisplayName("recordSuccess(): Writes nothing when there is nothing to reset")
+    void recordSuccess_NothingToReset_WritesNothing() {
+        loginAttemptTracker.recordSuccess(user);
+
+        loginAttemptTracker.flush();
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    @DisplayName("isIpBlocked(): Blocks an IP after too many failures, until it has not failed for a whole window")
+    void isIpBlocked_TooManyFailures_BlocksIpUntilWindowPasses() throws InterruptedException {
+        loginAttemptTracker = newTracker(Duration.ofMillis(200));
+        for (int i = 0; i < MAX_ATTEMPTS_PER_IP; i++) {
+            assertFalse(loginAttemptTracker.isIpBlocked(CLIENT_IP));
+            loginAttemptTracker.recordFailure(user, CLIENT_IP);
+        }
+        assertTrue(loginAttemptTracker.isIpBlocked(CLIENT_IP));
+
+        Thread.sleep(250);
+        assertFalse(loginAttemptTracker.isIpBlocked(CLIENT_IP));
+    }
+}
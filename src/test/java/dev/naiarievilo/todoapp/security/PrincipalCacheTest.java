@@ -0,0 +1,88 @@
+package dev.naiarievilo.todoapp.security;
+
+import dev.naiarievilo.todoapp.roles.Role;
+import dev.naiarievilo.todoapp.users.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.naiarievilo.todoapp.roles.Roles.ROLE_USER;
+import static dev.naiarievilo.todoapp.security.PrincipalCache.CACHE_NAME;
+import static dev.naiarievilo.todoapp.users.UsersTestConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrincipalCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PrincipalCache principalCache;
+    private AtomicInteger loads;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        principalCache = new PrincipalCache(new PrincipalCacheProperties(Duration.ofMinutes(1), 10), meterRegistry);
+        loads = new AtomicInteger();
+
+        Role userRole = new Role();
+        userRole.setName(ROLE_USER.name());
+
+        user = new User();
+        user.setId(USER_ID_1);
+        user.setEmail(EMAIL_1);
+        user.setPassword(PASSWORD_1);
+        user.addRole(userRole);
+    }
+
+    private UserPrincipal load(Long userId) {
+        loads.incrementAndGet();
+        return UserPrincipal.of(user);
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets").tags("cache", CACHE_NAME, "result", result)
+            .functionCounter().count();
+    }
+
+    @Test
+    @DisplayName("get(): Loads principal once and records hits and misses")
+    void get_PrincipalRequestedTwice_LoadsPrincipalOnce() {
+        UserPrincipal principal = principalCache.get(USER_ID_1, this::load);
+        principalCache.get(USER_ID_1, this::load);
+
+        assertEquals(1, loads.get());
+        assertEquals(USER_ID_1, principal.id());
+        assertEquals(EMAIL_1, principal.email());
+        assertTrue(principal.authorities().stream().anyMatch(a -> a.getAuthority().equals(ROLE_USER.name())));
+        assertEquals(1, cacheGets("hit"));
+        assertEquals(1, cacheGets("miss"));
+    }
+
+    @Test
+    @DisplayName("invalidate(): Reloads principal after it is invalidated")
+    void invalidate_PrincipalCached_ReloadsPrincipal() {
+        principalCache.get(USER_ID_1, this::load);
+        user.setLocked(true);
+        principalCache.invalidate(USER_ID_1);
+
+        UserPrincipal principal = principalCache.get(USER_ID_1, this::load);
+        assertEquals(2, loads.get());
+        assertTrue(principal.locked());
+    }
+
+    @Test
+    @DisplayName("toUser(): Returns a new detached user on every call")
+    void toUser_PrincipalCached_ReturnsNewUser() {
+        UserPrincipal principal = principalCache.get(USER_ID_1, this::load);
+
+        User principalUser = principal.toUser();
+        assertNotSame(principalUser, principal.toUser());
+        assertEquals(USER_ID_1, principalUser.getId());
+        assertEquals(EMAIL_1, principalUser.getEmail());
+        assertNull(principalUser.getPassword());
+    }
+}
@@ -0,0 +1,107 @@
+package dev.naiarievilo.todoapp.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import dev.naiarievilo.todoapp.security.jwt.JwtService;
+import dev.naiarievilo.todoapp.security.jwt.VerifiedToken;
+import dev.naiarievilo.todoapp.security.jwt.VerifiedTokenCache;
+import dev.naiarievilo.todoapp.security.jwt.VerifiedTokenCacheProperties;
+import dev.naiarievilo.todoapp.users.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static dev.naiarievilo.todoapp.security.jwt.JwtService.TYPE_CLAIM;
+import static dev.naiarievilo.todoapp.security.jwt.JwtTokens.ACCESS_TOKEN;
+import static dev.naiarievilo.todoapp.security.jwt.TokenTypes.REFRESH_ACCESS;
+import static dev.naiarievilo.todoapp.security.jwt.TokenTypes.USER_ACCESS;
+import static dev.naiarievilo.todoapp.security.jwt.VerifiedTokenCache.CACHE_NAME;
+import static dev.naiarievilo.todoapp.users.UsersTestConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private static final String JWT_ISSUER = "testApp";
+    private static final String JWT_SECRET = "jwtSecret";
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtService jwtService;
+    private VerifiedTokenCache verifiedTokenCache;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtService = new JwtService(JWT_SECRET, JWT_ISSUER);
+        verifiedTokenCache = new VerifiedTokenCache(jwtService, new VerifiedTokenCacheProperties(10), meterRegistry);
+
+        user = new User();
+        user.setId(USER_ID_1);
+        user.setEmail(EMAIL_1);
+        user.setPassword(PASSWORD_1);
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets").tags("cache", CACHE_NAME, "result", result)
+            .functionCounter().count();
+    }
+
+    @Test
+    @DisplayName("verify(): Verifies a token once and returns its cached claims afterwards")
+    void verify_TokenVerifiedTwice_VerifiesTokenOnce() {
+        String accessToken = jwtService.createToken(user, ACCESS_TOKEN);
+
+        VerifiedToken verifiedToken = verifiedTokenCache.verify(accessToken, USER_ACCESS);
+        assertSame(verifiedToken, verifiedTokenCache.verify(new String(accessToken), USER_ACCESS));
+        assertEquals(USER_ID_1.toString(), verifiedToken.subject());
+        assertEquals(1, cacheGets("miss"));
+        assertEquals(1, cacheGets("hit"));
+    }
+
+    @Test
+    @DisplayName("verify(): Throws `JWTVerificationException` when a cached token is of another type")
+    void verify_TokenCachedWithOtherType_ThrowsJWTVerificationException() {
+        String accessToken = jwtService.createToken(user, ACCESS_TOKEN);
+        verifiedTokenCache.verify(accessToken, USER_ACCESS);
+
+        assertThrows(JWTVerificationException.class, () -> verifiedTokenCache.verify(accessToken, REFRESH_ACCESS));
+    }
+
+    @Test
+    @DisplayName("verify(): Throws `JWTVerificationException` every time when token is not valid")
+    void verify_TokenNotValid_ThrowsJWTVerificationException() {
+        String forgedToken = JWT.create()
+            .withSubject(USER_ID_1.toString())
+            .withIssuer(JWT_ISSUER)
+            .withIssuedAt(Instant.now())
+            .withExpiresAt(Instant.now().plusSeconds(60))
+            .withClaim(TYPE_CLAIM, ACCESS_TOKEN.type())
+            .sign(Algorithm.HMAC256("otherSecret"));
+
+        assertThrows(JWTVerificationException.class, () -> verifiedTokenCache.verify(forgedToken, USER_ACCESS));
+        assertThrows(JWTVerificationException.class, () -> verifiedTokenCache.verify(forgedToken, USER_ACCESS));
+        assertEquals(0, cacheGets("hit"));
+    }
+
+    @Test
+    @DisplayName("verify(): Evicts a token once it expires")
+    void verify_TokenExpired_ThrowsTokenExpiredException() throws InterruptedException {
+        Instant expiresAt = Instant.now().plusSeconds(1);
+        String accessToken = JWT.create()
+            .withSubject(USER_ID_1.toString())
+            .withIssuer(JWT_ISSUER)
+            .withIssuedAt(Instant.now())
+            .withExpiresAt(expiresAt)
+            .withClaim(TYPE_CLAIM, ACCESS_TOKEN.type())
+            .sign(Algorithm.HMAC256(JWT_SECRET));
+        verifiedTokenCache.verify(accessToken, USER_ACCESS);
+
+        Thread.sleep(Math.max(0, expiresAt.toEpochMilli() - System.currentTimeMillis()) + 50);
+        assertThrows(TokenExpiredException.class, () -> verifiedTokenCache.verify(accessToken, USER_ACCESS));
+    }
+}
@@ -0,0 +1,127 @@
+package dev.naiarievilo.todoapp.security.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.naiarievilo.todoapp.security.UserAuthenticationToken;
+import dev.naiarievilo.todoapp.security.ratelimit.RateLimitProperties.RouteGroup;
+import dev.naiarievilo.todoapp.users.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+
+import static dev.naiarievilo.todoapp.security.ratelimit.RateLimitFilter.METRIC_NAME;
+import static dev.naiarievilo.todoapp.users.UsersTestConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+    private static final String AUTHENTICATION_PATH = "/users/authentication";
+    private static final String LISTS_PATH = "/users/" + USER_ID_1 + "/todolists/inbox";
+    private static final String IP_1 = "203.0.113.7";
+    private static final String IP_2 = "203.0.113.8";
+    private static final int CAPACITY = 2;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimitFilter = newFilter(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private RateLimitFilter newFilter(boolean enabled) {
+        var properties = new RateLimitProperties(enabled, 100, List.of(
+            new RouteGroup("authentication", List.of(HttpMethod.POST), List.of(AUTHENTICATION_PATH), CAPACITY,
+                Duration.ofMinutes(1)),
+            new RouteGroup("users", null, List.of("/users/{userId:\\d+}/**"), CAPACITY, Duration.ofMinutes(1))
+        ));
+        return new RateLimitFilter(properties, meterRegistry, new ObjectMapper().findAndRegisterModules());
+    }
+
+    private MockHttpServletResponse request(String method, String path, String clientIp) throws Exception {
+        var request = new MockHttpServletRequest(method, path);
+        request.setRemoteAddr(clientIp);
+        var response = new MockHttpServletResponse();
+        rateLimitFilter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private void authenticate(Long userId) {
+        var user = new User();
+        user.setId(userId);
+        user.setEmail(EMAIL_1);
+        user.setPassword(PASSWORD_1);
+        SecurityContextHolder.getContext().setAuthentication(new UserAuthenticationToken(user, List.of()));
+    }
+
+    @Test
+    @DisplayName("doFilter(): Rejects requests past the capacity with `429` and `Retry-After`")
+    void doFilter_CapacityExhausted_ReturnsTooManyRequests() throws Exception {
+        for (int i = 0; i < CAPACITY; i++) {
+            assertEquals(HttpStatus.OK.value(), request("POST", AUTHENTICATION_PATH, IP_1).getStatus());
+        }
+
+        MockHttpServletResponse response = request("POST", AUTHENTICATION_PATH, IP_1);
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus());
+        assertEquals("30", response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(1, meterRegistry.get(METRIC_NAME).tag("group", "authentication").counter().count());
+    }
+
+    @Test
+    @DisplayName("doFilter(): Gives each anonymous client IP its own bucket")
+    void doFilter_DifferentIps_LimitsEachIp() throws Exception {
+        for (int i = 0; i < CAPACITY; i++) {
+            request("POST", AUTHENTICATION_PATH, IP_1);
+        }
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), request("POST", AUTHENTICATION_PATH, IP_1).getStatus());
+        assertEquals(HttpStatus.OK.value(), request("POST", AUTHENTICATION_PATH, IP_2).getStatus());
+    }
+
+    @Test
+    @DisplayName("doFilter(): Limits authenticated requests by user, whatever their IP")
+    void doFilter_UserAuthenticated_LimitsUser() throws Exception {
+        authenticate(USER_ID_1);
+        assertEquals(HttpStatus.OK.value(), request("GET", LISTS_PATH, IP_1).getStatus());
+        assertEquals(HttpStatus.OK.value(), request("GET", LISTS_PATH, IP_2).getStatus());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), request("GET", LISTS_PATH, IP_1).getStatus());
+
+        authenticate(USER_ID_2);
+        assertEquals(HttpStatus.OK.value(), request("GET", LISTS_PATH, IP_1).getStatus());
+    }
+
+    @Test
+    @DisplayName("doFilter(): Does not limit requests outside of the route groups")
+    void doFilter_RouteNotLimited_PassesRequest() throws Exception {
+        for (int i = 0; i <= CAPACITY; i++) {
+            assertEquals(HttpStatus.OK.value(), request("GET", AUTHENTICATION_PATH, IP_1).getStatus());
+            assertEquals(HttpStatus.OK.value(), request("GET", "/actuator/health", IP_1).getStatus());
+        }
+    }
+
+    @Test
+    @DisplayName("doFilter(): Does not limit requests when rate limiting is disabled")
+    void doFilter_RateLimitingDisabled_PassesRequest() throws Exception {
+        rateLimitFilter = newFilter(false);
+        for (int i = 0; i <= CAPACITY; i++) {
+            assertEquals(HttpStatus.OK.value(), request("POST", AUTHENTICATION_PATH, IP_1).getStatus());
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package dev.naiarievilo.todoapp.security.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+
+    private static final long START = 1_000L;
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("tryConsume(): Allows a burst up to the capacity, then returns the wait for the next token")
+    void tryConsume_CapacityExhausted_ReturnsWait() {
+        var bucket = new TokenBucket(3, Duration.ofSeconds(3), START);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, bucket.tryConsume(START));
+        }
+        assertEquals(SECOND, bucket.tryConsume(START));
+        assertEquals(SECOND / 2, bucket.tryConsume(START + SECOND / 2));
+    }
+
+    @Test
+    @DisplayName("tryConsume(): Refills one token per interval, up to the capacity")
+    void tryConsume_TimePassed_RefillsTokens() {
+        var bucket = new TokenBucket(3, Duration.ofSeconds(3), START);
+        for (int i = 0; i < 3; i++) {
+            bucket.tryConsume(START);
+        }
+
+        assertEquals(0, bucket.tryConsume(START + SECOND));
+        assertTrue(bucket.tryConsume(START + SECOND) > 0);
+
+        long later = START + 10 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, bucket.tryConsume(later));
+        }
+        assertTrue(bucket.tryConsume(later) > 0);
+    }
+}
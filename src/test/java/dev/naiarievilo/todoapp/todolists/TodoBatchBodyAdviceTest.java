@@ -0,0 +1,76 @@
+package dev.naiarievilo.todoapp.todolists;
+
+import dev.naiarievilo.todoapp.todolists.todos.TodoProperties;
+import dev.naiarievilo.todoapp.todolists.todos.dtos.TodoDTO;
+import dev.naiarievilo.todoapp.todolists.todos.exceptions.BatchBodyTooLargeException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TodoBatchBodyAdviceTest {
+
+    private static final int MAX_BODY_SIZE = 16;
+
+    private TodoBatchBodyAdvice batchBodyAdvice;
+    private MethodParameter batchParameter;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        batchBodyAdvice = new TodoBatchBodyAdvice(new TodoProperties(DataSize.ofBytes(MAX_BODY_SIZE), 500));
+        batchParameter = new MethodParameter(TodoListController.class
+            .getMethod("addTodosToList", Long.class, Long.class, List.class), 2);
+    }
+
+    @Test
+    @DisplayName("supports(): Only caps the body of a batch of new to-dos")
+    void supports_BatchOfNewTodos_ReturnsTrue() throws NoSuchMethodException {
+        MethodParameter todoParameter = new MethodParameter(TodoListController.class
+            .getMethod("addTodoToList", Long.class, Long.class, TodoDTO.class), 2);
+
+        assertTrue(batchBodyAdvice.supports(batchParameter, List.class, MappingJackson2HttpMessageConverter.class));
+        assertFalse(batchBodyAdvice.supports(todoParameter, TodoDTO.class, MappingJackson2HttpMessageConverter.class));
+    }
+
+    @Test
+    @DisplayName("beforeBodyRead(): Rejects a body whose length exceeds the maximum before reading it")
+    void beforeBodyRead_ContentLengthExceedsMaximum_ThrowsBatchBodyTooLargeException() {
+        MockHttpInputMessage inputMessage = new MockHttpInputMessage(new byte[MAX_BODY_SIZE + 1]);
+        inputMessage.getHeaders().setContentLength(MAX_BODY_SIZE + 1);
+
+        assertThrows(BatchBodyTooLargeException.class, () -> batchBodyAdvice.beforeBodyRead(inputMessage,
+            batchParameter, List.class, MappingJackson2HttpMessageConverter.class));
+    }
+
+    @Test
+    @DisplayName("beforeBodyRead(): Stops reading a body without length once it exceeds the maximum")
+    void beforeBodyRead_ChunkedBodyExceedsMaximum_ThrowsBatchBodyTooLargeException() throws IOException {
+        HttpInputMessage body = batchBodyAdvice.beforeBodyRead(new MockHttpInputMessage(new byte[MAX_BODY_SIZE + 1]),
+            batchParameter, List.class, MappingJackson2HttpMessageConverter.class);
+
+        try (InputStream in = body.getBody()) {
+            assertThrows(BatchBodyTooLargeException.class, in::readAllBytes);
+        }
+    }
+
+    @Test
+    @DisplayName("beforeBodyRead(): Reads a body within the maximum in full")
+    void beforeBodyRead_BodyWithinMaximum_ReadsBody() throws IOException {
+        HttpInputMessage body = batchBodyAdvice.beforeBodyRead(new MockHttpInputMessage(new byte[MAX_BODY_SIZE]),
+            batchParameter, List.class, MappingJackson2HttpMessageConverter.class);
+
+        try (InputStream in = body.getBody()) {
+            assertEquals(MAX_BODY_SIZE, in.readAllBytes().length);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package dev.naiarievilo.todoapp.todolists;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
 import dev.naiarievilo.todoapp.ControllerIntegrationTests;
 import dev.naiarievilo.todoapp.security.ErrorDetails;
 import dev.naiarievilo.todoapp.security.exceptions.UnauthorizedDataAccessException;
@@ -9,12 +10,16 @@ import dev.naiarievilo.todoapp.security.jwt.JwtService;
 import dev.naiarievilo.todoapp.todolists.dtos.TodoListDTO;
 import dev.naiarievilo.todoapp.todolists.dtos.TodoListMapper;
 import dev.naiarievilo.todoapp.todolists.exceptions.TodoListNotFoundException;
+import dev.naiarievilo.todoapp.todolists.exceptions.TodoListVersionMismatchException;
 import dev.naiarievilo.todoapp.todolists.todos.Todo;
+import dev.naiarievilo.todoapp.todolists.todos.TodoPage;
 import dev.naiarievilo.todoapp.todolists.todos.TodoService;
 import dev.naiarievilo.todoapp.todolists.todos.TodosTestHelper;
 import dev.naiarievilo.todoapp.todolists.todos.dtos.TodoDTO;
 import dev.naiarievilo.todoapp.todolists.todos.dtos.TodoMapper;
 import dev.naiarievilo.todoapp.todolists.todos.exceptions.ImmutableListException;
+import dev.naiarievilo.todoapp.todolists.todos.exceptions.InvalidCursorException;
+import dev.naiarievilo.todoapp.todolists.todos.exceptions.PositionNotPatchableException;
 import dev.naiarievilo.todoapp.todolists.todos.exceptions.TodoNotFoundException;
 import dev.naiarievilo.todoapp.users.User;
 import dev.naiarievilo.todoapp.users.UserService;
@@ -31,10 +36,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDate;
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.LinkedHashSet;
-import java.util.Set;
+import java.util.*;
 
 import static dev.naiarievilo.todoapp.security.jwt.JwtTokens.ACCESS_TOKEN;
 import static dev.naiarievilo.todoapp.security.jwt.JwtTokens.BEARER_PREFIX;
@@ -44,10 +46,10 @@ import static dev.naiarievilo.todoapp.todolists.TodoListService.CALENDAR_LIST_TI
 import static dev.naiarievilo.todoapp.todolists.TodoListsTestHelper.*;
 import static dev.naiarievilo.todoapp.todolists.todos.TodosTestHelper.TODO_TASK_2;
 import static dev.naiarievilo.todoapp.users.UsersTestConstants.*;
+import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 class TodoListControllerIT extends ControllerIntegrationTests {
 
@@ -146,6 +148,94 @@ class TodoListControllerIT extends ControllerIntegrationTests {
         }
     }
 
+    @Test
+    @DisplayName("getWeekLists(): " + STATUS_304_WHEN_LISTS_UNCHANGED_SINCE_ETAG)
+    void getWeekLists_ListsUnchangedSinceETag_ReturnsNotModified() throws Exception {
+        String eTag = mockMvc.perform(get("/users/" + user.getId() + "/todolists/week")
+                .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + accessToken)
+            )
+            .andExpectAll(status().isOk(), header().exists(HttpHeaders.ETAG))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/users/" + user.getId() + "/todolists/week")
+                .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + accessToken)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+            )
+            .andExpectAll(
+                status().isNotModified(),
+                header().string(HttpHeaders.ETAG, eTag),
+                content().string("")
+            );
+    }
+
+    @Test
+    @DisplayName("getWeekLists(): " + STATUS_304_WHEN_LISTS_UNCHANGED_SINCE_ETAG_DESPITE_DUPLICATE_DATE)
+    void getWeekLists_DateHasDuplicateList_ReturnsNotModified() throws Exception {
+        listService.getWeeklyLists(user);
+        TodoList duplicateList = new TodoList();
+        duplicateList.setTitle(START_OF_WEEK.format(CALENDAR_LIST_TITLE));
+        duplicateList.setType(CALENDAR);
+        duplicateList.setDueDate(START_OF_WEEK);
+        duplicateList.setUser(user);
+        listRepository.persist(duplicateList);
+
+        String eTag = mockMvc.perform(get("/users/" + user.getId() + "/todolists/week")
+                .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + accessToken)
+            )
+            .andExpectAll(status().isOk(), header().exists(HttpHeaders.ETAG))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/users/" + user.getId() + "/todolists/week")
+                .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + accessToken)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+            )
+            .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("getList(): " + STATUS_304_WHEN_LISTS_UNCHANGED_SINCE_ETAG)
+    void getList_ListUnchangedSinceETag_ReturnsNotModified() throws Exception {
+        TodoList list = listService.createList(user, listDTO, CUSTOM);
+        String eTag = mockMvc.perform(get("/users/" + user.getId() + "/todolists/" + list.getId())
+                .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + accessToken)
+            )
+            .andExpectAll(status().isOk(), header().exists(HttpHeaders.ETAG))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/users/" + user.getId() + "/todolists/" + list.getId())
+                .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + accessToken)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+            )
+            .andExpectAll(
+                status().isNotModified(),
+                header().string(HttpHeaders.ETAG, eTag),
+                content().string("")
+            );
+    }
+
+    @Test
+    @DisplayName("getList(): " + STATUS_200_RETURNS_NEW_ETAG_WHEN_TODOS_CHANGED_SINCE_ETAG)
+    void getList_TodoAddedSinceETag_ReturnsListWithNewETag() throws Exception {
+        TodoList list = listService.createList(user, listDTO, INBOX);
+        String eTag = mockMvc.perform(get("/users/" + user.getId() + "/todolists/" + list.getId())
+                .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + accessToken)
+            )
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        listService.addNewTodoToList(user.getId(), list.getId(), TodosTestHelper.newTodoDTO_1());
+
+        String newETag = mockMvc.perform(get("/users/" + user.getId() + "/todolists/" + list.getId())
+                .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + accessToken)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+            )
+            .andExpectAll(
+                status().isOk(),
+                jsonPath("$.todos.length()").value(1)
+            )
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(eTag, newETag);
+    }
+
     @Test
     @DisplayName("getAllCustomLists(): " + STATUS_200_RETURNS_ALL_CUSTOM_LISTS_WHEN_USER_AUTHENTICATED)
     void getAllCustomLists_UserAuthenticated_ReturnsUserCustomLists() throws Exception {
@@ -172,6 +262,30 @@ class TodoListControllerIT extends ControllerIntegrationTests {
         }
     }
 
+    @Test
+    @DisplayName("getAllCustomLists(): " + STATUS_200_RETURNS_TODO_COUNTS_OF_CUSTOM_LISTS)
+    void getAllCustomLists_ListsHaveTodos_ReturnsTodoCounts() throws Exception {
+        TodoList list = listService.createList(user, listDTO, CUSTOM);
+        listService.createList(user, otherListDTO, CUSTOM);
+        TodoPage addedTodos =
+            listService.addNewTodosToList(user.getId(), list.getId(), List.copyOf(TodosTestHelper.newTodoDTOSet()));
+        Long completedTodoId = addedTodos.todos().getFirst().getId();
+        listService.patchTodoFromList(user.getId(), list.getId(), completedTodoId,
+            new TodoDTO(null, true, null, null), null);
+
+        mockMvc.perform(get("/users/" + user.getId() + "/todolists/custom")
+                .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + accessToken)
+            )
+            .andExpectAll(
+                status().isOk(),
+                jsonPath("$._embedded.todoListDTOList[0].todos").isEmpty(),
+                jsonPath("$._embedded.todoListDTOList[0].todo_count").value(3),
+                jsonPath("$._embedded.todoListDTOList[0].completed_count").value(2),
+                jsonPath("$._embedded.todoListDTOList[1].todo_count").value(0),
+                jsonPath("$._embedded.todoListDTOList[1].completed_count").value(0)
+            );
+    }
+
     @Test
     @DisplayName("createList(): " + STATUS_200_CREATES_LIST_WHEN_USER_AUTHENTICATED)
     void createList_UserAuthenticated_CreatesList() throws Exception {
@@ -293,6 +407,37 @@ class TodoListControllerIT extends ControllerIntegrationTests {
         assertEquals(list.getTitle(), updatedListDTO.getTitle());
     }
 
+    @Test
+    @DisplayName("updateList(): " + STATUS_412_RETURNS_ERROR_MESSAGE_WHEN_IF_MATCH_IS_STALE)
+    void updateList_IfMatchIsStale_ReturnsErrorDetails() throws Exception {
+        TodoList list = listService.createList(user, listDTO, CUSTOM);
+        TodoListDTO updatedListDTO =
+            new TodoListDTO(list.getId(), LIST_TITLE_2, list.getType(), list.getCreatedAt(), list.getDueDate());
+        String eTag = mockMvc.perform(get("/users/" + user.getId() + "/todolists/" + list.getId())
+                .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + accessToken)
+            )
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        listService.addNewTodoToList(user.getId(), list.getId(), TodosTestHelper.newTodoDTO_1());
+        var exception = new TodoListVersionMismatchException(list.getId());
+
+        String responseBody = mockMvc.perform(put("/users/" + user.getId() + "/todolists/" + list.getId())
+                .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + accessToken)
+                .header(HttpHeaders.IF_MATCH, eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updatedListDTO))
+            )
+            .andExpectAll(
+                status().isPreconditionFailed(),
+                content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+            )
+            .andReturn().getResponse().getContentAsString();
+
+        ErrorDetails errorDetails = objectMapper.readValue(responseBody, ErrorDetails.class);
+        assertEquals(HttpStatus.PRECONDITION_FAILED.value(), errorDetails.getStatus());
+        assertTrue(errorDetails.getMessages().contains(exception.getMessage()));
+    }
+
     @Test
     @DisplayName("deleteList(): " + STATUS_204_DELETES_LIST_WHEN_USER_HAS_LIST_ACCESS)
     void deleteList_UserHasListAccess_DeleteList() throws Exception {
@@ -304,6 +449,67 @@ class TodoListControllerIT extends ControllerIntegrationTests {
             .andExpect(status().isNoContent());
     }
 
+    @Test
+    @DisplayName("getTodosPageFromList(): " + STATUS_200_RETURNS_TODOS_PAGE_WITH_NAVIGATION_LINKS_WHEN_USER_HAS_LIST_ACCESS)
+    void getTodosPageFromList_UserHasListAccess_ReturnsTodosPageWithNavigationLinks() throws Exception {
+        TodoList list = listService.createList(user, listDTO, CUSTOM);
+        List<Integer> todosId = new ArrayList<>();
+        for (TodoDTO newTodoDTO : TodosTestHelper.newTodoDTOSet()) {
+            todosId.add(todoService.createTodo(newTodoDTO, list).getId().intValue());
+        }
+
+        String firstPage = mockMvc.perform(get("/users/" + user.getId() + "/todolists/" + list.getId() + "/todos")
+                .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + accessToken)
+                .param("limit", "2")
+            )
+            .andExpectAll(
+                status().isOk(),
+                content().contentTypeCompatibleWith(MediaType.parseMediaType(MediaTypes.HAL_JSON_VALUE)),
+                jsonPath("$._embedded.todoDTOList[*].id").value(equalTo(todosId.subList(0, 2))),
+                jsonPath("$._links.prev").doesNotExist()
+            )
+            .andReturn().getResponse().getContentAsString();
+
+        String lastPage = mockMvc.perform(get(JsonPath.<String>read(firstPage, "$._links.next.href"))
+                .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + accessToken)
+            )
+            .andExpectAll(
+                status().isOk(),
+                jsonPath("$._embedded.todoDTOList[*].id").value(equalTo(todosId.subList(2, 3))),
+                jsonPath("$._links.next").doesNotExist()
+            )
+            .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(get(JsonPath.<String>read(lastPage, "$._links.prev.href"))
+                .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + accessToken)
+            )
+            .andExpectAll(
+                status().isOk(),
+                jsonPath("$._embedded.todoDTOList[*].id").value(equalTo(todosId.subList(0, 2)))
+            );
+    }
+
+    @Test
+    @DisplayName("getTodosPageFromList(): " + STATUS_400_RETURNS_ERROR_MESSAGE_WHEN_CURSOR_NOT_VALID)
+    void getTodosPageFromList_CursorNotValid_ReturnsErrorDetails() throws Exception {
+        TodoList list = listService.createList(user, listDTO, CUSTOM);
+
+        String responseBody = mockMvc.perform(get("/users/" + user.getId() + "/todolists/" + list.getId() + "/todos")
+                .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + accessToken)
+                .param("limit", "2")
+                .param("after", "not-a-cursor")
+            )
+            .andExpectAll(
+                status().isBadRequest(),
+                content().contentType(MediaType.APPLICATION_JSON)
+            )
+            .andReturn().getResponse().getContentAsString();
+
+        ErrorDetails errorDetails = objectMapper.readValue(responseBody, ErrorDetails.class);
+        assertEquals(HttpStatus.BAD_REQUEST.value(), errorDetails.getStatus());
+        assertTrue(errorDetails.getMessages().contains(new InvalidCursorException("not-a-cursor").getMessage()));
+    }
+
     @Test
     @DisplayName("addTodoToList(): " + STATUS_201_ADDS_TODO_TO_LIST_WHEN_USER_HAS_LIST_ACCESS)
     void addTodoToList_UserHasListAccess_AddsTodoToList() throws Exception {
@@ -329,6 +535,54 @@ class TodoListControllerIT extends ControllerIntegrationTests {
         assertEquals(newTodo.getCompleted(), createdTodo.getCompleted());
     }
 
+    @Test
+    @DisplayName("addTodosToList(): " + STATUS_201_ADDS_TODOS_TO_END_OF_LIST_WHEN_USER_HAS_LIST_ACCESS)
+    void addTodosToList_UserHasListAccess_AddsTodosToEndOfList() throws Exception {
+        TodoList list = listService.createList(user, listDTO, CUSTOM);
+        todoService.createTodo(TodosTestHelper.newTodoDTO_1(), list);
+
+        List<TodoDTO> newTodos = List.of(TodosTestHelper.newTodoDTO_2(), TodosTestHelper.newTodoDTO_3());
+
+        mockMvc.perform(post("/users/" + user.getId() + "/todolists/" + list.getId() + "/todos/batch")
+                .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + accessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(newTodos))
+            )
+            .andExpectAll(
+                status().isCreated(),
+                content().contentTypeCompatibleWith(MediaType.parseMediaType(MediaTypes.HAL_JSON_VALUE)),
+                jsonPath("$._embedded.todoDTOList[*].task")
+                    .value(equalTo(List.of(newTodos.get(0).getTask(), newTodos.get(1).getTask()))),
+                jsonPath("$._embedded.todoDTOList[*].position").value(equalTo(List.of(2, 3)))
+            );
+
+        List<String> tasks = listService.getTodosFromList(user.getId(), list.getId()).stream()
+            .map(Todo::getTask)
+            .toList();
+        assertEquals(List.of(TodosTestHelper.newTodoDTO_1().getTask(), newTodos.get(0).getTask(),
+            newTodos.get(1).getTask()), tasks);
+    }
+
+    @Test
+    @DisplayName("addTodosToList(): " + STATUS_400_RETURNS_ERROR_MESSAGE_WHEN_TODO_IN_BATCH_NOT_VALID)
+    void addTodosToList_TodoNotValid_ReturnsErrorDetails() throws Exception {
+        TodoList list = listService.createList(user, listDTO, CUSTOM);
+
+        List<TodoDTO> newTodos = List.of(TodosTestHelper.newTodoDTO_1(), new TodoDTO(" ", false, null, null));
+
+        mockMvc.perform(post("/users/" + user.getId() + "/todolists/" + list.getId() + "/todos/batch")
+                .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + accessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(newTodos))
+            )
+            .andExpectAll(
+                status().isBadRequest(),
+                content().contentType(MediaType.APPLICATION_JSON)
+            );
+
+        assertTrue(listService.getTodosFromList(user.getId(), list.getId()).isEmpty());
+    }
+
     @Test
     @DisplayName("updateTodoFromList(): " + STATUS_404_RETURNS_ERROR_MESSAGE_WHEN_TODO_NOT_FOUND)
     void updateTodoFromList_TodoDoesNotExist_ReturnsErrorDetails() throws Exception {
@@ -379,6 +633,72 @@ class TodoListControllerIT extends ControllerIntegrationTests {
         assertEquals(TODO_TASK_2, todo.getTask());
     }
 
+    @Test
+    @DisplayName("patchTodoFromList(): " + STATUS_204_PATCHES_TODO_FROM_LIST_WHEN_USER_HAS_LIST_ACCESS)
+    void patchTodoFromList_UserHasListAccess_PatchesTodo() throws Exception {
+        TodoList list = listService.createList(user, listDTO, CUSTOM);
+        Todo todo = todoService.createTodo(TodosTestHelper.newTodoDTO_1(), list);
+        TodoDTO patch = new TodoDTO(null, null, true, null, null, null);
+
+        mockMvc.perform(patch("/users/" + user.getId() + "/todolists/" + list.getId() + "/todos/" + todo.getId())
+                .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + accessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(patch))
+            )
+            .andExpect(status().isNoContent());
+
+        Todo patchedTodo = listService.getTodoFromList(user.getId(), list.getId(), todo.getId());
+        assertTrue(patchedTodo.isCompleted());
+        assertEquals(TodosTestHelper.TODO_TASK_1, patchedTodo.getTask());
+        assertEquals(TodosTestHelper.TODO_DUE_DATE_1, patchedTodo.getDueDate());
+    }
+
+    @Test
+    @DisplayName("patchTodoFromList(): " + STATUS_400_RETURNS_ERROR_MESSAGE_WHEN_PATCH_CHANGES_POSITION)
+    void patchTodoFromList_PositionGiven_ReturnsErrorDetails() throws Exception {
+        TodoList list = listService.createList(user, listDTO, CUSTOM);
+        Todo todo = todoService.createTodo(TodosTestHelper.newTodoDTO_1(), list);
+        TodoDTO patch = new TodoDTO(null, null, null, 1, null, null);
+        var exception = new PositionNotPatchableException(todo.getId());
+
+        String responseBody = mockMvc.perform(
+                patch("/users/" + user.getId() + "/todolists/" + list.getId() + "/todos/" + todo.getId())
+                    .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + accessToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(patch))
+            )
+            .andExpect(status().isBadRequest())
+            .andReturn().getResponse().getContentAsString();
+
+        ErrorDetails errorDetails = objectMapper.readValue(responseBody, ErrorDetails.class);
+        assertEquals(HttpStatus.BAD_REQUEST.value(), errorDetails.getStatus());
+        assertTrue(errorDetails.getMessages().contains(exception.getMessage()));
+    }
+
+    @Test
+    @DisplayName("patchTodoFromList(): " + STATUS_404_RETURNS_ERROR_MESSAGE_WHEN_TODO_IN_OTHER_LIST)
+    void patchTodoFromList_TodoInOtherList_ReturnsErrorDetails() throws Exception {
+        TodoList list = listService.createList(user, listDTO, CUSTOM);
+        TodoList otherList = listService.createList(user, otherListDTO, CUSTOM);
+        Todo otherTodo = todoService.createTodo(TodosTestHelper.newTodoDTO_1(), otherList);
+        TodoDTO patch = new TodoDTO(null, null, true, null, null, null);
+        var exception = new TodoNotFoundException(otherTodo.getId());
+
+        String responseBody = mockMvc.perform(
+                patch("/users/" + user.getId() + "/todolists/" + list.getId() + "/todos/" + otherTodo.getId())
+                    .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + accessToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(patch))
+            )
+            .andExpect(status().isNotFound())
+            .andReturn().getResponse().getContentAsString();
+
+        ErrorDetails errorDetails = objectMapper.readValue(responseBody, ErrorDetails.class);
+        assertEquals(HttpStatus.NOT_FOUND.value(), errorDetails.getStatus());
+        assertTrue(errorDetails.getMessages().contains(exception.getMessage()));
+        assertFalse(listService.getTodoFromList(user.getId(), otherList.getId(), otherTodo.getId()).isCompleted());
+    }
+
     @Test
     @DisplayName("updateTodosFromList(): " + STATUS_204_UPDATES_TODOS_FROM_LIST_WHEN_USER_HAS_LIST_ACCESS)
     void updateTodosFromList_UserHasListAccess_UpdatesTodosFromList() throws Exception {
@@ -429,7 +749,7 @@ class TodoListControllerIT extends ControllerIntegrationTests {
             )
             .andExpect(status().isNoContent());
 
-        assertEquals(0, list.getTodos().size());
+        assertTrue(listService.getTodosFromList(user.getId(), list.getId()).isEmpty());
     }
 
     @Test
@@ -450,7 +770,7 @@ class TodoListControllerIT extends ControllerIntegrationTests {
             )
             .andExpect(status().isNoContent());
 
-        assertTrue(list.getTodos().isEmpty());
+        assertTrue(listService.getTodosFromList(user.getId(), list.getId()).isEmpty());
     }
 
     @Test
@@ -469,6 +789,6 @@ class TodoListControllerIT extends ControllerIntegrationTests {
             )
             .andExpect(status().isNoContent());
 
-        assertTrue(list.getTodos().isEmpty());
+        assertTrue(listService.getTodosFromList(user.getId(), list.getId()).isEmpty());
     }
 }
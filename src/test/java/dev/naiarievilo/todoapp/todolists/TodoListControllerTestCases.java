@@ -10,12 +10,20 @@ public class TodoListControllerTestCases {
         OK + "Returns all custom lists when user is authenticated";
     public static final String STATUS_200_RETURNS_INBOX_LIST_WHEN_USER_AUTHENTICATED =
         OK + "Returns inbox list when user is authenticated";
+    public static final String STATUS_200_RETURNS_NEW_ETAG_WHEN_TODOS_CHANGED_SINCE_ETAG =
+        OK + "Returns list with a new `ETag` when its to-dos changed since the given `ETag`";
     public static final String STATUS_200_RETURNS_TODAY_LIST_WHEN_USER_AUTHENTICATED =
         OK + "Returns today list when user is authenticated";
+    public static final String STATUS_200_RETURNS_TODO_COUNTS_OF_CUSTOM_LISTS =
+        OK + "Returns how many to-dos each custom list has and how many are completed";
     public static final String STATUS_200_RETURNS_WEEK_LISTS_WHEN_USER_AUTHENTICATED =
         OK + "Returns week lists when user is authenticated";
+    public static final String STATUS_200_RETURNS_TODOS_PAGE_WITH_NAVIGATION_LINKS_WHEN_USER_HAS_LIST_ACCESS =
+        OK + "Returns page of to-dos with next and previous links when user has access to the list";
     public static final String STATUS_201_ADDS_TODO_TO_LIST_WHEN_USER_HAS_LIST_ACCESS =
         CREATED + "Adds todo to list when user has access to the list";
+    public static final String STATUS_201_ADDS_TODOS_TO_END_OF_LIST_WHEN_USER_HAS_LIST_ACCESS =
+        CREATED + "Adds to-dos to the end of the list when user has access to the list";
     public static final String STATUS_204_DELETES_ALL_TODOS_FROM_LIST_WHEN_USER_HAS_LIST_ACCESS =
         NO_CONTENT + "Deletes all todos from list when user has list access";
     public static final String STATUS_204_DELETES_LIST_WHEN_USER_HAS_LIST_ACCESS =
@@ -24,18 +32,34 @@ public class TodoListControllerTestCases {
         NO_CONTENT + "Deletes todos from list when user has access to the list";
     public static final String STATUS_204_DELETES_TODO_FROM_LIST_WHEN_USER_HAS_LIST_ACCESS =
         NO_CONTENT + "Deletes todo from list when user has access to the list";
+    public static final String STATUS_204_PATCHES_TODO_FROM_LIST_WHEN_USER_HAS_LIST_ACCESS =
+        NO_CONTENT + "Changes only the given fields of the to-do when user has access to the list";
     public static final String STATUS_204_UPDATES_LIST_WHEN_USER_HAS_LIST_ACCESS =
         NO_CONTENT + "Updates list when user has access to list";
     public static final String STATUS_204_UPDATES_TODOS_FROM_LIST_WHEN_USER_HAS_LIST_ACCESS =
         NO_CONTENT + "Updates todos from list when user has access to the list";
     public static final String STATUS_204_UPDATES_TODO_FROM_LIST_WHEN_USER_HAS_LIST_ACCESS =
         NO_CONTENT + "Updates todo from list when user has access to the list";
+    public static final String STATUS_304_WHEN_LISTS_UNCHANGED_SINCE_ETAG =
+        NOT_MODIFIED + "Returns no content when lists are unchanged since the given `ETag`";
+    public static final String STATUS_304_WHEN_LISTS_UNCHANGED_SINCE_ETAG_DESPITE_DUPLICATE_DATE =
+        NOT_MODIFIED + "Returns no content when lists are unchanged since the `ETag`, even if a date has two lists";
     public static final String STATUS_400_RETURNS_ERROR_MESSAGE_WHEN_LIST_NOT_FOUND =
         NOT_FOUND + RETURNS_ERROR_MESSAGES_WHEN + "list does not exist";
     public static final String STATUS_400_RETURNS_ERROR_MESSAGE_WHEN_USER_TRIES_TO_UPDATE_CALENDAR_OR_INBOX =
         BAD_REQUEST + RETURNS_ERROR_MESSAGES_WHEN + "user tries to update calendar or inbox lists";
+    public static final String STATUS_400_RETURNS_ERROR_MESSAGE_WHEN_CURSOR_NOT_VALID =
+        BAD_REQUEST + RETURNS_ERROR_MESSAGES_WHEN + "page cursor is not valid";
+    public static final String STATUS_400_RETURNS_ERROR_MESSAGE_WHEN_TODO_IN_BATCH_NOT_VALID =
+        BAD_REQUEST + RETURNS_ERROR_MESSAGES_WHEN + "a to-do in the batch is not valid";
+    public static final String STATUS_400_RETURNS_ERROR_MESSAGE_WHEN_PATCH_CHANGES_POSITION =
+        BAD_REQUEST + RETURNS_ERROR_MESSAGES_WHEN + "a partial update changes the to-do's position";
     public static final String STATUS_401_RETURNS_ERROR_MESSAGE_WHEN_USER_DOES_NOT_HAVE_LIST_ACCESS =
         UNAUTHORIZED + RETURNS_ERROR_MESSAGES_WHEN + "user does not have access to the list";
     public static final String STATUS_404_RETURNS_ERROR_MESSAGE_WHEN_TODO_NOT_FOUND =
         NOT_FOUND + RETURNS_ERROR_MESSAGES_WHEN + "todo does not exist";
+    public static final String STATUS_404_RETURNS_ERROR_MESSAGE_WHEN_TODO_IN_OTHER_LIST =
+        NOT_FOUND + RETURNS_ERROR_MESSAGES_WHEN + "to-do belongs to another list of the user";
+    public static final String STATUS_412_RETURNS_ERROR_MESSAGE_WHEN_IF_MATCH_IS_STALE =
+        PRECONDITION_FAILED + RETURNS_ERROR_MESSAGES_WHEN + "`If-Match` is not the list's current `ETag`";
 }
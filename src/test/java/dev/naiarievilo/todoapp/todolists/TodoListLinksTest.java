@@ -0,0 +1,72 @@
+package dev.naiarievilo.todoapp.todolists;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+class TodoListLinksTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long LIST_ID = 42L;
+    private static final Long TODO_ID = 1234567890123L;
+
+    private final TodoListLinks links = new TodoListLinks();
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private void bindRequest(String scheme, String host, int port, String contextPath) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setScheme(scheme);
+        request.setServerName(host);
+        request.setServerPort(port);
+        request.setContextPath(contextPath);
+        request.setRequestURI(contextPath + "/users/" + USER_ID + "/todolists");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private void assertSameLinks() {
+        assertEquals(
+            linkTo(methodOn(TodoListController.class).getList(USER_ID, LIST_ID, null)).withSelfRel().getHref(),
+            links.list(USER_ID, LIST_ID)
+        );
+        assertEquals(
+            linkTo(methodOn(TodoListController.class).getTodosFromList(USER_ID, LIST_ID)).withSelfRel().getHref(),
+            links.todos(USER_ID, LIST_ID)
+        );
+        assertEquals(
+            linkTo(methodOn(TodoListController.class).getTodoFromList(USER_ID, LIST_ID, TODO_ID)).withSelfRel()
+                .getHref(),
+            links.todo(USER_ID, LIST_ID, TODO_ID)
+        );
+    }
+
+    @Test
+    @DisplayName("list()/todos()/todo(): Match `WebMvcLinkBuilder` links for the current request")
+    void links_MatchWebMvcLinkBuilderLinks() {
+        bindRequest("http", "localhost", 80, "");
+        assertSameLinks();
+    }
+
+    @Test
+    @DisplayName("list()/todos()/todo(): Match `WebMvcLinkBuilder` links with custom port and context path")
+    void links_CustomPortAndContextPath_MatchWebMvcLinkBuilderLinks() {
+        bindRequest("https", "todo.example.com", 8443, "/api");
+        assertSameLinks();
+    }
+
+    @Test
+    @DisplayName("list()/todos()/todo(): Match `WebMvcLinkBuilder` links outside of a request")
+    void links_NoRequest_MatchWebMvcLinkBuilderLinks() {
+        assertSameLinks();
+    }
+}
@@ -10,6 +10,8 @@ import dev.naiarievilo.todoapp.todolists.todos.TodosTestHelper;
 import dev.naiarievilo.todoapp.todolists.todos.dtos.TodoDTO;
 import dev.naiarievilo.todoapp.users.User;
 import dev.naiarievilo.todoapp.users.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -30,6 +33,9 @@ import static org.junit.jupiter.api.Assertions.*;
 
 class TodoListServiceIT extends ServiceIntegrationTests {
 
+    @Autowired
+    EntityManager entityManager;
+
     @Autowired
     TodoListRepository listRepository;
 
@@ -100,17 +106,44 @@ class TodoListServiceIT extends ServiceIntegrationTests {
 
     @Test
     @Transactional
-    @DisplayName("getAllCustomLists(): " + RETURNS_ALL_USER_CUSTOM_LISTS)
-    void getAllCustomLists_ReturnsAllPersonalizedLists() {
+    @DisplayName("getAllCustomListDTOs(): " + RETURNS_ALL_USER_CUSTOM_LISTS)
+    void getAllCustomListDTOs_ReturnsAllPersonalizedLists() {
         TodoList otherList = new TodoList();
         list.setType(CUSTOM);
         otherList.setType(CUSTOM);
         otherList.setUser(user);
         listRepository.persistAll(Set.of(list, otherList));
 
-        Set<TodoList> customLists = listService.getAllCustomLists(user);
-        assertNotNull(customLists);
+        List<TodoListDTO> customLists = listService.getAllCustomListDTOs(userId);
         assertEquals(2, customLists.size());
+        assertTrue(customLists.stream().allMatch(customList -> customList.getTodos().isEmpty()));
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("getListDTO(): " + RETURNS_LIST_WITH_TODOS_WITHOUT_MANAGING_ENTITIES)
+    void getListDTO_ListExists_ReturnsListWithoutManagingEntities() {
+        list.setType(INBOX);
+        list.setTodos(TodosTestHelper.newTodoSet());
+        listRepository.persist(list);
+        Long listId = list.getId();
+        entityManager.flush();
+        entityManager.clear();
+
+        TodoListDTO returnedList = listService.getListDTO(userId, listId);
+        assertEquals(listId, returnedList.getId());
+        assertEquals(List.of(1, 2, 3), returnedList.getTodos().stream().map(TodoDTO::getPosition).toList());
+        assertEquals(0, entityManager.unwrap(SessionImplementor.class).getPersistenceContext()
+            .getNumberOfManagedEntities());
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("getListDTO(): " + THROWS_UNAUTHORIZED_DATA_ACCESS_WHEN_USER_DOES_NOT_HAVE_LIST_ACCESS)
+    void getListDTO_UserDoesNotHaveListAccess_ThrowsUnauthorizedDataAccessException() {
+        listRepository.persist(list);
+        Long listId = list.getId();
+        assertThrows(UnauthorizedDataAccessException.class, () -> listService.getListDTO(3242L, listId));
     }
 
     @Test
@@ -156,7 +189,7 @@ class TodoListServiceIT extends ServiceIntegrationTests {
         Long listId = list.getId();
         TodoListDTO updatedListDTO = new TodoListDTO(list.getId(), LIST_TITLE_2, null, null, LocalDate.now());
 
-        listService.updateList(userId, listId, updatedListDTO);
+        listService.updateList(userId, listId, updatedListDTO, null);
 
         TodoList updatedList = listRepository.findById(listId).orElseThrow(TodoListNotFoundException::new);
         assertEquals(updatedListDTO.getTitle(), updatedList.getTitle());
@@ -180,7 +213,7 @@ class TodoListServiceIT extends ServiceIntegrationTests {
         listRepository.persist(list);
         Long listId = list.getId();
 
-        Set<Todo> returnedTodos = listService.getTodosFromList(userId, listId);
+        List<Todo> returnedTodos = listService.getTodosFromList(userId, listId);
         assertTrue(persistedTodos.containsAll(returnedTodos) && returnedTodos.containsAll(persistedTodos));
     }
 
@@ -216,7 +249,7 @@ class TodoListServiceIT extends ServiceIntegrationTests {
         Long todoId = updatedTodoDTO.getId();
         assert todoId != null;
 
-        listService.updateTodoFromList(userId, listId, todoId, updatedTodoDTO);
+        listService.updateTodoFromList(userId, listId, todoId, updatedTodoDTO, null);
         Todo updatedTodo = list.getTodos().iterator().next();
         assertEquals(updatedTodoDTO.getTask(), updatedTodo.getTask());
         assertEquals(updatedTodoDTO.getCompleted(), updatedTodo.isCompleted());
@@ -245,7 +278,7 @@ class TodoListServiceIT extends ServiceIntegrationTests {
         }
 
         Long listId = list.getId();
-        listService.updateTodosFromList(userId, listId, updatedTodoDTOSet);
+        listService.updateTodosFromList(userId, listId, updatedTodoDTOSet, null);
 
         newPosition = newTodoSet.size();
         for (Todo updatedTodo : newTodoSet) {
@@ -264,7 +297,7 @@ class TodoListServiceIT extends ServiceIntegrationTests {
         Long todoId = newTodo.getId();
 
         listService.removeTodoFromList(userId, listId, todoId);
-        assertEquals(0, list.getTodos().size());
+        assertEquals(0, todoRepository.countByListId(listId));
         assertFalse(todoRepository.existsById(todoId));
     }
 
@@ -281,9 +314,23 @@ class TodoListServiceIT extends ServiceIntegrationTests {
             .map(Todo::getId)
             .collect(Collectors.toSet());
 
+        TodoList otherList = new TodoList();
+        otherList.setTitle(LIST_TITLE_2);
+        otherList.setType(CUSTOM);
+        otherList.setUser(user);
+        otherList.setTodos(TodosTestHelper.newTodoSet());
+        listRepository.persist(otherList);
+        Long otherTodoId = otherList.getTodos().iterator().next().getId();
+
+        Set<Long> requestedTodosId = new LinkedHashSet<>(todosId);
+        requestedTodosId.add(otherTodoId);
 
-        listService.removeTodosFromList(userId, listId, todosId);
-        assertEquals(1, list.getTodos().size());
+        listService.removeTodosFromList(userId, listId, requestedTodosId);
+        assertEquals(1, todoRepository.countByListId(listId));
+        for (Long todoId : todosId) {
+            assertFalse(todoRepository.existsById(todoId));
+        }
+        assertTrue(todoRepository.existsById(otherTodoId));
     }
 
     @Test
@@ -295,6 +342,6 @@ class TodoListServiceIT extends ServiceIntegrationTests {
         Long listId = list.getId();
 
         listService.removeTodosFromList(userId, listId);
-        assertEquals(0, list.getTodos().size());
+        assertEquals(0, todoRepository.countByListId(listId));
     }
 }
@@ -4,12 +4,11 @@ import dev.naiarievilo.todoapp.security.exceptions.UnauthorizedDataAccessExcepti
 import dev.naiarievilo.todoapp.todolists.dtos.TodoListDTO;
 import dev.naiarievilo.todoapp.todolists.dtos.TodoListMapper;
 import dev.naiarievilo.todoapp.todolists.exceptions.TodoListNotFoundException;
-import dev.naiarievilo.todoapp.todolists.todos.Todo;
-import dev.naiarievilo.todoapp.todolists.todos.TodoService;
-import dev.naiarievilo.todoapp.todolists.todos.TodosTestHelper;
+import dev.naiarievilo.todoapp.todolists.exceptions.TodoListVersionMismatchException;
+import dev.naiarievilo.todoapp.todolists.notifications.ListChangeEvent;
+import dev.naiarievilo.todoapp.todolists.todos.*;
 import dev.naiarievilo.todoapp.todolists.todos.dtos.TodoDTO;
-import dev.naiarievilo.todoapp.todolists.todos.exceptions.PositionExceedsMaxAllowedException;
-import dev.naiarievilo.todoapp.todolists.todos.exceptions.TodoNotFoundException;
+import dev.naiarievilo.todoapp.todolists.todos.exceptions.*;
 import dev.naiarievilo.todoapp.users.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,21 +19,23 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 
 import java.time.LocalDate;
-import java.util.HashSet;
-import java.util.Optional;
-import java.util.Set;
+import java.util.*;
 
 import static dev.naiarievilo.todoapp.todolists.ListTypes.*;
 import static dev.naiarievilo.todoapp.todolists.TodoListServiceTestCases.*;
 import static dev.naiarievilo.todoapp.todolists.TodoListsTestHelper.*;
+import static dev.naiarievilo.todoapp.todolists.notifications.ChangeOperation.DELETED;
 import static dev.naiarievilo.todoapp.todolists.todos.TodosTestHelper.TODO_POSITION_2;
 import static dev.naiarievilo.todoapp.todolists.todos.TodosTestHelper.TODO_TASK_2;
 import static dev.naiarievilo.todoapp.users.UsersTestConstants.EMAIL_1;
 import static dev.naiarievilo.todoapp.users.UsersTestConstants.USER_ID_1;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -50,11 +51,20 @@ class TodoListServiceTest {
     @Mock
     TodoService todoService;
 
+    @Mock
+    TodoProperties todoProperties;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     TodoListService listService;
 
     @Captor
     ArgumentCaptor<TodoList> listCaptor;
+
+    @Captor
+    ArgumentCaptor<List<TodoList>> listsCaptor;
     private User user;
     private TodoList inboxList;
     private TodoList todayList;
@@ -139,44 +149,64 @@ class TodoListServiceTest {
     @Test
     @DisplayName("getWeekLists(): " + RETURNS_WEEKLY_LISTS_WHEN_LISTS_EXIST)
     void getWeeklyLists_WeeklyListsExist_ReturnsWeeklyLists() {
-        LocalDate dayOfWeek = START_OF_WEEK;
-        for (TodoList listDay : weeklyLists) {
-            given(listRepository.findByTypeAndDueDate(CALENDAR, dayOfWeek, user)).willReturn(Optional.of(listDay));
-            dayOfWeek = dayOfWeek.plusDays(1);
-        }
+        given(listRepository.findAllByTypeAndDueDateBetween(CALENDAR, START_OF_WEEK, END_OF_WEEK, user))
+            .willReturn(new ArrayList<>(weeklyLists));
 
         Set<TodoList> returnedWeeklyLists = listService.getWeeklyLists(user);
         assertEquals(7, returnedWeeklyLists.size());
         assertTrue(returnedWeeklyLists.containsAll(weeklyLists));
 
-        verify(listRepository, never()).persist(any(TodoList.class));
-
-        dayOfWeek = START_OF_WEEK;
-        while (dayOfWeek.isBefore(NEXT_WEEK)) {
-            verify(listRepository).findByTypeAndDueDate(CALENDAR, dayOfWeek, user);
-            dayOfWeek = dayOfWeek.plusDays(1);
-        }
+        verify(listRepository).findAllByTypeAndDueDateBetween(CALENDAR, START_OF_WEEK, END_OF_WEEK, user);
+        verify(listRepository, never()).findByTypeAndDueDate(any(ListTypes.class), any(LocalDate.class),
+            any(User.class));
+        verify(listRepository, never()).persistAll(anyIterable());
     }
 
     @Test
     @DisplayName("getWeekLists(): " + CREATES_AND_RETURNS_WEEKLY_LISTS_WHEN_LISTS_DO_NOT_EXIST)
     void getWeeklyLists_WeeklyListsDoNotExist_CreatesAndReturnsWeeklyLists() {
+        given(listRepository.findAllByTypeAndDueDateBetween(CALENDAR, START_OF_WEEK, END_OF_WEEK, user))
+            .willReturn(List.of());
+
+        Set<TodoList> returnedWeeklyLists = listService.getWeeklyLists(user);
+        assertEquals(7, returnedWeeklyLists.size());
+
+        verify(listRepository).persistAll(listsCaptor.capture());
+        List<TodoList> persistedLists = listsCaptor.getValue();
+        assertEquals(7, persistedLists.size());
+        verify(listRepository, never()).persist(any(TodoList.class));
+
         LocalDate dayOfWeek = START_OF_WEEK;
-        while (dayOfWeek.isBefore(NEXT_WEEK)) {
-            given(listRepository.findByTypeAndDueDate(CALENDAR, dayOfWeek, user)).willReturn(Optional.empty());
+        for (TodoList returnedListDay : returnedWeeklyLists) {
+            assertEquals(CALENDAR, returnedListDay.getType());
+            assertEquals(dayOfWeek, returnedListDay.getDueDate());
+            assertEquals(user, returnedListDay.getUser());
+            assertTrue(persistedLists.contains(returnedListDay));
             dayOfWeek = dayOfWeek.plusDays(1);
         }
+    }
+
+    @Test
+    @DisplayName("getWeekLists(): " + CREATES_ONLY_MISSING_WEEKLY_LISTS_WHEN_SOME_LISTS_EXIST)
+    void getWeeklyLists_SomeWeeklyListsExist_CreatesOnlyMissingWeeklyLists() {
+        List<TodoList> existingLists = new ArrayList<>(weeklyLists).subList(0, 3);
+        given(listRepository.findAllByTypeAndDueDateBetween(CALENDAR, START_OF_WEEK, END_OF_WEEK, user))
+            .willReturn(existingLists);
 
         Set<TodoList> returnedWeeklyLists = listService.getWeeklyLists(user);
         assertEquals(7, returnedWeeklyLists.size());
+        assertTrue(returnedWeeklyLists.containsAll(existingLists));
 
-        verify(listRepository, times(7)).persist(any(TodoList.class));
+        verify(listRepository).persistAll(listsCaptor.capture());
+        List<TodoList> persistedLists = listsCaptor.getValue();
+        assertEquals(4, persistedLists.size());
+        for (TodoList persistedList : persistedLists) {
+            assertFalse(persistedList.getDueDate().isBefore(START_OF_WEEK.plusDays(3)));
+        }
 
-        dayOfWeek = START_OF_WEEK;
+        LocalDate dayOfWeek = START_OF_WEEK;
         for (TodoList returnedListDay : returnedWeeklyLists) {
-            assertEquals(CALENDAR, returnedListDay.getType());
             assertEquals(dayOfWeek, returnedListDay.getDueDate());
-            verify(listRepository).persist(returnedListDay);
             dayOfWeek = dayOfWeek.plusDays(1);
         }
     }
@@ -212,6 +242,26 @@ class TodoListServiceTest {
         assertThrows(UnauthorizedDataAccessException.class, () -> listService.getListByIdEagerly(userId, listId));
     }
 
+    @Test
+    @DisplayName("getListDTO(): " + RETURNS_CUSTOM_LIST_WITHOUT_QUERYING_TODOS)
+    void getListDTO_CustomListExists_ReturnsListWithoutQueryingTodos() {
+        TodoListDTO listDTO = new TodoListDTO(listId, LIST_TITLE_1, CUSTOM, null, null);
+        given(listRepository.findDTOByIdAndUserId(listId, userId)).willReturn(Optional.of(listDTO));
+
+        TodoListDTO returnedList = listService.getListDTO(userId, listId);
+        assertEquals(listId, returnedList.getId());
+        assertTrue(returnedList.getTodos().isEmpty());
+        verify(listRepository, never()).findAllTodoDTOsByListId(any());
+    }
+
+    @Test
+    @DisplayName("getListDTO(): " + THROWS_LIST_NOT_FOUND_WHEN_LIST_DOES_NOT_EXIST)
+    void getListDTO_ListDoesNotExist_ThrowsTodoListNotFoundException() {
+        given(listRepository.findDTOByIdAndUserId(LIST_ID_1, userId)).willReturn(Optional.empty());
+        given(listRepository.findById(LIST_ID_1)).willReturn(Optional.empty());
+        assertThrows(TodoListNotFoundException.class, () -> listService.getListDTO(userId, LIST_ID_1));
+    }
+
     @Test
     @DisplayName("createList(): " + CREATES_LIST_WHEN_INPUT_VALID)
     void createList_InputValid_CreatesList() {
@@ -245,7 +295,7 @@ class TodoListServiceTest {
         given(listRepository.findByIdEagerly(listId)).willReturn(Optional.of(persistedList));
 
         assertThrows(UnauthorizedDataAccessException.class,
-            () -> listService.updateList(userId, listId, updatedListDTO));
+            () -> listService.updateList(userId, listId, updatedListDTO, null));
         verify(listRepository).findByIdEagerly(listId);
         verifyNoInteractions(listMapper);
         verifyNoInteractions(todoService);
@@ -260,7 +310,7 @@ class TodoListServiceTest {
 
         given(listRepository.findByIdEagerly(listId)).willReturn(Optional.of(persistedList));
 
-        listService.updateList(userId, listId, updatedListDTO);
+        listService.updateList(userId, listId, updatedListDTO, null);
         verify(listRepository).findByIdEagerly(listId);
         verify(listMapper).updateEntityFromDTO(persistedList, updatedListDTO);
         verifyNoInteractions(todoService);
@@ -270,18 +320,19 @@ class TodoListServiceTest {
     @DisplayName("deleteList(): " + DOES_NOT_DELETE_LIST_WHEN_USER_DOES_NOT_HAVE_LIST_ACCESS)
     void deleteList_UserDoesNotHaveListAccess_DoesNotDeleteList() {
         userId = 987L;
-        given(listRepository.findByIdEagerly(listId)).willReturn(Optional.of(persistedList));
+        given(listRepository.findById(listId)).willReturn(Optional.of(persistedList));
 
         assertThrows(UnauthorizedDataAccessException.class, () -> listService.deleteList(userId, listId));
-        verify(listRepository, never()).delete(persistedList);
+        verify(listRepository, never()).deleteListById(listId);
     }
 
     @Test
     @DisplayName("deleteList(): " + DELETES_LIST_WHEN_USER_HAS_ACCESS)
     void deleteList_UserHasListAccess_DeletesList() {
-        given(listRepository.findByIdEagerly(listId)).willReturn(Optional.of(persistedList));
+        given(listRepository.findById(listId)).willReturn(Optional.of(persistedList));
         listService.deleteList(userId, listId);
-        verify(listRepository).delete(persistedList);
+        verify(listRepository).deleteListById(listId);
+        verify(listRepository, never()).findByIdEagerly(listId);
     }
 
     @Test
@@ -303,10 +354,46 @@ class TodoListServiceTest {
 
         given(listRepository.findByIdEagerly(listId)).willReturn(Optional.of(persistedList));
 
-        Set<Todo> returnedTodos = listService.getTodosFromList(userId, listId);
+        List<Todo> returnedTodos = listService.getTodosFromList(userId, listId);
         assertTrue(persistedTodos.containsAll(returnedTodos) && returnedTodos.containsAll(persistedTodos));
     }
 
+    @Test
+    @DisplayName("getTodosPageFromList(): " + DOES_NOT_GET_TODOS_PAGE_FROM_LIST_WHEN_USER_DOES_NOT_HAVE_LIST_ACCESS)
+    void getTodosPageFromList_UserDoesNotHaveListAccess_DoesNotGetTodosPageFromList() {
+        userId = 3432L;
+        given(listRepository.findById(listId)).willReturn(Optional.of(persistedList));
+        assertThrows(UnauthorizedDataAccessException.class,
+            () -> listService.getTodosPageFromList(userId, listId, 2, null, null));
+        verifyNoInteractions(todoService);
+    }
+
+    @Test
+    @DisplayName("getTodosPageFromList(): " + GETS_TODOS_PAGE_FROM_LIST_WHEN_USER_HAS_LIST_ACCESS)
+    void getTodosPageFromList_UserHasListAccess_GetsTodosPageFromList() {
+        TodoCursor after = TodoCursor.of(TodosTestHelper.todo_1());
+        TodoPage page = new TodoPage(List.of(TodosTestHelper.todo_2()), TodoPage.MAX_SIZE, 1, after, null);
+
+        given(listRepository.findById(listId)).willReturn(Optional.of(persistedList));
+        given(todoService.getTodosPage(listId, TodoPage.MAX_SIZE, after, null)).willReturn(page);
+
+        TodoPage returnedPage =
+            listService.getTodosPageFromList(userId, listId, TodoPage.MAX_SIZE + 1, after.encode(), null);
+        assertEquals(page, returnedPage);
+        verify(listRepository, never()).findByIdEagerly(listId);
+    }
+
+    @Test
+    @DisplayName("getTodosPageFromList(): " + THROWS_INVALID_CURSOR_WHEN_CURSOR_MALFORMED)
+    void getTodosPageFromList_CursorMalformed_ThrowsInvalidCursorException() {
+        given(listRepository.findById(listId)).willReturn(Optional.of(persistedList));
+        assertThrows(InvalidCursorException.class,
+            () -> listService.getTodosPageFromList(userId, listId, 2, "not-a-cursor", null));
+        assertThrows(InvalidCursorException.class,
+            () -> listService.getTodosPageFromList(userId, listId, 2, "MQ", "MQ"));
+        verifyNoInteractions(todoService);
+    }
+
     @Test
     @DisplayName("addNewTodoToList(): " + DOES_NOT_ADD_TODO_TO_LIST_WHEN_USER_DOES_NOT_HAVE_LIST_ACCESS)
     void addNewTodoToList_UserDoesNotHaveListAccess_DoesNotAddTodoToList() {
@@ -327,6 +414,7 @@ class TodoListServiceTest {
 
         given(listRepository.findByIdEagerly(listId)).willReturn(Optional.of(persistedList));
         given(todoService.createTodo(newTodo, persistedList)).willReturn(TodosTestHelper.todo_1());
+        given(listRepository.findVersionByIdAndUserId(listId, userId)).willReturn(Optional.of(1L));
 
         Todo createdTodo = listService.addNewTodoToList(userId, listId, newTodo);
         assertNotNull(createdTodo);
@@ -335,6 +423,34 @@ class TodoListServiceTest {
         verify(todoService).createTodo(newTodo, persistedList);
     }
 
+    @Test
+    @DisplayName("addNewTodosToList(): " + THROWS_BATCH_SIZE_EXCEEDED_WHEN_TOO_MANY_TODOS)
+    void addNewTodosToList_TooManyTodos_ThrowsBatchSizeExceededException() {
+        List<TodoDTO> newTodos = new ArrayList<>(TodosTestHelper.newTodoDTOSet());
+
+        given(todoProperties.maxBatchSize()).willReturn(newTodos.size() - 1);
+        assertThrows(BatchSizeExceededException.class,
+            () -> listService.addNewTodosToList(userId, listId, newTodos));
+        verifyNoInteractions(listRepository);
+        verifyNoInteractions(todoService);
+    }
+
+    @Test
+    @DisplayName("addNewTodosToList(): " + ADDS_TODOS_TO_LIST_WHEN_USER_HAS_LIST_ACCESS)
+    void addNewTodosToList_UserHasListAccess_AddsTodosToList() {
+        List<TodoDTO> newTodos = new ArrayList<>(TodosTestHelper.newTodoDTOSet());
+        TodoPage createdTodos = new TodoPage(List.of(TodosTestHelper.todo_1()), 1, 0, null, null);
+
+        given(todoProperties.maxBatchSize()).willReturn(newTodos.size());
+        given(listRepository.findById(listId)).willReturn(Optional.of(persistedList));
+        given(todoService.createTodos(newTodos, persistedList)).willReturn(createdTodos);
+        given(listRepository.findVersionByIdAndUserId(listId, userId)).willReturn(Optional.of(1L));
+
+        assertEquals(createdTodos, listService.addNewTodosToList(userId, listId, newTodos));
+        verify(listRepository, never()).findByIdEagerly(any());
+        verify(todoService).createTodos(newTodos, persistedList);
+    }
+
     @Test
     @DisplayName("updateTodoFromList(): " + THROWS_TODO_NOT_FOUND_WHEN_TODO_NOT_IN_LIST)
     void updateTodoFromList_TodoDoesNotExist_ThrowsTodoNotFoundException() {
@@ -348,7 +464,7 @@ class TodoListServiceTest {
         given(listRepository.findByIdEagerly(listId)).willReturn(Optional.of(persistedList));
 
         assertThrows(TodoNotFoundException.class,
-            () -> listService.updateTodoFromList(userId, listId, todoId, updatedTodo));
+            () -> listService.updateTodoFromList(userId, listId, todoId, updatedTodo, null));
         verify(listRepository).findByIdEagerly(listId);
         verifyNoInteractions(todoService);
     }
@@ -364,7 +480,7 @@ class TodoListServiceTest {
 
         given(listRepository.findByIdEagerly(listId)).willReturn(Optional.of(persistedList));
         assertThrows(UnauthorizedDataAccessException.class,
-            () -> listService.updateTodoFromList(userId, listId, todoId, updatedTodo));
+            () -> listService.updateTodoFromList(userId, listId, todoId, updatedTodo, null));
         verify(listRepository).findByIdEagerly(listId);
         verifyNoInteractions(todoService);
     }
@@ -380,7 +496,7 @@ class TodoListServiceTest {
 
         given(listRepository.findByIdEagerly(listId)).willReturn(Optional.of(persistedList));
         assertThrows(PositionExceedsMaxAllowedException.class,
-            () -> listService.updateTodoFromList(userId, listId, todoId, updatedTodo));
+            () -> listService.updateTodoFromList(userId, listId, todoId, updatedTodo, null));
         verify(listRepository).findByIdEagerly(listId);
         verifyNoInteractions(todoService);
     }
@@ -396,12 +512,111 @@ class TodoListServiceTest {
         Long todoId = persistedTodo.getId();
 
         given(listRepository.findByIdEagerly(listId)).willReturn(Optional.of(persistedList));
+        given(listRepository.incrementVersionIfUnchanged(listId, persistedList.getVersion())).willReturn(1);
 
-        listService.updateTodoFromList(userId, listId, todoId, updatedTodo);
+        listService.updateTodoFromList(userId, listId, todoId, updatedTodo, null);
         verify(listRepository).findByIdEagerly(listId);
         verify(todoService).updateTodo(persistedTodo, updatedTodo);
     }
 
+    @Test
+    @DisplayName("updateTodoFromList(): " + UPDATES_TODO_WITHOUT_LOADING_LIST_WHEN_POSITION_NOT_GIVEN)
+    void updateTodoFromList_PositionNotGiven_UpdatesTodoWithoutLoadingList() {
+        Todo persistedTodo = TodosTestHelper.todo_1();
+        Long todoId = persistedTodo.getId();
+        TodoDTO updatedTodo = new TodoDTO(todoId, TODO_TASK_2, true, null, null, null);
+
+        given(todoService.findTodo(userId, listId, todoId)).willReturn(Optional.of(persistedTodo));
+        given(listRepository.findVersionByIdAndUserId(listId, userId)).willReturn(Optional.of(1L));
+
+        listService.updateTodoFromList(userId, listId, todoId, updatedTodo, null);
+        verify(todoService).updateTodo(persistedTodo, updatedTodo);
+        verify(todoService, never()).moveTodos(any(), any());
+        verify(listRepository).incrementVersion(listId);
+        verify(listRepository).findVersionByIdAndUserId(listId, userId);
+        verifyNoMoreInteractions(listRepository);
+    }
+
+    @Test
+    @DisplayName("patchTodoFromList(): " + THROWS_POSITION_NOT_PATCHABLE_WHEN_POSITION_GIVEN)
+    void patchTodoFromList_PositionGiven_ThrowsPositionNotPatchableException() {
+        Long todoId = TodosTestHelper.TODO_ID_1;
+        TodoDTO patch = new TodoDTO(null, null, null, TODO_POSITION_2, null, null);
+
+        assertThrows(PositionNotPatchableException.class,
+            () -> listService.patchTodoFromList(userId, listId, todoId, patch, null));
+        verifyNoInteractions(todoService);
+    }
+
+    @Test
+    @DisplayName("patchTodoFromList(): " + THROWS_TODO_NOT_FOUND_WHEN_TODO_NOT_IN_LIST)
+    void patchTodoFromList_TodoDoesNotExist_ThrowsTodoNotFoundException() {
+        Long todoId = 433L;
+        TodoDTO patch = new TodoDTO(null, null, true, null, null, null);
+
+        given(todoService.patchTodo(userId, listId, todoId, patch)).willReturn(false);
+        given(listRepository.findById(listId)).willReturn(Optional.of(persistedList));
+
+        assertThrows(TodoNotFoundException.class,
+            () -> listService.patchTodoFromList(userId, listId, todoId, patch, null));
+    }
+
+    @Test
+    @DisplayName("patchTodoFromList(): " + PATCHES_TODO_FROM_LIST_WHEN_USER_HAS_LIST_ACCESS)
+    void patchTodoFromList_UserHasListAccess_PatchesTodo() {
+        Long todoId = TodosTestHelper.TODO_ID_1;
+        TodoDTO patch = new TodoDTO(null, null, true, null, null, null);
+
+        given(todoService.patchTodo(userId, listId, todoId, patch)).willReturn(true);
+        given(listRepository.findVersionByIdAndUserId(listId, userId)).willReturn(Optional.of(1L));
+
+        listService.patchTodoFromList(userId, listId, todoId, patch, null);
+        verify(todoService).patchTodo(userId, listId, todoId, patch);
+        verify(listRepository).incrementVersion(listId);
+        verify(listRepository).findVersionByIdAndUserId(listId, userId);
+        verifyNoMoreInteractions(listRepository);
+    }
+
+    @Test
+    @DisplayName("patchTodoFromList(): " + THROWS_VERSION_MISMATCH_WHEN_EXPECTED_VERSION_IS_STALE)
+    void patchTodoFromList_ExpectedVersionIsStale_ThrowsTodoListVersionMismatchException() {
+        Long todoId = TodosTestHelper.TODO_ID_1;
+        TodoDTO patch = new TodoDTO(null, null, true, null, null, null);
+        long staleVersion = 3L;
+
+        given(todoService.patchTodo(userId, listId, todoId, patch)).willReturn(true);
+        given(listRepository.incrementVersionIfUnchanged(listId, staleVersion)).willReturn(0);
+
+        assertThrows(TodoListVersionMismatchException.class,
+            () -> listService.patchTodoFromList(userId, listId, todoId, patch, staleVersion));
+        verify(listRepository, never()).incrementVersion(listId);
+    }
+
+    @Test
+    @DisplayName("getTodoFromList(): " + THROWS_UNAUTHORIZED_DATA_ACCESS_WHEN_USER_DOES_NOT_HAVE_LIST_ACCESS)
+    void getTodoFromList_UserDoesNotHaveListAccess_ThrowsUnauthorizedDataAccessException() {
+        userId = 750L;
+        Long todoId = TodosTestHelper.TODO_ID_1;
+
+        given(todoService.getTodo(userId, listId, todoId)).willReturn(Optional.empty());
+        given(listRepository.findById(listId)).willReturn(Optional.of(persistedList));
+
+        assertThrows(UnauthorizedDataAccessException.class,
+            () -> listService.getTodoFromList(userId, listId, todoId));
+    }
+
+    @Test
+    @DisplayName("getTodoFromList(): " + GETS_TODO_FROM_LIST_WHEN_USER_HAS_LIST_ACCESS)
+    void getTodoFromList_UserHasListAccess_GetsTodo() {
+        Todo persistedTodo = TodosTestHelper.todo_1();
+        Long todoId = persistedTodo.getId();
+
+        given(todoService.getTodo(userId, listId, todoId)).willReturn(Optional.of(persistedTodo));
+
+        assertEquals(persistedTodo, listService.getTodoFromList(userId, listId, todoId));
+        verifyNoInteractions(listRepository);
+    }
+
     @Test
     @DisplayName("updateTodosFromList(): " + UPDATES_TODOS_FROM_LIST_WHEN_USER_HAS_LIST_ACCESS)
     void updateTodosFromList_UserHasListAccess_UpdatesTodosFromList() {
@@ -410,89 +625,120 @@ class TodoListServiceTest {
         persistedList.setTodos(persistedTodos);
 
         given(listRepository.findByIdEagerly(listId)).willReturn(Optional.of(persistedList));
+        given(listRepository.incrementVersionIfUnchanged(listId, persistedList.getVersion())).willReturn(1);
 
-        listService.updateTodosFromList(userId, listId, updatedTodosDTO);
+        listService.updateTodosFromList(userId, listId, updatedTodosDTO, null);
 
         verify(listRepository).findByIdEagerly(listId);
-        verify(todoService).updateTodos(persistedTodos, updatedTodosDTO);
+        verify(todoService).updateTodos(persistedList.getTodos(), updatedTodosDTO);
+    }
+
+    @Test
+    @DisplayName("updateTodosFromList(): " + THROWS_VERSION_MISMATCH_WHEN_EXPECTED_VERSION_IS_STALE)
+    void updateTodosFromList_ExpectedVersionIsStale_ThrowsTodoListVersionMismatchException() {
+        Set<TodoDTO> updatedTodosDTO = TodosTestHelper.todoDTOSet();
+        persistedList.setTodos(TodosTestHelper.todoSet());
+        long staleVersion = persistedList.getVersion() + 1;
+
+        given(listRepository.findByIdEagerly(listId)).willReturn(Optional.of(persistedList));
+
+        assertThrows(TodoListVersionMismatchException.class,
+            () -> listService.updateTodosFromList(userId, listId, updatedTodosDTO, staleVersion));
+        verifyNoInteractions(todoService);
+    }
+
+    @Test
+    @DisplayName("updateTodosFromList(): " + THROWS_OPTIMISTIC_LOCKING_FAILURE_WHEN_LIST_CHANGED_CONCURRENTLY)
+    void updateTodosFromList_ListChangedConcurrently_ThrowsOptimisticLockingFailureException() {
+        Set<TodoDTO> updatedTodosDTO = TodosTestHelper.todoDTOSet();
+        persistedList.setTodos(TodosTestHelper.todoSet());
+
+        given(listRepository.findByIdEagerly(listId)).willReturn(Optional.of(persistedList));
+        given(listRepository.incrementVersionIfUnchanged(listId, persistedList.getVersion())).willReturn(0);
+
+        assertThrows(OptimisticLockingFailureException.class,
+            () -> listService.updateTodosFromList(userId, listId, updatedTodosDTO, null));
     }
 
     @Test
     @DisplayName("removeTodoFromList(): " + THROWS_TODO_NOT_FOUND_WHEN_TODO_NOT_IN_LIST)
     void removeTodoFromList_TodoDoesNotExist_ThrowsTodoNotFoundException() {
-        Todo persistedTodo = TodosTestHelper.todo_1();
-        persistedList.addTodo(persistedTodo);
         Long todoId = 433L;
 
-        given(listRepository.findByIdEagerly(listId)).willReturn(Optional.of(persistedList));
+        given(todoService.deleteTodo(userId, listId, todoId)).willReturn(false);
+        given(listRepository.findById(listId)).willReturn(Optional.of(persistedList));
 
         assertThrows(TodoNotFoundException.class, () -> listService.removeTodoFromList(userId, listId, todoId));
-        verify(listRepository).findByIdEagerly(listId);
-        verifyNoInteractions(todoService);
+        verify(listRepository, never()).findByIdEagerly(any());
     }
 
     @Test
     @DisplayName("removeTodoFromList(): " + DOES_NOT_DELETE_TODO_FROM_LIST_WHEN_USER_DOES_NOT_HAVE_LIST_ACCESS)
     void removeTodoFromList_UserDoesNotHaveListAccess_DoesNotDeleteTodoFromList() {
         userId = 750L;
-        Todo persistedTodo = TodosTestHelper.todo_1();
-        Long todoId = persistedTodo.getId();
-        persistedList.addTodo(persistedTodo);
+        Long todoId = TodosTestHelper.TODO_ID_1;
 
-        given(listRepository.findByIdEagerly(listId)).willReturn(Optional.of(persistedList));
+        given(todoService.deleteTodo(userId, listId, todoId)).willReturn(false);
+        given(listRepository.findById(listId)).willReturn(Optional.of(persistedList));
 
         assertThrows(UnauthorizedDataAccessException.class,
             () -> listService.removeTodoFromList(userId, listId, todoId));
-        verify(listRepository).findByIdEagerly(listId);
-        verifyNoInteractions(todoService);
+        verify(listRepository, never()).findByIdEagerly(any());
     }
 
     @Test
     @DisplayName("removeTodoFromList(): " + DELETES_TODO_FROM_LIST_WHEN_USER_HAS_LIST_ACCESS)
     void removeTodoFromList_UserHasListAccess_DeletesTodoFromList() {
-        Todo persistedTodo = TodosTestHelper.todo_1();
-        Long todoId = persistedTodo.getId();
-        persistedList.addTodo(persistedTodo);
+        Long todoId = TodosTestHelper.TODO_ID_1;
 
-        given(listRepository.findByIdEagerly(listId)).willReturn(Optional.of(persistedList));
+        given(todoService.deleteTodo(userId, listId, todoId)).willReturn(true);
+        given(listRepository.findVersionByIdAndUserId(listId, userId)).willReturn(Optional.of(1L));
 
         listService.removeTodoFromList(userId, listId, todoId);
-        verify(listRepository).findByIdEagerly(listId);
-        verify(todoService).deleteTodo(persistedTodo, persistedList);
+        verify(todoService).deleteTodo(userId, listId, todoId);
+        verify(listRepository).incrementVersion(listId);
+        verify(listRepository).findVersionByIdAndUserId(listId, userId);
+        verifyNoMoreInteractions(listRepository);
+        verify(eventPublisher).publishEvent(new ListChangeEvent(userId, listId, todoId, DELETED, 1L));
+    }
+
+    @Test
+    @DisplayName("removeTodosFromList(): " + DOES_NOT_DELETE_TODOS_FROM_LIST_WHEN_USER_DOES_NOT_HAVE_LIST_ACCESS)
+    void removeTodosFromList_UserDoesNotHaveListAccess_DoesNotDeleteTodosFromList() {
+        userId = 750L;
+        Set<Long> todosId = Set.of(TodosTestHelper.TODO_ID_1, TodosTestHelper.TODO_ID_2);
+
+        given(listRepository.findById(listId)).willReturn(Optional.of(persistedList));
+
+        assertThrows(UnauthorizedDataAccessException.class,
+            () -> listService.removeTodosFromList(userId, listId, todosId));
+        verify(listRepository).findById(listId);
+        verifyNoInteractions(todoService);
     }
 
     @Test
     @DisplayName("removeTodosFromList(): " + DELETES_TODOS_FROM_LIST_WHEN_USER_HAS_LIST_ACCESS)
     void removeTodosFromList_UserHasListAccess_DeletesTodosFromList() {
-        Set<Todo> persistedTodos = TodosTestHelper.todoSet();
-        persistedList.setTodos(persistedTodos);
-
-        Set<Long> todosId = new HashSet<>();
-        for (Todo persistedTodo : persistedTodos) {
-            todosId.add(persistedTodo.getId());
-        }
+        Set<Long> todosId = Set.of(TodosTestHelper.TODO_ID_1, TodosTestHelper.TODO_ID_2);
 
-        given(listRepository.findByIdEagerly(listId)).willReturn(Optional.of(persistedList));
+        given(listRepository.findById(listId)).willReturn(Optional.of(persistedList));
+        given(listRepository.findVersionByIdAndUserId(listId, userId)).willReturn(Optional.of(1L));
 
         listService.removeTodosFromList(userId, listId, todosId);
-        verify(listRepository).findByIdEagerly(listId);
-        for (Todo persistedTodo : persistedTodos) {
-            verify(todoService).deleteTodo(persistedTodo, persistedList);
-        }
+        verify(listRepository).findById(listId);
+        verify(listRepository, never()).findByIdEagerly(any());
+        verify(todoService).deleteTodos(listId, todosId);
     }
 
     @Test
     @DisplayName("removeTodosFromList(): " + DELETES_ALL_TODOS_FROM_LIST_WHEN_USER_HAS_LIST_ACCESS)
     void removeTodosFromList_UserHasListAccess_DeletesAllTodosFromList() {
-        Set<Todo> persistedTodos = TodosTestHelper.todoSet();
-        persistedList.setTodos(persistedTodos);
-
-        given(listRepository.findByIdEagerly(listId)).willReturn(Optional.of(persistedList));
+        given(listRepository.findById(listId)).willReturn(Optional.of(persistedList));
+        given(listRepository.findVersionByIdAndUserId(listId, userId)).willReturn(Optional.of(1L));
 
         listService.removeTodosFromList(userId, listId);
-        verify(listRepository).findByIdEagerly(listId);
-        for (Todo persistedTodo : persistedTodos) {
-            verify(todoService).deleteTodo(persistedTodo, persistedList);
-        }
+        verify(listRepository).findById(listId);
+        verify(listRepository, never()).findByIdEagerly(any());
+        verify(todoService).deleteAllTodos(listId);
     }
 }
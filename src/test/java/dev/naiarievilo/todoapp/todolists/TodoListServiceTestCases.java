@@ -2,6 +2,8 @@ package dev.naiarievilo.todoapp.todolists;
 
 public class TodoListServiceTestCases {
 
+    public static final String ADDS_TODOS_TO_LIST_WHEN_USER_HAS_LIST_ACCESS =
+        "Adds to-dos to list without loading its to-dos when user has access to the list";
     public static final String ADDS_TODO_TO_LIST_WHEN_USER_HAS_LIST_ACCESS =
         "Adds todo to list when user has access to the list";
     public static final String CREATES_AND_RETURNS_INBOX_LIST_WHEN_LIST_DOES_NOT_EXIST =
@@ -10,48 +12,74 @@ public class TodoListServiceTestCases {
         "Creates and returns today's list when list does not exist";
     public static final String CREATES_AND_RETURNS_WEEKLY_LISTS_WHEN_LISTS_DO_NOT_EXIST =
         "Creates and returns weekly lists when lists do not exist";
+    public static final String CREATES_ONLY_MISSING_WEEKLY_LISTS_WHEN_SOME_LISTS_EXIST =
+        "Creates only missing weekly lists when some of the week's lists exist";
     public static final String CREATES_LIST_WHEN_INPUT_VALID =
         "Creates list when input is valid";
     public static final String DELETES_ALL_TODOS_FROM_LIST_WHEN_USER_HAS_LIST_ACCESS =
-        "Removes todos from list when user has access to the list";
+        "Removes all todos from list with a single statement when user has access to the list";
     public static final String DELETES_LIST_WHEN_USER_HAS_ACCESS =
         "Deletes list when user has access to the list";
     public static final String DELETES_TODOS_FROM_LIST_WHEN_USER_HAS_LIST_ACCESS =
-        "Removes todos from list when user has access to the list";
+        "Removes only the given todos of the list with a single statement when user has access to the list";
     public static final String DELETES_TODO_FROM_LIST_WHEN_USER_HAS_LIST_ACCESS =
-        "Deletes todo from list when user has access to the list";
+        "Deletes todo from list with a single owner-checked statement when user has access to the list";
     public static final String DOES_NOT_ADD_TODO_TO_LIST_WHEN_USER_DOES_NOT_HAVE_LIST_ACCESS =
         "Does not add todo to list when user does not have access to the list";
     public static final String DOES_NOT_DELETE_LIST_WHEN_USER_DOES_NOT_HAVE_LIST_ACCESS =
         "Does not delete list when user does not have access to the list";
+    public static final String DOES_NOT_DELETE_TODOS_FROM_LIST_WHEN_USER_DOES_NOT_HAVE_LIST_ACCESS =
+        "Does not delete to-dos from list when user does not have access to the list";
     public static final String DOES_NOT_DELETE_TODO_FROM_LIST_WHEN_USER_DOES_NOT_HAVE_LIST_ACCESS =
         "Does not delete todo from list when user does not have access to the list";
     public static final String DOES_NOT_GET_TODOS_FROM_LIST_WHEN_USER_DOES_NOT_HAVE_LIST_ACCESS =
         "Does not get todos form list when user does not have have access to the list";
+    public static final String DOES_NOT_GET_TODOS_PAGE_FROM_LIST_WHEN_USER_DOES_NOT_HAVE_LIST_ACCESS =
+        "Does not get page of to-dos from list when user does not have access to list";
     public static final String DOES_NOT_UPDATE_LIST_WHEN_USER_DOES_NOT_HAVE_LIST_ACCESS =
         "Does not update list when user does not have access to the list";
     public static final String DOES_NOT_UPDATE_TODO_FROM_LIST_WHEN_USER_DOES_NOT_HAVE_LIST_ACCESS =
         "Does not update todo from list when user does not have access to the list";
     public static final String GETS_ALL_TODOS_FROM_LIST_WHEN_USER_HAS_LIST_ACCESS =
         "Gets all todos form list when user has access to the list";
+    public static final String GETS_TODOS_PAGE_FROM_LIST_WHEN_USER_HAS_LIST_ACCESS =
+        "Gets page of to-dos from list without loading the whole list when user has access to list";
+    public static final String GETS_TODO_FROM_LIST_WHEN_USER_HAS_LIST_ACCESS =
+        "Gets to-do with a single owner-checked query when user has access to the list";
+    public static final String PATCHES_TODO_FROM_LIST_WHEN_USER_HAS_LIST_ACCESS =
+        "Patches to-do with a single owner-checked statement when user has access to the list";
     public static final String RETURNS_ALL_USER_CUSTOM_LISTS =
         "Returns all custom lists of user";
+    public static final String RETURNS_CUSTOM_LIST_WITHOUT_QUERYING_TODOS =
+        "Returns custom list without querying its to-dos";
     public static final String RETURNS_INBOX_LIST_WHEN_LIST_EXISTS =
         "Returns inbox list when inbox list exists";
     public static final String RETURNS_LIST_WHEN_LIST_EXISTS =
         "Returns list when list exists";
+    public static final String RETURNS_LIST_WITH_TODOS_WITHOUT_MANAGING_ENTITIES =
+        "Returns list and its to-dos from projections without managing any entity";
     public static final String RETURNS_TODAY_LIST_WHEN_LIST_EXISTS =
         "Returns today's list when list exists";
     public static final String RETURNS_WEEKLY_LISTS_WHEN_LISTS_EXIST =
         "Returns weekly lists when list exists";
+    public static final String THROWS_BATCH_SIZE_EXCEEDED_WHEN_TOO_MANY_TODOS =
+        "Throws `BatchSizeExceededException` when more to-dos than the maximum batch size are given";
+    public static final String THROWS_INVALID_CURSOR_WHEN_CURSOR_MALFORMED =
+        "Throws `InvalidCursorException` when cursor is malformed or both cursors are provided";
     public static final String THROWS_LIST_NOT_FOUND_WHEN_LIST_DOES_NOT_EXIST =
         "Throws `TodoListNotFoundException` when list does not exist";
+    public static final String THROWS_OPTIMISTIC_LOCKING_FAILURE_WHEN_LIST_CHANGED_CONCURRENTLY =
+        "Throws `OptimisticLockingFailureException` when list was changed by another request while being updated";
     public static final String THROWS_POSITION_EXCEEDS_MAX_ALLOWED_WHEN_NEW_POSITION_GREATER_THAN_LIST_SIZE =
         "Throws `PositionExceedsMaxAllowedException` when new position is greater than the list's size";
+    public static final String THROWS_POSITION_NOT_PATCHABLE_WHEN_POSITION_GIVEN =
+        "Throws `PositionNotPatchableException` when a new position is given";
     public static final String THROWS_TODO_NOT_FOUND_WHEN_TODO_NOT_IN_LIST =
         "Throw `TodoNotFoundException` when todo does not exist in the list";
     public static final String THROWS_UNAUTHORIZED_DATA_ACCESS_WHEN_USER_DOES_NOT_HAVE_LIST_ACCESS =
         "Throws `UnauthorizedDataAccessException` when user is not the list owner";
+    public static final String THROWS_VERSION_MISMATCH_WHEN_EXPECTED_VERSION_IS_STALE =
+        "Throws `TodoListVersionMismatchException` when the expected version is not the list's current version";
     public static final String UPDATES_LIST_AND_ITS_TODOS_WHEN_USER_HAS_LIST_ACCESS =
         "Updates list and its to-dos when user has access to the list";
     public static final String UPDATES_LIST_WHEN_USER_HAS_LIST_ACCESS =
@@ -60,4 +88,6 @@ public class TodoListServiceTestCases {
         "Updates todos from list when user has access to the list";
     public static final String UPDATES_TODO_FROM_LIST_WHEN_USER_HAS_LIST_ACCESS =
         "Updates todo from list when user has access to the list";
+    public static final String UPDATES_TODO_WITHOUT_LOADING_LIST_WHEN_POSITION_NOT_GIVEN =
+        "Updates to-do without loading its list when no new position is given";
 }
@@ -17,6 +17,7 @@ public class TodoListsTestHelper {
     public static final String LIST_TITLE_3 = "List title 3";
     public static final LocalDate TODAY = LocalDate.now();
     public static final LocalDate START_OF_WEEK = TODAY.minusDays(TODAY.getDayOfWeek().getValue() - 1);
+    public static final LocalDate END_OF_WEEK = START_OF_WEEK.plusDays(6);
     public static final LocalDate NEXT_WEEK = START_OF_WEEK.plusWeeks(1);
 
     public static TodoList inboxList() {
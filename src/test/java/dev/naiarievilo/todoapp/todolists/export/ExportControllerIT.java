@@ -0,0 +1,75 @@
+package dev.naiarievilo.todoapp.todolists.export;
+
+import dev.naiarievilo.todoapp.ControllerIntegrationTests;
+import dev.naiarievilo.todoapp.security.jwt.JwtService;
+import dev.naiarievilo.todoapp.users.User;
+import dev.naiarievilo.todoapp.users.UserService;
+import dev.naiarievilo.todoapp.users.dtos.UserCreationDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static dev.naiarievilo.todoapp.security.jwt.JwtTokens.ACCESS_TOKEN;
+import static dev.naiarievilo.todoapp.security.jwt.JwtTokens.BEARER_PREFIX;
+import static dev.naiarievilo.todoapp.todolists.export.ExportController.EXPORT_FILENAME;
+import static dev.naiarievilo.todoapp.todolists.export.ExportControllerTestCases.*;
+import static dev.naiarievilo.todoapp.users.UsersTestConstants.*;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class ExportControllerIT extends ControllerIntegrationTests {
+
+    @Autowired
+    UserService userService;
+    @Autowired
+    JwtService jwtService;
+    @Autowired
+    MockMvc mockMvc;
+
+    private String accessToken;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        var userCreationDTO = new UserCreationDTO(EMAIL_1, PASSWORD_1, CONFIRM_PASSWORD_1, FIRST_NAME_1, LAST_NAME_1);
+        user = userService.createUser(userCreationDTO);
+        accessToken = jwtService.createToken(user, ACCESS_TOKEN);
+    }
+
+    @Test
+    @DisplayName("exportUserData(): " + STATUS_200_STREAMS_NDJSON_ATTACHMENT_WHEN_USER_AUTHENTICATED)
+    void exportUserData_UserAuthenticated_StreamsNdjsonAttachment() throws Exception {
+        MvcResult result = mockMvc.perform(get("/users/" + user.getId() + "/export")
+                .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + accessToken)
+            )
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpectAll(
+                status().isOk(),
+                content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON),
+                header().string(HttpHeaders.CONTENT_DISPOSITION, containsString(EXPORT_FILENAME))
+            );
+    }
+
+    @Test
+    @DisplayName("exportUserData(): " + STATUS_403_DENIES_EXPORT_WHEN_USER_IS_NOT_OWNER)
+    void exportUserData_UserIsNotOwner_DeniesExport() throws Exception {
+        var otherUserCreationDTO =
+            new UserCreationDTO(EMAIL_2, PASSWORD_2, CONFIRM_PASSWORD_2, FIRST_NAME_2, LAST_NAME_2);
+        User otherUser = userService.createUser(otherUserCreationDTO);
+
+        mockMvc.perform(get("/users/" + otherUser.getId() + "/export")
+                .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + accessToken)
+            )
+            .andExpect(status().isForbidden());
+    }
+}
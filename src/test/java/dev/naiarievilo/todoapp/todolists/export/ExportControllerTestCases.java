@@ -0,0 +1,12 @@
+package dev.naiarievilo.todoapp.todolists.export;
+
+import static dev.naiarievilo.todoapp.ResponseConstants.FORBIDDEN;
+import static dev.naiarievilo.todoapp.ResponseConstants.OK;
+
+public class ExportControllerTestCases {
+
+    public static final String STATUS_200_STREAMS_NDJSON_ATTACHMENT_WHEN_USER_AUTHENTICATED =
+        OK + "Streams export as an NDJSON attachment when user is authenticated";
+    public static final String STATUS_403_DENIES_EXPORT_WHEN_USER_IS_NOT_OWNER =
+        FORBIDDEN + "Denies export when the authenticated user is not the owner of the data";
+}
@@ -0,0 +1,138 @@
+package dev.naiarievilo.todoapp.todolists.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.naiarievilo.todoapp.ServiceIntegrationTests;
+import dev.naiarievilo.todoapp.todolists.TodoList;
+import dev.naiarievilo.todoapp.todolists.TodoListRepository;
+import dev.naiarievilo.todoapp.todolists.todos.Todo;
+import dev.naiarievilo.todoapp.todolists.todos.TodosTestHelper;
+import dev.naiarievilo.todoapp.users.User;
+import dev.naiarievilo.todoapp.users.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.naiarievilo.todoapp.todolists.ListTypes.CUSTOM;
+import static dev.naiarievilo.todoapp.todolists.TodoListsTestHelper.*;
+import static dev.naiarievilo.todoapp.todolists.export.ExportServiceTestCases.*;
+import static dev.naiarievilo.todoapp.todolists.todos.TodosTestHelper.*;
+import static dev.naiarievilo.todoapp.users.UsersTestConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExportServiceIT extends ServiceIntegrationTests {
+
+    @Autowired
+    ExportService exportService;
+
+    @Autowired
+    TodoListRepository listRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = newUser(EMAIL_1, PASSWORD_1);
+    }
+
+    private User newUser(String email, String password) {
+        User newUser = new User();
+        newUser.setEmail(email);
+        newUser.setPassword(password);
+        userRepository.persist(newUser);
+        return newUser;
+    }
+
+    private TodoList newList(User owner, String title) {
+        TodoList list = new TodoList();
+        list.setTitle(title);
+        list.setType(CUSTOM);
+        list.setUser(owner);
+        list.setTodos(TodosTestHelper.newTodoSet());
+        listRepository.persist(list);
+        return list;
+    }
+
+    private List<JsonNode> export(User owner) throws IOException {
+        var outputStream = new ByteArrayOutputStream();
+        exportService.exportUserData(owner.getId(), outputStream);
+
+        String ndjson = outputStream.toString(StandardCharsets.UTF_8);
+        List<JsonNode> records = new ArrayList<>();
+        for (String line : ndjson.lines().toList()) {
+            records.add(objectMapper.readTree(line));
+        }
+
+        assertTrue(ndjson.isEmpty() || ndjson.endsWith("\n"));
+        return records;
+    }
+
+    @Test
+    @DisplayName("exportUserData(): " + WRITES_LISTS_THEN_TODOS_AS_NDJSON_WHEN_USER_HAS_DATA)
+    void exportUserData_UserHasData_WritesListsThenTodos() throws IOException {
+        TodoList list = newList(user, LIST_TITLE_1);
+        TodoList otherList = newList(user, LIST_TITLE_2);
+        Todo lastTodo = otherList.getTodos().stream().reduce((first, second) -> second).orElseThrow();
+        lastTodo.setSortKey(0);
+
+        List<JsonNode> records = export(user);
+        assertEquals(8, records.size());
+
+        JsonNode listRecord = records.get(0);
+        assertEquals("list", listRecord.get("kind").asText());
+        assertEquals(list.getId(), listRecord.get("id").asLong());
+        assertEquals(LIST_TITLE_1, listRecord.get("title").asText());
+        assertEquals(CUSTOM.getType(), listRecord.get("type").asText());
+        assertEquals(otherList.getId(), records.get(1).get("id").asLong());
+
+        List<String> listTasks = new ArrayList<>();
+        for (JsonNode todoRecord : records.subList(2, 5)) {
+            assertEquals("todo", todoRecord.get("kind").asText());
+            assertEquals(list.getId(), todoRecord.get("list_id").asLong());
+            assertEquals(listTasks.size() + 1, todoRecord.get("position").asInt());
+            listTasks.add(todoRecord.get("task").asText());
+        }
+        assertEquals(List.of(TODO_TASK_1, TODO_TASK_2, TODO_TASK_3), listTasks);
+
+        JsonNode movedTodoRecord = records.get(5);
+        assertEquals(otherList.getId(), movedTodoRecord.get("list_id").asLong());
+        assertEquals(lastTodo.getId(), movedTodoRecord.get("id").asLong());
+        assertEquals(1, movedTodoRecord.get("position").asInt());
+        assertEquals(TODO_DUE_DATE_3.toString(), movedTodoRecord.get("due_date").asText());
+    }
+
+    @Test
+    @DisplayName("exportUserData(): " + WRITES_ONLY_USER_DATA_WHEN_OTHER_USERS_HAVE_DATA)
+    void exportUserData_OtherUsersHaveData_WritesOnlyUserData() throws IOException {
+        TodoList list = newList(user, LIST_TITLE_1);
+        newList(newUser(EMAIL_2, PASSWORD_2), LIST_TITLE_2);
+
+        List<JsonNode> records = export(user);
+        assertEquals(4, records.size());
+        for (JsonNode record : records) {
+            Long listId = record.get("kind").asText().equals("list")
+                ? record.get("id").asLong()
+                : record.get("list_id").asLong();
+            assertEquals(list.getId(), listId);
+        }
+    }
+
+    @Test
+    @DisplayName("exportUserData(): " + WRITES_NOTHING_WHEN_USER_HAS_NO_DATA)
+    void exportUserData_UserHasNoData_WritesNothing() throws IOException {
+        assertTrue(export(user).isEmpty());
+    }
+}
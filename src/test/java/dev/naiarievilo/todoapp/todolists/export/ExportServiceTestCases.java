@@ -0,0 +1,11 @@
+package dev.naiarievilo.todoapp.todolists.export;
+
+public class ExportServiceTestCases {
+
+    public static final String WRITES_LISTS_THEN_TODOS_AS_NDJSON_WHEN_USER_HAS_DATA =
+        "Writes user's lists followed by their to-dos in position order, one JSON record per line";
+    public static final String WRITES_NOTHING_WHEN_USER_HAS_NO_DATA =
+        "Writes nothing when the user has no lists";
+    public static final String WRITES_ONLY_USER_DATA_WHEN_OTHER_USERS_HAVE_DATA =
+        "Writes only the user's own lists and to-dos when other users have data";
+}
@@ -0,0 +1,88 @@
+package dev.naiarievilo.todoapp.todolists.notifications;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static dev.naiarievilo.todoapp.todolists.notifications.ChangeOperation.UPDATED;
+import static dev.naiarievilo.todoapp.todolists.notifications.ListNotificationServiceTestCases.*;
+import static dev.naiarievilo.todoapp.users.UsersTestConstants.USER_ID_1;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ListNotificationServiceTest {
+
+    private static final int MAX_STREAMS_PER_USER = 2;
+    private static final int MAX_PENDING_SENDS = 16;
+
+    private ListNotificationService notificationService;
+
+    @BeforeEach
+    void setUp() {
+        notificationService = newService(MAX_PENDING_SENDS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationService.destroy();
+    }
+
+    private ListNotificationService newService(int maxPendingSends) {
+        ListNotificationProperties properties = new ListNotificationProperties(
+            Duration.ofMinutes(30), Duration.ofSeconds(30), MAX_STREAMS_PER_USER, maxPendingSends, 1, 10
+        );
+        return new ListNotificationService(properties);
+    }
+
+    private void awaitStreams(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (notificationService.countStreams(USER_ID_1) != count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(count, notificationService.countStreams(USER_ID_1));
+    }
+
+    @Test
+    @DisplayName("subscribe(): " + CLOSES_OLDEST_STREAM_WHEN_USER_EXCEEDS_MAX_STREAMS)
+    void subscribe_UserExceedsMaxStreams_ClosesOldestStream() {
+        for (int i = 0; i <= MAX_STREAMS_PER_USER; i++) {
+            notificationService.subscribe(USER_ID_1);
+        }
+
+        assertEquals(MAX_STREAMS_PER_USER, notificationService.countStreams(USER_ID_1));
+    }
+
+    @Test
+    @DisplayName("onListChange(): " + SENDS_CHANGE_TO_EVERY_STREAM_OF_USER)
+    void onListChange_UserHasStreams_SendsChangeToEveryStream() throws InterruptedException {
+        notificationService.subscribe(USER_ID_1);
+        notificationService.subscribe(USER_ID_1).complete();
+
+        notificationService.onListChange(new ListChangeEvent(USER_ID_1, 1L, null, UPDATED, 1L));
+        awaitStreams(1);
+    }
+
+    @Test
+    @DisplayName("onListChange(): " + CLOSES_STREAM_WHEN_TOO_MANY_SENDS_PENDING)
+    void onListChange_TooManySendsPending_ClosesStream() {
+        notificationService.destroy();
+        notificationService = newService(0);
+        notificationService.subscribe(USER_ID_1);
+
+        notificationService.onListChange(new ListChangeEvent(USER_ID_1, 1L, null, UPDATED, 1L));
+        assertEquals(0, notificationService.countStreams(USER_ID_1));
+    }
+
+    @Test
+    @DisplayName("sendHeartbeats(): " + DROPS_STREAM_WHEN_HEARTBEAT_SEND_FAILS)
+    void sendHeartbeats_SendFails_DropsStream() throws InterruptedException {
+        notificationService.subscribe(USER_ID_1);
+        notificationService.subscribe(USER_ID_1).complete();
+
+        notificationService.sendHeartbeats();
+        awaitStreams(1);
+    }
+}
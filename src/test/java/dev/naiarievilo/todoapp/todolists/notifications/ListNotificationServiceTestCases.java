@@ -0,0 +1,13 @@
+package dev.naiarievilo.todoapp.todolists.notifications;
+
+public class ListNotificationServiceTestCases {
+
+    public static final String CLOSES_OLDEST_STREAM_WHEN_USER_EXCEEDS_MAX_STREAMS =
+        "Closes the oldest stream of the user when the maximum number of streams is exceeded";
+    public static final String CLOSES_STREAM_WHEN_TOO_MANY_SENDS_PENDING =
+        "Closes the stream instead of scheduling a send when too many sends to it are pending";
+    public static final String DROPS_STREAM_WHEN_HEARTBEAT_SEND_FAILS =
+        "Sends heartbeats on the send executor and drops the streams they could not be sent to";
+    public static final String SENDS_CHANGE_TO_EVERY_STREAM_OF_USER =
+        "Sends the change to every open stream of the user and drops the streams it could not be sent to";
+}
@@ -0,0 +1,90 @@
+package dev.naiarievilo.todoapp.todolists.sync;
+
+import dev.naiarievilo.todoapp.ControllerIntegrationTests;
+import dev.naiarievilo.todoapp.security.jwt.JwtService;
+import dev.naiarievilo.todoapp.todolists.TodoList;
+import dev.naiarievilo.todoapp.todolists.TodoListRepository;
+import dev.naiarievilo.todoapp.todolists.TodoListService;
+import dev.naiarievilo.todoapp.todolists.dtos.TodoListDTO;
+import dev.naiarievilo.todoapp.todolists.todos.TodosTestHelper;
+import dev.naiarievilo.todoapp.users.User;
+import dev.naiarievilo.todoapp.users.UserService;
+import dev.naiarievilo.todoapp.users.dtos.UserCreationDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static dev.naiarievilo.todoapp.security.jwt.JwtTokens.ACCESS_TOKEN;
+import static dev.naiarievilo.todoapp.security.jwt.JwtTokens.BEARER_PREFIX;
+import static dev.naiarievilo.todoapp.todolists.ListTypes.CUSTOM;
+import static dev.naiarievilo.todoapp.todolists.TodoListsTestHelper.LIST_TITLE_1;
+import static dev.naiarievilo.todoapp.todolists.sync.SyncController.SINCE_PARAM;
+import static dev.naiarievilo.todoapp.todolists.sync.SyncControllerTestCases.*;
+import static dev.naiarievilo.todoapp.users.UsersTestConstants.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class SyncControllerIT extends ControllerIntegrationTests {
+
+    @Autowired
+    UserService userService;
+    @Autowired
+    TodoListService listService;
+    @Autowired
+    TodoListRepository listRepository;
+    @Autowired
+    JwtService jwtService;
+    @Autowired
+    MockMvc mockMvc;
+
+    private String accessToken;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        var userCreationDTO = new UserCreationDTO(EMAIL_1, PASSWORD_1, CONFIRM_PASSWORD_1, FIRST_NAME_1, LAST_NAME_1);
+        user = userService.createUser(userCreationDTO);
+        accessToken = jwtService.createToken(user, ACCESS_TOKEN);
+    }
+
+    @Test
+    @DisplayName("getChanges(): " + STATUS_200_RETURNS_CHANGES_AND_CURSOR_WHEN_USER_AUTHENTICATED)
+    void getChanges_UserAuthenticated_ReturnsChangesAndCursor() throws Exception {
+        TodoList list = listService.createList(user, new TodoListDTO(null, LIST_TITLE_1, null, null, null), CUSTOM);
+        listService.addNewTodoToList(user.getId(), list.getId(), TodosTestHelper.newTodoDTO_1());
+        listRepository.flush();
+
+        mockMvc.perform(get("/users/" + user.getId() + "/changes")
+                .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + accessToken)
+                .param(SINCE_PARAM, "0")
+            )
+            .andExpectAll(
+                status().isOk(),
+                content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON),
+                jsonPath("$.lists[?(@.id == " + list.getId() + ")]").exists(),
+                jsonPath("$.todos.length()").value(1),
+                jsonPath("$.todos[0].list_id").value(list.getId()),
+                jsonPath("$.todos[0].sort_key").isNumber(),
+                jsonPath("$.deletions").isEmpty(),
+                jsonPath("$.cursor").isNumber(),
+                jsonPath("$.has_more").value(false)
+            );
+    }
+
+    @Test
+    @DisplayName("getChanges(): " + STATUS_403_DENIES_CHANGES_WHEN_USER_IS_NOT_OWNER)
+    void getChanges_UserIsNotOwner_DeniesChanges() throws Exception {
+        var otherUserCreationDTO =
+            new UserCreationDTO(EMAIL_2, PASSWORD_2, CONFIRM_PASSWORD_2, FIRST_NAME_2, LAST_NAME_2);
+        User otherUser = userService.createUser(otherUserCreationDTO);
+
+        mockMvc.perform(get("/users/" + otherUser.getId() + "/changes")
+                .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + accessToken)
+            )
+            .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,12 @@
+package dev.naiarievilo.todoapp.todolists.sync;
+
+import static dev.naiarievilo.todoapp.ResponseConstants.FORBIDDEN;
+import static dev.naiarievilo.todoapp.ResponseConstants.OK;
+
+public class SyncControllerTestCases {
+
+    public static final String STATUS_200_RETURNS_CHANGES_AND_CURSOR_WHEN_USER_AUTHENTICATED =
+        OK + "Returns changed lists and to-dos with the next cursor when user is authenticated";
+    public static final String STATUS_403_DENIES_CHANGES_WHEN_USER_IS_NOT_OWNER =
+        FORBIDDEN + "Denies changes when the authenticated user is not the owner of the data";
+}
@@ -0,0 +1,150 @@
+package dev.naiarievilo.todoapp.todolists.sync;
+
+import dev.naiarievilo.todoapp.ServiceIntegrationTests;
+import dev.naiarievilo.todoapp.todolists.TodoList;
+import dev.naiarievilo.todoapp.todolists.TodoListRepository;
+import dev.naiarievilo.todoapp.todolists.TodoListService;
+import dev.naiarievilo.todoapp.todolists.dtos.TodoListDTO;
+import dev.naiarievilo.todoapp.todolists.todos.TodoPage;
+import dev.naiarievilo.todoapp.todolists.todos.TodosTestHelper;
+import dev.naiarievilo.todoapp.users.User;
+import dev.naiarievilo.todoapp.users.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.naiarievilo.todoapp.todolists.ListTypes.CUSTOM;
+import static dev.naiarievilo.todoapp.todolists.TodoListsTestHelper.LIST_TITLE_1;
+import static dev.naiarievilo.todoapp.todolists.TodoListsTestHelper.LIST_TITLE_2;
+import static dev.naiarievilo.todoapp.todolists.sync.SyncServiceTestCases.*;
+import static dev.naiarievilo.todoapp.users.UsersTestConstants.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyncServiceIT extends ServiceIntegrationTests {
+
+    @Autowired
+    SyncService syncService;
+
+    @Autowired
+    TodoListService listService;
+
+    @Autowired
+    TodoListRepository listRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    private User user;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        user = newUser(EMAIL_1, PASSWORD_1);
+        userId = user.getId();
+    }
+
+    private User newUser(String email, String password) {
+        User newUser = new User();
+        newUser.setEmail(email);
+        newUser.setPassword(password);
+        userRepository.persist(newUser);
+        return newUser;
+    }
+
+    private TodoList newListWithTodos(User owner, String title) {
+        TodoList list = listService.createList(owner, new TodoListDTO(null, title, null, null, null), CUSTOM);
+        listService.addNewTodosToList(owner.getId(), list.getId(), List.copyOf(TodosTestHelper.newTodoDTOSet()));
+        return list;
+    }
+
+    // Change sequences are drawn by triggers, so pending writes are flushed before reading them
+    private Changes getChanges(long since, int limit) {
+        listRepository.flush();
+        return syncService.getChanges(userId, since, limit);
+    }
+
+    @Test
+    @DisplayName("getChanges(): " + RETURNS_ALL_USER_DATA_WITHOUT_DELETIONS_WHEN_SYNCING_FROM_SCRATCH)
+    void getChanges_NoCursor_ReturnsAllUserDataWithoutDeletions() {
+        TodoList list = newListWithTodos(user, LIST_TITLE_1);
+        newListWithTodos(newUser(EMAIL_2, PASSWORD_2), LIST_TITLE_2);
+
+        Changes changes = getChanges(0, Changes.MAX_SIZE);
+        assertEquals(List.of(list.getId()), changes.lists().stream().map(ListChange::id).toList());
+        assertEquals(3, changes.todos().size());
+        for (TodoChange todo : changes.todos()) {
+            assertEquals(list.getId(), todo.listId());
+        }
+        assertTrue(changes.deletions().isEmpty());
+        assertFalse(changes.hasMore());
+        assertTrue(changes.cursor() > 0);
+    }
+
+    @Test
+    @DisplayName("getChanges(): " + RETURNS_ONLY_ROWS_WRITTEN_AFTER_CURSOR)
+    void getChanges_RowsWrittenAfterCursor_ReturnsOnlyThoseRows() {
+        TodoList list = newListWithTodos(user, LIST_TITLE_1);
+        long cursor = getChanges(0, Changes.MAX_SIZE).cursor();
+
+        TodoPage addedTodos =
+            listService.addNewTodosToList(userId, list.getId(), List.of(TodosTestHelper.newTodoDTO_1()));
+        Long addedTodoId = addedTodos.todos().getFirst().getId();
+
+        Changes changes = getChanges(cursor, Changes.MAX_SIZE);
+        assertEquals(List.of(addedTodoId), changes.todos().stream().map(TodoChange::id).toList());
+        // Adding a to-do bumps its list's version, so the list is returned again
+        assertEquals(1, changes.lists().size());
+        assertEquals(list.getId(), changes.lists().getFirst().id());
+        assertTrue(changes.cursor() > cursor);
+
+        Changes noChanges = getChanges(changes.cursor(), Changes.MAX_SIZE);
+        assertTrue(noChanges.lists().isEmpty());
+        assertTrue(noChanges.todos().isEmpty());
+        assertEquals(changes.cursor(), noChanges.cursor());
+    }
+
+    @Test
+    @DisplayName("getChanges(): " + RETURNS_DELETIONS_OF_LISTS_AND_TODOS_AFTER_CURSOR)
+    void getChanges_ListAndTodoDeletedAfterCursor_ReturnsDeletions() {
+        TodoList list = newListWithTodos(user, LIST_TITLE_1);
+        TodoList otherList = newListWithTodos(user, LIST_TITLE_2);
+        Changes initialChanges = getChanges(0, Changes.MAX_SIZE);
+        Long removedTodoId = initialChanges.todos().stream()
+            .filter(todo -> todo.listId().equals(list.getId()))
+            .findFirst().orElseThrow().id();
+
+        listService.removeTodoFromList(userId, list.getId(), removedTodoId);
+        listService.deleteList(userId, otherList.getId());
+
+        List<Deletion> deletions = getChanges(initialChanges.cursor(), Changes.MAX_SIZE).deletions();
+        assertTrue(deletions.stream().anyMatch(deletion -> deletion.recordType().equals(Tombstone.TODO)
+            && deletion.recordId().equals(removedTodoId) && list.getId().equals(deletion.listId())));
+        assertTrue(deletions.stream().anyMatch(deletion -> deletion.recordType().equals(Tombstone.LIST)
+            && deletion.recordId().equals(otherList.getId())));
+        assertTrue(deletions.stream().noneMatch(deletion -> deletion.recordType().equals(Tombstone.TODO)
+            && otherList.getId().equals(deletion.listId())));
+    }
+
+    @Test
+    @DisplayName("getChanges(): " + RETURNS_PAGE_AND_CURSOR_TO_REST_WHEN_MORE_CHANGES_THAN_LIMIT)
+    void getChanges_MoreChangesThanLimit_ReturnsPageAndCursorToRest() {
+        newListWithTodos(user, LIST_TITLE_1);
+
+        Changes firstPage = getChanges(0, 2);
+        assertEquals(2, firstPage.lists().size() + firstPage.todos().size());
+        assertTrue(firstPage.hasMore());
+
+        Changes secondPage = getChanges(firstPage.cursor(), 2);
+        assertEquals(2, secondPage.lists().size() + secondPage.todos().size());
+        assertFalse(secondPage.hasMore());
+
+        List<Long> todoIds = new ArrayList<>();
+        firstPage.todos().forEach(todo -> todoIds.add(todo.id()));
+        secondPage.todos().forEach(todo -> todoIds.add(todo.id()));
+        assertEquals(3, todoIds.stream().distinct().count());
+    }
+}
@@ -0,0 +1,13 @@
+package dev.naiarievilo.todoapp.todolists.sync;
+
+public class SyncServiceTestCases {
+
+    public static final String RETURNS_ALL_USER_DATA_WITHOUT_DELETIONS_WHEN_SYNCING_FROM_SCRATCH =
+        "Returns every list and to-do of the user, and no deletions, when no cursor is given";
+    public static final String RETURNS_ONLY_ROWS_WRITTEN_AFTER_CURSOR =
+        "Returns only the lists and to-dos written after the given cursor";
+    public static final String RETURNS_DELETIONS_OF_LISTS_AND_TODOS_AFTER_CURSOR =
+        "Returns a deletion for each list and to-do deleted after the given cursor";
+    public static final String RETURNS_PAGE_AND_CURSOR_TO_REST_WHEN_MORE_CHANGES_THAN_LIMIT =
+        "Returns the first changes and a cursor to the rest when more changes than the limit are waiting";
+}
@@ -1,5 +1,7 @@
 package dev.naiarievilo.todoapp.todolists.todos;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.naiarievilo.todoapp.todolists.TodoList;
 import dev.naiarievilo.todoapp.todolists.todos.dtos.TodoDTO;
 import dev.naiarievilo.todoapp.todolists.todos.dtos.TodoMapper;
@@ -15,10 +17,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Iterator;
-import java.util.LinkedHashSet;
-import java.util.Set;
+import org.springframework.data.domain.Limit;
 
+import java.util.*;
+
+import static dev.naiarievilo.todoapp.todolists.TodoListsTestHelper.LIST_ID_1;
 import static dev.naiarievilo.todoapp.todolists.todos.TodoServiceTestCases.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -39,6 +42,8 @@ class TodoServiceTest {
 
     @Captor
     private ArgumentCaptor<Todo> todoCaptor;
+    @Captor
+    private ArgumentCaptor<List<Todo>> todosCaptor;
     private TodoDTO newTodoDTO_1;
     private Todo newTodo_1;
     private Todo todo_1;
@@ -81,6 +86,32 @@ class TodoServiceTest {
         assertTrue(parent.getTodos().contains(todo_1));
     }
 
+    @Test
+    @DisplayName("createTodos(): " + CREATES_TODOS_AFTER_LAST_TODO_WHEN_INPUT_VALID)
+    void createTodos_InputValidAndParentList_CreatesTodosAfterLastTodo() {
+        parentList.setId(LIST_ID_1);
+        List<TodoDTO> newTodosDTO = new ArrayList<>(TodosTestHelper.newTodoDTOSet());
+        int existingTodos = 3;
+
+        given(todoRepository.findLastSortKey(LIST_ID_1)).willReturn(existingTodos * TodoService.SORT_KEY_GAP);
+        given(todoRepository.countByListId(LIST_ID_1)).willReturn((long) existingTodos);
+        given(todoMapper.toNewEntity(any(TodoDTO.class))).willAnswer(invocation -> new Todo());
+
+        TodoPage createdTodos = todoService.createTodos(newTodosDTO, parentList);
+        assertEquals(existingTodos, createdTodos.offset());
+
+        verify(todoRepository).persistAll(todosCaptor.capture());
+        List<Todo> persistedTodos = todosCaptor.getValue();
+        assertEquals(createdTodos.todos(), persistedTodos);
+        assertTrue(parentList.getTodos().containsAll(persistedTodos));
+        for (int i = 0; i < persistedTodos.size(); i++) {
+            Todo persistedTodo = persistedTodos.get(i);
+            assertEquals(parentList, persistedTodo.getList());
+            assertEquals(existingTodos + i + 1, persistedTodo.getPosition());
+            assertEquals((existingTodos + i + 1) * TodoService.SORT_KEY_GAP, persistedTodo.getSortKey());
+        }
+    }
+
     @Test
     @DisplayName("updateTodos(): " + THROWS_POSITION_NOT_UNIQUE_WHEN_TODOS_HAVE_SAME_POSITION)
     void updateTodos_PositionNotUniqueInList_ThrowsPositionNotUniqueException() {
@@ -100,7 +131,7 @@ class TodoServiceTest {
             updatedDTOSet.add(updatedTodoDTO);
         }
 
-        Set<Todo> parentTodos = parentList.getTodos();
+        List<Todo> parentTodos = parentList.getTodos();
         assertThrows(PositionNotUniqueException.class,
             () -> todoService.updateTodos(parentTodos, updatedDTOSet));
 
@@ -130,7 +161,7 @@ class TodoServiceTest {
             updatedTodoDTOSet.add(updatedTodoDTO);
         }
 
-        Set<Todo> parentTodos = parentList.getTodos();
+        List<Todo> parentTodos = parentList.getTodos();
         assertThrows(PositionExceedsMaxAllowedException.class,
             () -> todoService.updateTodos(parentTodos, updatedTodoDTOSet));
 
@@ -148,6 +179,114 @@ class TodoServiceTest {
     }
 
 
+    @Test
+    @DisplayName("getTodosPage(): " + RETURNS_FIRST_PAGE_WITH_NEXT_CURSOR_WHEN_MORE_TODOS_EXIST)
+    void getTodosPage_NoCursorAndMoreTodosExist_ReturnsFirstPageWithNextCursor() {
+        Todo todo_2 = TodosTestHelper.todo_2();
+        Todo todo_3 = TodosTestHelper.todo_3();
+        given(todoRepository.findFirstPage(LIST_ID_1, Limit.of(3))).willReturn(List.of(todo_1, todo_2, todo_3));
+
+        TodoPage page = todoService.getTodosPage(LIST_ID_1, 2, null, null);
+        assertEquals(List.of(todo_1, todo_2), page.todos());
+        assertEquals(2, page.size());
+        assertNull(page.previous());
+        assertEquals(TodoCursor.of(todo_2), page.next());
+    }
+
+    @Test
+    @DisplayName("getTodosPage(): " + RETURNS_LAST_PAGE_WITHOUT_NEXT_CURSOR_WHEN_NO_MORE_TODOS_EXIST)
+    void getTodosPage_AfterCursorAndNoMoreTodosExist_ReturnsLastPageWithoutNextCursor() {
+        Todo todo_3 = TodosTestHelper.todo_3();
+        TodoCursor after = TodoCursor.of(TodosTestHelper.todo_2());
+        given(todoRepository.findPageAfter(LIST_ID_1, after.sortKey(), after.id(), Limit.of(3)))
+            .willReturn(List.of(todo_3));
+
+        given(todoRepository.countBefore(LIST_ID_1, todo_3.getSortKey(), todo_3.getId())).willReturn(2L);
+
+        TodoPage page = todoService.getTodosPage(LIST_ID_1, 2, after, null);
+        assertEquals(List.of(todo_3), page.todos());
+        assertEquals(2, page.offset());
+        assertEquals(TodoCursor.of(todo_3), page.previous());
+        assertNull(page.next());
+    }
+
+    @Test
+    @DisplayName("getTodosPage(): " + RETURNS_PREVIOUS_PAGE_IN_ORDER_WHEN_BEFORE_CURSOR_PROVIDED)
+    void getTodosPage_BeforeCursor_ReturnsPreviousPageInOrder() {
+        Todo todo_2 = TodosTestHelper.todo_2();
+        Todo todo_3 = TodosTestHelper.todo_3();
+        TodoCursor before = TodoCursor.of(todo_3);
+        given(todoRepository.findPageBefore(LIST_ID_1, before.sortKey(), before.id(), Limit.of(2)))
+            .willReturn(List.of(todo_2, todo_1));
+
+        TodoPage page = todoService.getTodosPage(LIST_ID_1, 1, null, before);
+        assertEquals(List.of(todo_2), page.todos());
+        assertEquals(TodoCursor.of(todo_2), page.previous());
+        assertEquals(TodoCursor.of(todo_2), page.next());
+    }
+
+    @Test
+    @DisplayName("moveTodos(): " + REWRITES_ONLY_MOVED_TODO_SORT_KEY_WHEN_TODO_MOVED)
+    void moveTodos_LastTodoMovedToFirst_RewritesOnlyMovedTodoSortKey() {
+        Todo todo_2 = TodosTestHelper.todo_2();
+        Todo todo_3 = TodosTestHelper.todo_3();
+        long sortKey_1 = todo_1.getSortKey();
+        long sortKey_2 = todo_2.getSortKey();
+
+        todoService.moveTodos(List.of(todo_1, todo_2, todo_3), Map.of(todo_3.getId(), 1));
+        assertEquals(sortKey_1, todo_1.getSortKey());
+        assertEquals(sortKey_2, todo_2.getSortKey());
+        assertTrue(todo_3.getSortKey() < sortKey_1);
+        assertEquals(1, todo_3.getPosition());
+        assertEquals(2, todo_1.getPosition());
+        assertEquals(3, todo_2.getPosition());
+    }
+
+    @Test
+    @DisplayName("moveTodos(): " + REBALANCES_SORT_KEYS_WHEN_NO_GAP_LEFT_BETWEEN_NEIGHBOURS)
+    void moveTodos_NoGapLeftBetweenNeighbours_RebalancesSortKeys() {
+        Todo todo_2 = TodosTestHelper.todo_2();
+        Todo todo_3 = TodosTestHelper.todo_3();
+        todo_1.setSortKey(1);
+        todo_2.setSortKey(2);
+        todo_3.setSortKey(3);
+
+        todoService.moveTodos(List.of(todo_1, todo_2, todo_3), Map.of(todo_3.getId(), 2));
+        assertEquals(TodoService.SORT_KEY_GAP, todo_1.getSortKey());
+        assertEquals(2 * TodoService.SORT_KEY_GAP, todo_3.getSortKey());
+        assertEquals(3 * TodoService.SORT_KEY_GAP, todo_2.getSortKey());
+        assertEquals(2, todo_3.getPosition());
+    }
+
+    @Test
+    @DisplayName("getTodo(): " + RETURNS_TODO_WITH_POSITION_COUNTED_FROM_SORT_KEY_WHEN_TODO_EXISTS)
+    void getTodo_TodoExists_ReturnsTodoWithPosition() {
+        Long userId = 1L;
+        Long todoId = todo_1.getId();
+        given(todoRepository.findByIdAndListIdAndUserId(todoId, LIST_ID_1, userId)).willReturn(Optional.of(todo_1));
+        given(todoRepository.countBefore(LIST_ID_1, todo_1.getSortKey(), todoId)).willReturn(4L);
+
+        Optional<Todo> todo = todoService.getTodo(userId, LIST_ID_1, todoId);
+        assertTrue(todo.isPresent());
+        assertEquals(5, todo.get().getPosition());
+    }
+
+    @Test
+    @DisplayName("patchTodo(): " + LEAVES_DUE_DATE_WHEN_ABSENT_AND_CLEARS_IT_WHEN_NULL)
+    void patchTodo_DueDateAbsentOrNull_LeavesOrClearsDueDate() throws JsonProcessingException {
+        Long userId = 1L;
+        Long todoId = todo_1.getId();
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        TodoDTO taskPatch = objectMapper.readValue("{\"task\": \"Patched task\"}", TodoDTO.class);
+        TodoDTO dueDatePatch = objectMapper.readValue("{\"due_date\": null}", TodoDTO.class);
+        given(todoRepository.updatePartially(todoId, LIST_ID_1, userId, "Patched task", null, false, null))
+            .willReturn(1);
+        given(todoRepository.updatePartially(todoId, LIST_ID_1, userId, null, null, true, null)).willReturn(1);
+
+        assertTrue(todoService.patchTodo(userId, LIST_ID_1, todoId, taskPatch));
+        assertTrue(todoService.patchTodo(userId, LIST_ID_1, todoId, dueDatePatch));
+    }
+
     @Test
     @DisplayName("deleteTodo(): " + DELETES_TODO_WHEN_TODO_EXISTS)
     void deleteTodo_TodoExists_DeletesTodo() {
@@ -8,10 +8,26 @@ public class TodoServiceTestCases {
         "Adds new todo to parent when new todo DTO is present in the DTO set";
     public static final String CREATES_TODO_WHEN_INPUT_VALID =
         "Creates todo when todo DTO is valid";
+    public static final String CREATES_TODOS_AFTER_LAST_TODO_WHEN_INPUT_VALID =
+        "Creates to-dos after the list's last to-do when todo DTOs are valid";
     public static final String DELETES_TODO_WHEN_TODO_EXISTS =
         "Deletes todo when todo exists";
+    public static final String LEAVES_DUE_DATE_WHEN_ABSENT_AND_CLEARS_IT_WHEN_NULL =
+        "Leaves the due date unchanged when absent from the payload and clears it when given as null";
+    public static final String REBALANCES_SORT_KEYS_WHEN_NO_GAP_LEFT_BETWEEN_NEIGHBOURS =
+        "Rebalances sort keys of the whole list when no key fits between the moved to-do's neighbours";
     public static final String REMOVES_TODO_FROM_PARENT_WHEN_TODO_NOT_IN_DTO_SET =
         "Removes todo from parent when its DTO is not present in the DTO set";
+    public static final String REWRITES_ONLY_MOVED_TODO_SORT_KEY_WHEN_TODO_MOVED =
+        "Rewrites only the moved to-do's sort key when there is room between its new neighbours";
+    public static final String RETURNS_FIRST_PAGE_WITH_NEXT_CURSOR_WHEN_MORE_TODOS_EXIST =
+        "Returns first page with a next cursor when more to-dos exist after it";
+    public static final String RETURNS_LAST_PAGE_WITHOUT_NEXT_CURSOR_WHEN_NO_MORE_TODOS_EXIST =
+        "Returns last page without a next cursor when no more to-dos exist after it";
+    public static final String RETURNS_PREVIOUS_PAGE_IN_ORDER_WHEN_BEFORE_CURSOR_PROVIDED =
+        "Returns previous page in position order when a before cursor is provided";
+    public static final String RETURNS_TODO_WITH_POSITION_COUNTED_FROM_SORT_KEY_WHEN_TODO_EXISTS =
+        "Returns to-do with its position counted from the to-dos sorted before it when to-do exists";
     public static final String RETURNS_TODO_WHEN_TODO_EXISTS =
         "Returns todo when todo exists";
     public static final String THROWS_POSITION_EXCEEDS_MAX_ALLOWED_WHEN_POSITION_IS_GREATER_THAN_LIST_SIZE =
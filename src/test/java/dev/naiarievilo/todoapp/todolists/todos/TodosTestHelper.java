@@ -6,6 +6,8 @@ import java.time.LocalDate;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
+import static dev.naiarievilo.todoapp.todolists.todos.TodoService.SORT_KEY_GAP;
+
 public class TodosTestHelper {
 
     public static final LocalDate NEW_TODO_DUE_DATE = LocalDate.now().plusDays(4);
@@ -61,6 +63,7 @@ public class TodosTestHelper {
         todo.setTask(todoDTO.getTask());
         todo.setCompleted(todoDTO.getCompleted());
         todo.setPosition(todoDTO.getPosition());
+        todo.setSortKey(todoDTO.getPosition() * SORT_KEY_GAP);
         todo.setDueDate(todoDTO.getDueDate());
 
         return todo;
@@ -73,6 +76,7 @@ public class TodosTestHelper {
         todo.setTask(todoDTO.getTask());
         todo.setCompleted(todoDTO.getCompleted());
         todo.setPosition(todoDTO.getPosition());
+        todo.setSortKey(todoDTO.getPosition() * SORT_KEY_GAP);
         todo.setDueDate(todoDTO.getDueDate());
 
         return todo;
@@ -85,6 +89,7 @@ public class TodosTestHelper {
         todo.setTask(todoDTO.getTask());
         todo.setCompleted(todoDTO.getCompleted());
         todo.setPosition(todoDTO.getPosition());
+        todo.setSortKey(todoDTO.getPosition() * SORT_KEY_GAP);
         todo.setDueDate(todoDTO.getDueDate());
 
         return todo;
@@ -124,6 +129,7 @@ public class TodosTestHelper {
         todo.setTask(todoDTO.getTask());
         todo.setCompleted(todoDTO.getCompleted());
         todo.setPosition(todoDTO.getPosition());
+        todo.setSortKey(todoDTO.getPosition() * SORT_KEY_GAP);
         todo.setDueDate(todoDTO.getDueDate());
         return todo;
     }
@@ -134,6 +140,7 @@ public class TodosTestHelper {
         todo.setTask(todoDTO.getTask());
         todo.setCompleted(todoDTO.getCompleted());
         todo.setPosition(todoDTO.getPosition());
+        todo.setSortKey(todoDTO.getPosition() * SORT_KEY_GAP);
         todo.setDueDate(todoDTO.getDueDate());
         return todo;
     }
@@ -144,6 +151,7 @@ public class TodosTestHelper {
         todo.setTask(todoDTO.getTask());
         todo.setCompleted(todoDTO.getCompleted());
         todo.setPosition(todoDTO.getPosition());
+        todo.setSortKey(todoDTO.getPosition() * SORT_KEY_GAP);
         todo.setDueDate(todoDTO.getDueDate());
         return todo;
     }
@@ -0,0 +1,53 @@
+package dev.naiarievilo.todoapp.users;
+
+import dev.naiarievilo.todoapp.users.exceptions.UserNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static dev.naiarievilo.todoapp.users.UsersTestConstants.USER_ID_1;
+import static dev.naiarievilo.todoapp.users.UsersTestConstants.USER_ID_2;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExpiredUserCleanupTest {
+
+    @Mock
+    private UserService userService;
+    private ExpiredUserCleanup expiredUserCleanup;
+
+    @BeforeEach
+    void setUp() {
+        expiredUserCleanup = new ExpiredUserCleanup(userService);
+    }
+
+    @Test
+    @DisplayName("deleteExpiredUsers(): Deletes a user queued many times only once")
+    void deleteExpiredUsers_UserQueuedManyTimes_DeletesUserOnce() {
+        for (int i = 0; i < 3; i++) {
+            expiredUserCleanup.enqueue(USER_ID_1);
+        }
+
+        expiredUserCleanup.deleteExpiredUsers();
+        expiredUserCleanup.deleteExpiredUsers();
+        verify(userService, times(1)).deleteUserIfExpired(USER_ID_1);
+    }
+
+    @Test
+    @DisplayName("deleteExpiredUsers(): Dequeues users that failed to be deleted and goes on with the others")
+    void deleteExpiredUsers_DeletionFails_DeletesOtherUsers() {
+        given(userService.deleteUserIfExpired(USER_ID_1)).willThrow(new UserNotFoundException(USER_ID_1));
+        expiredUserCleanup.enqueue(USER_ID_1);
+        expiredUserCleanup.enqueue(USER_ID_2);
+
+        expiredUserCleanup.deleteExpiredUsers();
+        verify(userService).deleteUserIfExpired(USER_ID_2);
+
+        expiredUserCleanup.deleteExpiredUsers();
+        verify(userService, times(1)).deleteUserIfExpired(USER_ID_1);
+    }
+}
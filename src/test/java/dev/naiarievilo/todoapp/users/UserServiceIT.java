@@ -15,7 +15,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 import static dev.naiarievilo.todoapp.roles.Roles.ROLE_USER;
 import static dev.naiarievilo.todoapp.users.UserServiceTestCases.*;
@@ -237,28 +239,51 @@ class UserServiceIT extends ServiceIntegrationTests {
     }
 
     @Test
-    @DisplayName("addLoginAttempt(): " + ADDS_LOGIN_ATTEMPT_WHEN_USER_NOT_NULL)
-    void addLoginAttempt_UserNotNull_AddsLoginAttempt() {
-        LocalDateTime lastLoginAttempt = LocalDateTime.now();
-        user.setLastLoginAttempt(lastLoginAttempt);
+    @DisplayName("addLoginAttempts(): " + ADDS_LOGIN_ATTEMPTS_WHEN_USER_EXISTS)
+    void addLoginAttempts_UserExists_AddsLoginAttempts() {
+        user.setLoginAttempts((byte) 2);
         userRepository.persist(user);
-        int oldLoginAttempts = user.getLoginAttempts();
+        LocalDateTime lastLoginAttempt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
 
-        userService.addLoginAttempt(user);
+        userService.addLoginAttempts(user.getId(), 3, lastLoginAttempt);
         User updatedUser = userRepository.findById(user.getId()).orElseThrow(UserNotFoundException::new);
-        assertEquals(updatedUser.getLoginAttempts(), oldLoginAttempts + 1);
-        assertTrue(lastLoginAttempt.isBefore(updatedUser.getLastLoginAttempt()));
+        assertEquals(5, updatedUser.getLoginAttempts());
+        assertEquals(lastLoginAttempt, updatedUser.getLastLoginAttempt());
     }
 
     @Test
-    @DisplayName("resetLoginAttempts(): " + RESETS_LOGIN_ATTEMPT_WHEN_USER_NOT_NULL)
-    void resetLoginAttempts_UserNotNull_ResetsLoginAttempts() {
+    @DisplayName("resetLoginAttempts(): " + RESETS_LOGIN_ATTEMPTS_WHEN_USER_EXISTS)
+    void resetLoginAttempts_UserExists_ResetsLoginAttempts() {
         user.setLoginAttempts((byte) 7);
         userRepository.persist(user);
 
-        userService.resetLoginAttempts(user);
+        userService.resetLoginAttempts(user.getId());
         User updatedUser = userRepository.findById(user.getId()).orElseThrow(UserNotFoundException::new);
         assertEquals(0, updatedUser.getLoginAttempts());
+        assertEquals(LocalDate.now(), updatedUser.getLastLogin());
+    }
+
+    @Test
+    @DisplayName("lockUserIfLoginAttemptsReached(): " + DOES_NOT_LOCK_USER_WHEN_LOGIN_ATTEMPTS_NOT_REACHED)
+    void lockUserIfLoginAttemptsReached_LoginAttemptsNotReached_DoesNotLockUser() {
+        user.setLoginAttempts((byte) 9);
+        userRepository.persist(user);
+
+        assertFalse(userService.lockUserIfLoginAttemptsReached(user.getId(), 10));
+        User updatedUser = userRepository.findById(user.getId()).orElseThrow(UserNotFoundException::new);
+        assertFalse(updatedUser.isLocked());
+    }
+
+    @Test
+    @DisplayName("lockUserIfLoginAttemptsReached(): " + LOCKS_USER_WHEN_LOGIN_ATTEMPTS_REACHED)
+    void lockUserIfLoginAttemptsReached_LoginAttemptsReached_LocksUser() {
+        user.setLoginAttempts((byte) 10);
+        userRepository.persist(user);
+
+        assertTrue(userService.lockUserIfLoginAttemptsReached(user.getId(), 10));
+        assertFalse(userService.lockUserIfLoginAttemptsReached(user.getId(), 10));
+        User updatedUser = userRepository.findById(user.getId()).orElseThrow(UserNotFoundException::new);
+        assertTrue(updatedUser.isLocked());
     }
 
 }
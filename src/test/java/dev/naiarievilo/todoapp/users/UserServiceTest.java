@@ -1,7 +1,9 @@
 package dev.naiarievilo.todoapp.users;
 
+import dev.naiarievilo.todoapp.mailing.EmailOutbox;
 import dev.naiarievilo.todoapp.roles.Role;
 import dev.naiarievilo.todoapp.roles.RoleService;
+import dev.naiarievilo.todoapp.security.PrincipalCache;
 import dev.naiarievilo.todoapp.users.dtos.UserCreationDTO;
 import dev.naiarievilo.todoapp.users.exceptions.EmailAlreadyRegisteredException;
 import dev.naiarievilo.todoapp.users.exceptions.UserAlreadyExistsException;
@@ -13,13 +15,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.Set;
 
+import static dev.naiarievilo.todoapp.mailing.EmailType.LOCK_USER;
 import static dev.naiarievilo.todoapp.roles.Roles.ROLE_USER;
 import static dev.naiarievilo.todoapp.users.UserService.EMAIL_CONFIRMATION_PERIOD;
 import static dev.naiarievilo.todoapp.users.UserServiceTestCases.*;
@@ -39,6 +44,12 @@ class UserServiceTest {
     private RoleService roleService;
     @Mock
     private PasswordEncoder passwordEncoder;
+    @Mock
+    private PrincipalCache principalCache;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private EmailOutbox emailOutbox;
     @InjectMocks
     private UserService userService;
 
@@ -248,6 +259,28 @@ class UserServiceTest {
         invokeInOrder.verify(userInfoService).deleteUserInfo(id);
         invokeInOrder.verify(userRepository).delete(userCaptor.capture());
         assertTrue(userCaptor.getValue().getRoles().isEmpty());
+        verify(principalCache).invalidate(id);
+    }
+
+    @Test
+    @DisplayName("deleteUserIfExpired(): " + DOES_NOT_DELETE_USER_WHEN_USER_NOT_EXPIRED)
+    void deleteUserIfExpired_UserNotExpired_DoesNotDeleteUser() {
+        given(userRepository.findByIdEagerly(user.getId())).willReturn(Optional.of(user));
+
+        assertFalse(userService.deleteUserIfExpired(user.getId()));
+        verify(userRepository, never()).delete(any(User.class));
+        verifyNoInteractions(userInfoService);
+    }
+
+    @Test
+    @DisplayName("deleteUserIfExpired(): " + DELETES_USER_WHEN_USER_EXPIRED)
+    void deleteUserIfExpired_UserExpired_DeletesUser() {
+        user.setCreatedAt(LocalDateTime.now().minusDays(EMAIL_CONFIRMATION_PERIOD));
+        given(userRepository.findByIdEagerly(user.getId())).willReturn(Optional.of(user));
+
+        assertTrue(userService.deleteUserIfExpired(user.getId()));
+        verify(userInfoService).deleteUserInfo(user.getId());
+        verify(userRepository).delete(user);
     }
 
     @Test
@@ -280,6 +313,7 @@ class UserServiceTest {
         verify(userRepository).findByEmail(NEW_EMAIL);
         verify(userRepository).update(userCaptor.capture());
         assertEquals(NEW_EMAIL, userCaptor.getValue().getEmail());
+        verify(principalCache).invalidate(user.getId());
 
     }
 
@@ -321,6 +355,7 @@ class UserServiceTest {
         verify(passwordEncoder).matches(PASSWORD_1, currentPassword);
         verify(passwordEncoder).encode(NEW_PASSWORD);
         verify(userRepository).update(user);
+        verify(principalCache).invalidate(user.getId());
     }
 
     @Test
@@ -328,7 +363,7 @@ class UserServiceTest {
     void lockUser_UserAlreadyLocked_DoesNotLockUser() {
         user.setLocked(true);
         userService.lockUser(user);
-        verifyNoInteractions(userRepository);
+        verifyNoInteractions(userRepository, principalCache, emailOutbox);
     }
 
     @Test
@@ -338,6 +373,8 @@ class UserServiceTest {
         assertTrue(updatedUser.isLocked());
         verify(userRepository).update(userCaptor.capture());
         assertTrue(userCaptor.getValue().isLocked());
+        verify(principalCache).invalidate(user.getId());
+        verify(emailOutbox).enqueue(user, LOCK_USER);
     }
 
     @Test
@@ -373,6 +410,7 @@ class UserServiceTest {
         assertFalse(updatedUser.isEnabled());
         verify(userRepository).update(userCaptor.capture());
         assertFalse(userCaptor.getValue().isEnabled());
+        verify(principalCache).invalidate(user.getId());
     }
 
     @Test
@@ -394,27 +432,51 @@ class UserServiceTest {
     }
 
     @Test
-    @DisplayName("addLoginAttempt(): " + ADDS_LOGIN_ATTEMPT_WHEN_USER_NOT_NULL)
-    void addLoginAttempt_UserIsNotNull_AddsLoginAttempt() {
-        int oldLoginAttempts = user.getLoginAttempts();
-        LocalDateTime oldLocalTime = LocalDateTime.now();
-        user.setLastLoginAttempt(oldLocalTime);
+    @DisplayName("addLoginAttempts(): " + ADDS_LOGIN_ATTEMPTS_WHEN_USER_EXISTS)
+    void addLoginAttempts_UserExists_AddsLoginAttempts() {
+        LocalDateTime lastLoginAttempt = LocalDateTime.now();
 
-        userService.addLoginAttempt(user);
-        verify(userRepository).merge(userCaptor.capture());
-        User userCaptured = userCaptor.getValue();
-        assertNotEquals(oldLoginAttempts, userCaptured.getLoginAttempts());
-        assertNotEquals(oldLocalTime, userCaptured.getLastLoginAttempt());
+        userService.addLoginAttempts(user.getId(), 3, lastLoginAttempt);
+        verify(userRepository).addLoginAttempts(user.getId(), 3, lastLoginAttempt);
+    }
+
+    @Test
+    @DisplayName("resetLoginAttempts(): " + RESETS_LOGIN_ATTEMPTS_WHEN_USER_EXISTS)
+    void resetLoginAttempts_UserExists_ResetsLoginAttempts() {
+        userService.resetLoginAttempts(user.getId());
+        verify(userRepository).resetLoginAttempts(user.getId(), LocalDate.now());
+    }
+
+    @Test
+    @DisplayName("lockUserIfLoginAttemptsReached(): " + DOES_NOT_LOCK_USER_WHEN_LOGIN_ATTEMPTS_NOT_REACHED)
+    void lockUserIfLoginAttemptsReached_LoginAttemptsNotReached_DoesNotLockUser() {
+        given(userRepository.lockIfLoginAttemptsReached(user.getId(), 10)).willReturn(0);
+
+        assertFalse(userService.lockUserIfLoginAttemptsReached(user.getId(), 10));
+        verifyNoInteractions(principalCache, eventPublisher, emailOutbox);
+    }
+
+    @Test
+    @DisplayName("lockUserIfLoginAttemptsReached(): " + LOCKS_USER_WHEN_LOGIN_ATTEMPTS_REACHED)
+    void lockUserIfLoginAttemptsReached_LoginAttemptsReached_LocksUser() {
+        given(userRepository.lockIfLoginAttemptsReached(user.getId(), 10)).willReturn(1);
+
+        assertTrue(userService.lockUserIfLoginAttemptsReached(user.getId(), 10));
+        verify(principalCache).invalidate(user.getId());
+        verify(emailOutbox).enqueue(user.getId(), LOCK_USER);
     }
 
     @Test
-    @DisplayName("resetLoginAttempts(): " + RESETS_LOGIN_ATTEMPT_WHEN_USER_NOT_NULL)
-    void resetLoginAttempts_UserIsNotNull_ResetsLoginAttempts() {
-        user.setLoginAttempts((byte) 2);
+    @DisplayName("writeLoginAttempts(): " + WRITES_RESET_BEFORE_FAILURES_WHEN_USER_LOGGED_IN_SINCE)
+    void writeLoginAttempts_UserLoggedInSince_WritesResetBeforeFailures() {
+        LocalDateTime lastFailure = LocalDateTime.now();
+        given(userRepository.lockIfLoginAttemptsReached(user.getId(), 10)).willReturn(0);
 
-        userService.resetLoginAttempts(user);
-        verify(userRepository).merge(userCaptor.capture());
-        assertEquals(0, userCaptor.getValue().getLoginAttempts());
+        assertFalse(userService.writeLoginAttempts(user.getId(), true, 2, lastFailure, 10));
+        InOrder inOrder = inOrder(userRepository);
+        inOrder.verify(userRepository).resetLoginAttempts(user.getId(), LocalDate.now());
+        inOrder.verify(userRepository).addLoginAttempts(user.getId(), 2, lastFailure);
+        inOrder.verify(userRepository).lockIfLoginAttemptsReached(user.getId(), 10);
     }
 
 }
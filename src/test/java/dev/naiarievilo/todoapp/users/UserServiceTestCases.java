@@ -2,22 +2,28 @@ package dev.naiarievilo.todoapp.users;
 
 class UserServiceTestCases {
 
-    static final String ADDS_LOGIN_ATTEMPT_WHEN_USER_NOT_NULL =
-        "adds login attempt when user is not null";
+    static final String ADDS_LOGIN_ATTEMPTS_WHEN_USER_EXISTS =
+        "adds login attempts when user exists";
     static final String AUTHENTICATES_USER_WHEN_USER_NOT_AUTHENTICATED =
         "authenticates user when user is not authenticated";
     static final String CREATES_USER_WHEN_USER_DOES_NOT_EXIST =
         "creates `User` when user does not exist";
     static final String DELETES_USER_WHEN_USER_EXISTS =
         "deletes `User` when user exists";
+    static final String DELETES_USER_WHEN_USER_EXPIRED =
+        "deletes `User` when user is expired";
     static final String DISABLES_USER_WHEN_USER_ENABLED =
         "disables user when user is enabled";
     static final String DOES_NOT_AUTHENTICATE_USER_WHEN_USER_ALREADY_AUTHENTICATED =
         "does not authenticate user when user is already authenticated";
+    static final String DOES_NOT_DELETE_USER_WHEN_USER_NOT_EXPIRED =
+        "does not delete `User` when user is not expired";
     static final String DOES_NOT_DISABLE_USER_WHEN_USER_ALREADY_DISABLED =
         "does not disable user when user already disabled";
     static final String DOES_NOT_ENABLE_USER_WHEN_USER_ALREADY_ENABLED =
         "does not enable user when user is already enabled";
+    static final String DOES_NOT_LOCK_USER_WHEN_LOGIN_ATTEMPTS_NOT_REACHED =
+        "does not lock user when login attempts did not reach the maximum allowed";
     static final String DOES_NOT_LOCK_USER_WHEN_USER_ALREADY_LOCKED =
         "does not lock user when user is already locked";
     static final String DOES_NOT_UNLOCK_USER_WHEN_USER_ALREADY_UNLOCKED =
@@ -28,10 +34,12 @@ class UserServiceTestCases {
         "does not update user's password when new password is equal to current password";
     static final String ENABLES_USER_WHEN_USER_DISABLED =
         "enables user when user is disabled";
+    static final String LOCKS_USER_WHEN_LOGIN_ATTEMPTS_REACHED =
+        "locks user when login attempts reached the maximum allowed";
     static final String LOCKS_USER_WHEN_USER_NOT_LOCKED =
         "locks user when user is not locked";
-    static final String RESETS_LOGIN_ATTEMPT_WHEN_USER_NOT_NULL =
-        "resets login attempt when user is not null";
+    static final String RESETS_LOGIN_ATTEMPTS_WHEN_USER_EXISTS =
+        "resets login attempts when user exists";
     static final String RETURNS_FALSE_WHEN_USER_DOES_NOT_EXIST =
         "returns `false` when user does not exist";
     static final String RETURNS_TRUE_WHEN_USER_EXISTS =
@@ -52,4 +60,6 @@ class UserServiceTestCases {
         "updates user's email when new email is not already registered";
     static final String UPDATES_PASSWORD_WHEN_CURRENT_PASSWORD_CORRECT =
         "updates user's password when current password is correct";
+    static final String WRITES_RESET_BEFORE_FAILURES_WHEN_USER_LOGGED_IN_SINCE =
+        "writes the reset before the failures when user logged in since the last write";
 }